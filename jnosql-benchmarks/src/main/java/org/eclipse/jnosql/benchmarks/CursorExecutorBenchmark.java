@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import jakarta.data.page.CursoredPage;
+import jakarta.data.page.PageRequest;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cursor pagination of {@link DatabaseManager#selectCursor(SelectQuery, PageRequest)}: the condition
+ * built from the cursor keys, the select, and the cursor of the next page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CursorExecutorBenchmark {
+
+    private final DatabaseManager manager = StubDatabaseManager.of(10);
+
+    private final SelectQuery singleSort = SelectQuery.select().from("Person")
+            .orderBy("age").asc().build();
+
+    private final SelectQuery multipleSorts = SelectQuery.select().from("Person")
+            .where("name").eq("Ada")
+            .orderBy("age").asc()
+            .orderBy("city").desc()
+            .orderBy("_id").asc().build();
+
+    private final PageRequest firstPage = PageRequest.ofSize(10);
+
+    private final PageRequest singleKey = PageRequest.ofSize(10).afterCursor(PageRequest.Cursor.forKey(30));
+
+    private final PageRequest multipleKeys = PageRequest.ofSize(10)
+            .afterCursor(PageRequest.Cursor.forKey(30, "Salvador", 5L));
+
+    private final PageRequest previousPage = PageRequest.ofSize(10)
+            .beforeCursor(PageRequest.Cursor.forKey(30, "Salvador", 5L));
+
+    @Benchmark
+    public CursoredPage<CommunicationEntity> firstPage() {
+        return manager.selectCursor(singleSort, firstPage);
+    }
+
+    @Benchmark
+    public CursoredPage<CommunicationEntity> nextPageSingleKey() {
+        return manager.selectCursor(singleSort, singleKey);
+    }
+
+    @Benchmark
+    public CursoredPage<CommunicationEntity> nextPageMultipleKeys() {
+        return manager.selectCursor(multipleSorts, multipleKeys);
+    }
+
+    @Benchmark
+    public CursoredPage<CommunicationEntity> previousPageMultipleKeys() {
+        return manager.selectCursor(multipleSorts, previousPage);
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import jakarta.enterprise.inject.se.SeContainer;
+import org.eclipse.jnosql.benchmarks.entities.Address;
+import org.eclipse.jnosql.benchmarks.entities.Book;
+import org.eclipse.jnosql.benchmarks.entities.Customer;
+import org.eclipse.jnosql.benchmarks.entities.EmailNotification;
+import org.eclipse.jnosql.benchmarks.entities.Person;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.mapping.semistructured.EntityConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link EntityConverter#toCommunication(Object)} and {@link EntityConverter#toEntity(CommunicationEntity)}
+ * for a flat entity, an entity with an embedded field, a record and an entity with inheritance.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityConverterBenchmark {
+
+    private SeContainer container;
+
+    private EntityConverter converter;
+
+    private Person person;
+
+    private Customer customer;
+
+    private Book book;
+
+    private EmailNotification notification;
+
+    private CommunicationEntity personEntity;
+
+    private CommunicationEntity customerEntity;
+
+    private CommunicationEntity bookEntity;
+
+    private CommunicationEntity notificationEntity;
+
+    @Setup
+    public void setUp() {
+        this.container = BenchmarkContainer.start();
+        this.converter = container.select(EntityConverter.class).get();
+
+        this.person = new Person();
+        person.setId(1L);
+        person.setName("Ada");
+        person.setAge(36);
+        person.setCity("London");
+        person.setPhones(List.of("123", "456"));
+
+        Address address = new Address();
+        address.setStreet("Rua Amapa");
+        address.setCity("Salvador");
+        address.setZipCode("40000-000");
+        this.customer = new Customer();
+        customer.setId("customer");
+        customer.setName("Poliana");
+        customer.setAddress(address);
+
+        this.book = new Book("978-0321356680", "Effective Java", "Joshua Bloch", 2);
+
+        this.notification = new EmailNotification();
+        notification.setId(1L);
+        notification.setName("welcome");
+        notification.setEmail("ada@jnosql.org");
+
+        this.personEntity = converter.toCommunication(person);
+        this.customerEntity = converter.toCommunication(customer);
+        this.bookEntity = converter.toCommunication(book);
+        this.notificationEntity = converter.toCommunication(notification);
+    }
+
+    @TearDown
+    public void tearDown() {
+        container.close();
+    }
+
+    @Benchmark
+    public CommunicationEntity toCommunicationFlat() {
+        return converter.toCommunication(person);
+    }
+
+    @Benchmark
+    public CommunicationEntity toCommunicationEmbedded() {
+        return converter.toCommunication(customer);
+    }
+
+    @Benchmark
+    public CommunicationEntity toCommunicationRecord() {
+        return converter.toCommunication(book);
+    }
+
+    @Benchmark
+    public CommunicationEntity toCommunicationInheritance() {
+        return converter.toCommunication(notification);
+    }
+
+    @Benchmark
+    public Person toEntityFlat() {
+        return converter.toEntity(personEntity);
+    }
+
+    @Benchmark
+    public Customer toEntityEmbedded() {
+        return converter.toEntity(customerEntity);
+    }
+
+    @Benchmark
+    public Book toEntityRecord() {
+        return converter.toEntity(bookEntity);
+    }
+
+    @Benchmark
+    public EmailNotification toEntityInheritance() {
+        return converter.toEntity(notificationEntity);
+    }
+}
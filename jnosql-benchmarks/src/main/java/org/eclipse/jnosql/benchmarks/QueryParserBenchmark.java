@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import org.eclipse.jnosql.communication.query.SelectQuery;
+import org.eclipse.jnosql.communication.query.data.SelectProvider;
+import org.eclipse.jnosql.communication.query.method.QueryTokenizer;
+import org.eclipse.jnosql.communication.query.method.SelectMethodQueryProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the parsing of JDQL queries with {@link SelectProvider}, of method-name queries with
+ * {@link SelectMethodQueryProvider}, and the method-name tokenization of {@link QueryTokenizer#of(String)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryParserBenchmark {
+
+    private static final String JDQL = "FROM Person WHERE name = :name AND age > 10 ORDER BY age DESC";
+
+    private static final String METHOD = "findByNameAndAgeGreaterThanOrderByAgeDesc";
+
+    private long sequence;
+
+    @Benchmark
+    public SelectQuery selectProvider() {
+        return new SelectProvider().apply(JDQL, "Person");
+    }
+
+    @Benchmark
+    public SelectQuery selectMethodQueryProvider() {
+        return new SelectMethodQueryProvider().apply(METHOD, "Person");
+    }
+
+    @Benchmark
+    public QueryTokenizer queryTokenizer() {
+        return QueryTokenizer.of(METHOD);
+    }
+
+    @Benchmark
+    public QueryTokenizer queryTokenizerUncached() {
+        return QueryTokenizer.of("findByName" + (sequence++) + "AndAgeGreaterThanOrderByAgeDesc");
+    }
+}
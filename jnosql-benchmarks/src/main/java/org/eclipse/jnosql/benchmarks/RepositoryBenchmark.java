@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import jakarta.enterprise.inject.se.SeContainer;
+import org.eclipse.jnosql.benchmarks.entities.Person;
+import org.eclipse.jnosql.benchmarks.entities.PersonRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the full repository proxy dispatch, from the method call to the mapped result, against the
+ * in-process {@link StubDatabaseManager}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RepositoryBenchmark {
+
+    private SeContainer container;
+
+    private PersonRepository repository;
+
+    private Person person;
+
+    @Setup
+    public void setUp() {
+        this.container = BenchmarkContainer.start();
+        this.repository = container.select(PersonRepository.class).get();
+        this.person = new Person();
+        person.setId(1L);
+        person.setName("Ada");
+        person.setAge(36);
+        person.setCity("London");
+        person.setPhones(List.of("123", "456"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        container.close();
+    }
+
+    @Benchmark
+    public Optional<Person> findById() {
+        return repository.findById(1L);
+    }
+
+    @Benchmark
+    public Person save() {
+        return repository.save(person);
+    }
+
+    @Benchmark
+    public List<Person> findAll() {
+        return repository.findAll().toList();
+    }
+
+    @Benchmark
+    public List<Person> methodQuery() {
+        return repository.findByNameAndAge("Ada", 20);
+    }
+
+    @Benchmark
+    public List<Person> findAnnotation() {
+        return repository.city("Salvador");
+    }
+
+    @Benchmark
+    public List<Person> queryAnnotation() {
+        return repository.query("Ada");
+    }
+}
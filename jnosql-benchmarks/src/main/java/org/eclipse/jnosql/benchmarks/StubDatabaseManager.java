@@ -0,0 +1,126 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * An in-process {@link DatabaseManager} that answers every select with a fixed set of entities, filtered only by
+ * an id equality, so the benchmarks measure the mapping layer instead of a database driver.
+ */
+public final class StubDatabaseManager implements DatabaseManager {
+
+    private static final String ID = "_id";
+
+    private final Map<String, List<CommunicationEntity>> entities;
+
+    StubDatabaseManager(Map<String, List<CommunicationEntity>> entities) {
+        this.entities = entities;
+    }
+
+    @Override
+    public String name() {
+        return "benchmark";
+    }
+
+    @Override
+    public CommunicationEntity insert(CommunicationEntity entity) {
+        return entity;
+    }
+
+    @Override
+    public CommunicationEntity insert(CommunicationEntity entity, Duration ttl) {
+        return entity;
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities) {
+        return entities;
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities, Duration ttl) {
+        return entities;
+    }
+
+    @Override
+    public CommunicationEntity update(CommunicationEntity entity) {
+        return entity;
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> update(Iterable<CommunicationEntity> entities) {
+        return entities;
+    }
+
+    @Override
+    public void delete(DeleteQuery query) {
+    }
+
+    @Override
+    public Stream<CommunicationEntity> select(SelectQuery query) {
+        Stream<CommunicationEntity> result = entities.getOrDefault(query.name(), List.of()).stream();
+        var id = query.condition()
+                .filter(c -> Condition.EQUALS.equals(c.condition()) && ID.equals(c.element().name()))
+                .map(c -> c.element().get());
+        if (id.isPresent()) {
+            result = result.filter(e -> e.find(ID).map(Element::get).filter(id.get()::equals).isPresent());
+        }
+        if (query.limit() > 0) {
+            return result.limit(query.limit());
+        }
+        return result;
+    }
+
+    @Override
+    public long count(String entity) {
+        return entities.getOrDefault(entity, List.of()).size();
+    }
+
+    @Override
+    public void close() {
+    }
+
+    /**
+     * Creates a manager with the given number of Person entities.
+     *
+     * @param size the number of entities returned by each select
+     * @return a {@link StubDatabaseManager} instance
+     */
+    public static StubDatabaseManager of(int size) {
+        List<CommunicationEntity> people = new ArrayList<>(size);
+        for (long index = 0; index < size; index++) {
+            CommunicationEntity entity = CommunicationEntity.of("Person");
+            entity.add(Element.of(ID, index));
+            entity.add(Element.of("name", "Ada"));
+            entity.add(Element.of("age", 20 + (int) (index % 50)));
+            entity.add(Element.of("city", "Salvador"));
+            entity.add(Element.of("phones", List.of("123", "456")));
+            people.add(entity);
+        }
+        return new StubDatabaseManager(Map.of("Person", people));
+    }
+}
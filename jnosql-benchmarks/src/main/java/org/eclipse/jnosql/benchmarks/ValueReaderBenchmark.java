@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import org.eclipse.jnosql.communication.ValueReader;
+import org.eclipse.jnosql.communication.ValueReaderDecorator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link ValueReaderDecorator#read(Class, Object)} dispatch for the common conversions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueReaderBenchmark {
+
+    private final ValueReader reader = ValueReaderDecorator.getInstance();
+
+    @Benchmark
+    public String sameType() {
+        return reader.read(String.class, "Ada");
+    }
+
+    @Benchmark
+    public Integer stringToInteger() {
+        return reader.read(Integer.class, "10");
+    }
+
+    @Benchmark
+    public Long integerToLong() {
+        return reader.read(Long.class, 10);
+    }
+
+    @Benchmark
+    public String integerToString() {
+        return reader.read(String.class, 10);
+    }
+
+    @Benchmark
+    public BigDecimal stringToBigDecimal() {
+        return reader.read(BigDecimal.class, "10.5");
+    }
+
+    @Benchmark
+    public LocalDate stringToLocalDate() {
+        return reader.read(LocalDate.class, "2024-01-01");
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * The default {@link Executor} of the asynchronous managers and templates, which run the blocking operations of
+ * the synchronous ones on it. It is a fixed pool whose number of threads is defined by the {@value #POOL_SIZE}
+ * property, two per available processor by default, so the number of operations running at once on the database
+ * is bounded and the other ones wait in the queue of the pool. The threads are virtual when the runtime supports
+ * virtual threads, and daemon platform threads otherwise.
+ */
+public enum AsyncExecutor implements Supplier<Executor> {
+
+    INSTANCE;
+
+    /**
+     * The property that defines the number of threads of the default executor, read from MicroProfile Config or,
+     * without it, from the system properties.
+     */
+    public static final String POOL_SIZE = "jnosql.async.pool.size";
+
+    private final Executor executor = Executors.newFixedThreadPool(poolSize(), threadFactory());
+
+    /**
+     * Returns the default executor.
+     *
+     * @return the default executor
+     */
+    @Override
+    public Executor get() {
+        return executor;
+    }
+
+    static int poolSize() {
+        int defaultSize = 2 * Runtime.getRuntime().availableProcessors();
+        int size;
+        try {
+            size = ConfigProvider.getConfig().getOptionalValue(POOL_SIZE, Integer.class).orElse(defaultSize);
+        } catch (IllegalStateException | NoClassDefFoundError exception) {
+            size = Integer.getInteger(POOL_SIZE, defaultSize);
+        }
+        if (size < 1) {
+            throw new CommunicationException("The " + POOL_SIZE + " property must be greater than zero: " + size);
+        }
+        return size;
+    }
+
+    private static ThreadFactory threadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException exception) {
+            return new DaemonThreadFactory();
+        }
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "jnosql-async-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
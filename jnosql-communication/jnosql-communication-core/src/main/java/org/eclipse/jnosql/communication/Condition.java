@@ -69,7 +69,17 @@ public enum Condition {
     /**
      * Represents a range check condition.
      */
-    BETWEEN;
+    BETWEEN,
+    /**
+     * Represents a row-value comparison condition, where an ordered list of elements is greater than the
+     * values in the lexicographic order, such as {@code (a, b, c) > (x, y, z)}.
+     */
+    GREATER_THAN_TUPLE,
+    /**
+     * Represents a row-value comparison condition, where an ordered list of elements is lesser than the
+     * values in the lexicographic order, such as {@code (a, b, c) < (x, y, z)}.
+     */
+    LESSER_THAN_TUPLE;
 
     /**
      * Return tne field as name to both document and column.
@@ -0,0 +1,172 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A {@link Flow.Publisher} that emits the elements of a {@link Stream} under demand. Each subscription opens its
+ * own stream from the supplier on the first request, reads only as many elements as were requested, and closes
+ * the stream when it is exhausted, fails, or the subscription is cancelled. The elements are emitted on the
+ * thread that requests them.
+ *
+ * @param <T> the element type
+ */
+public final class StreamPublisher<T> implements Flow.Publisher<T> {
+
+    private final Supplier<? extends Stream<? extends T>> supplier;
+
+    private StreamPublisher(Supplier<? extends Stream<? extends T>> supplier) {
+        this.supplier = supplier;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber is required");
+        subscriber.onSubscribe(new StreamSubscription<>(subscriber, supplier));
+    }
+
+    /**
+     * Creates a {@link Flow.Publisher} from the stream supplier, which is called once per subscription.
+     *
+     * @param supplier the stream supplier
+     * @param <T>      the element type
+     * @return a {@link Flow.Publisher} instance
+     * @throws NullPointerException when the supplier is null
+     */
+    public static <T> Flow.Publisher<T> of(Supplier<? extends Stream<? extends T>> supplier) {
+        Objects.requireNonNull(supplier, "supplier is required");
+        return new StreamPublisher<>(supplier);
+    }
+
+    private static final class StreamSubscription<T> implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super T> subscriber;
+
+        private final Supplier<? extends Stream<? extends T>> supplier;
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private final AtomicInteger work = new AtomicInteger();
+
+        private volatile boolean cancelled;
+
+        private volatile IllegalArgumentException invalidRequest;
+
+        private boolean done;
+
+        private Stream<? extends T> stream;
+
+        private Iterator<? extends T> iterator;
+
+        private StreamSubscription(Flow.Subscriber<? super T> subscriber, Supplier<? extends Stream<? extends T>> supplier) {
+            this.subscriber = subscriber;
+            this.supplier = supplier;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("The number of requested elements must be positive: " + n);
+            } else {
+                requested.accumulateAndGet(n, (current, increment) -> {
+                    long total = current + increment;
+                    return total < 0 ? Long.MAX_VALUE : total;
+                });
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        /**
+         * Serializes the emissions: a request or cancel made while another thread, or the subscriber itself,
+         * is emitting only adds a pass to the running loop.
+         */
+        private void drain() {
+            if (work.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                emit();
+                missed = work.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            if (done) {
+                return;
+            }
+            if (cancelled) {
+                finish();
+                return;
+            }
+            if (invalidRequest != null) {
+                finish();
+                subscriber.onError(invalidRequest);
+                return;
+            }
+            long demand = requested.get();
+            if (demand == 0) {
+                return;
+            }
+            long emitted = 0;
+            try {
+                if (iterator == null) {
+                    stream = supplier.get();
+                    iterator = stream.iterator();
+                }
+                while (emitted != demand) {
+                    if (cancelled) {
+                        finish();
+                        return;
+                    }
+                    if (!iterator.hasNext()) {
+                        finish();
+                        subscriber.onComplete();
+                        return;
+                    }
+                    subscriber.onNext(iterator.next());
+                    emitted++;
+                }
+            } catch (RuntimeException exception) {
+                finish();
+                subscriber.onError(exception);
+                return;
+            }
+            if (demand != Long.MAX_VALUE) {
+                requested.addAndGet(-emitted);
+            }
+        }
+
+        private void finish() {
+            done = true;
+            if (stream != null) {
+                stream.close();
+            }
+        }
+    }
+}
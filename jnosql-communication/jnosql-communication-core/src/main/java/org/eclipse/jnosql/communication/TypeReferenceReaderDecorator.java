@@ -17,12 +17,16 @@
 package org.eclipse.jnosql.communication;
 
 
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Decorators of all {@link TypeReferenceReader}
+ * Decorators of all {@link TypeReferenceReader}.
+ * The reader of each {@link Type} is resolved once and kept, including the types that no reader supports.
  *
  * @see ValueReader
  */
@@ -32,6 +36,8 @@ public final class TypeReferenceReaderDecorator implements TypeReferenceReader {
 
     private final List<TypeReferenceReader> readers = new ArrayList<>();
 
+    private final Map<Type, TypeReferenceReader> dispatch = new ConcurrentHashMap<>();
+
     {
         ServiceLoader.load(TypeReferenceReader.class).stream()
                 .map(ServiceLoader.Provider::get)
@@ -44,15 +50,29 @@ public final class TypeReferenceReaderDecorator implements TypeReferenceReader {
 
     @Override
     public boolean test(TypeSupplier type) {
-        return readers.stream().anyMatch(r -> r.test(type));
+        return reader(type) != UnsupportedReader.INSTANCE;
     }
 
     @Override
     public <T> T convert(TypeSupplier<T> typeReference, Object value) {
+        return reader(typeReference).convert(typeReference, value);
+    }
+
+    private TypeReferenceReader reader(TypeSupplier<?> typeReference) {
+        Type type = typeReference.get();
+        if (type == null) {
+            return find(typeReference);
+        }
+        TypeReferenceReader reader = dispatch.get(type);
+        if (reader == null) {
+            reader = find(typeReference);
+            dispatch.putIfAbsent(type, reader);
+        }
+        return reader;
+    }
 
-        TypeReferenceReader valueReader = readers.stream().filter(r -> r.test(typeReference)).findFirst().
-                orElseThrow(() -> new UnsupportedOperationException("The type " + typeReference + " is not supported yet"));
-        return valueReader.convert(typeReference, value);
+    private TypeReferenceReader find(TypeSupplier<?> typeReference) {
+        return readers.stream().filter(r -> r.test(typeReference)).findFirst().orElse(UnsupportedReader.INSTANCE);
     }
 
     @Override
@@ -61,5 +81,17 @@ public final class TypeReferenceReaderDecorator implements TypeReferenceReader {
                 '}';
     }
 
+    private enum UnsupportedReader implements TypeReferenceReader {
+        INSTANCE;
+
+        @Override
+        public boolean test(TypeSupplier<?> typeReference) {
+            return false;
+        }
 
+        @Override
+        public <T> T convert(TypeSupplier<T> typeReference, Object value) {
+            throw new UnsupportedOperationException("The type " + typeReference + " is not supported yet");
+        }
+    }
 }
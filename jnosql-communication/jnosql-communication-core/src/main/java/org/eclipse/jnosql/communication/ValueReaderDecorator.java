@@ -19,10 +19,13 @@ package org.eclipse.jnosql.communication;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
 
 /**
- * Decorators of all {@link ValueReader} supported by Jakarta NoSQL
+ * Decorators of all {@link ValueReader} supported by Jakarta NoSQL.
+ * The reader of each target type is resolved once and kept in a {@link ClassValue},
+ * including the types that no reader supports.
  *
  * @see ValueReader
  */
@@ -30,8 +33,19 @@ public final class ValueReaderDecorator implements ValueReader {
 
     private static final ValueReaderDecorator INSTANCE = new ValueReaderDecorator();
 
+    private static final Map<Class<?>, Class<?>> WRAPPERS = Map.of(boolean.class, Boolean.class,
+            byte.class, Byte.class, char.class, Character.class, short.class, Short.class,
+            int.class, Integer.class, long.class, Long.class, float.class, Float.class, double.class, Double.class);
+
     private final List<ValueReader> readers = new ArrayList<>();
 
+    private final ClassValue<ValueReader> dispatch = new ClassValue<>() {
+        @Override
+        protected ValueReader computeValue(Class<?> type) {
+            return readers.stream().filter(r -> r.test(type)).findFirst().orElse(UnsupportedReader.INSTANCE);
+        }
+    };
+
     {
         ServiceLoader.load(ValueReader.class).stream()
                 .map(ServiceLoader.Provider::get)
@@ -44,17 +58,19 @@ public final class ValueReaderDecorator implements ValueReader {
 
     @Override
     public boolean test(Class type) {
-        return readers.stream().anyMatch(r -> r.test(type));
+        return dispatch.get(type) != UnsupportedReader.INSTANCE;
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <T> T read(Class<T> type, Object value) {
         if (type.isInstance(value)) {
             return type.cast(value);
         }
-        ValueReader valueReader = readers.stream().filter(r -> r.test(type)).findFirst().orElseThrow(
-                () -> new UnsupportedOperationException("The type " + type + " is not supported yet"));
-        return valueReader.read(type, value);
+        if (type.isPrimitive() && value != null && WRAPPERS.get(type) == value.getClass()) {
+            return (T) value;
+        }
+        return dispatch.get(type).read(type, value);
     }
 
     @Override
@@ -63,5 +79,17 @@ public final class ValueReaderDecorator implements ValueReader {
                 '}';
     }
 
+    private enum UnsupportedReader implements ValueReader {
+        INSTANCE;
 
+        @Override
+        public boolean test(Class<?> type) {
+            return false;
+        }
+
+        @Override
+        public <T> T read(Class<T> type, Object value) {
+            throw new UnsupportedOperationException("The type " + type + " is not supported yet");
+        }
+    }
 }
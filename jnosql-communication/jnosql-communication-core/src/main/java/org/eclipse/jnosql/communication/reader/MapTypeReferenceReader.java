@@ -135,22 +135,17 @@ public class MapTypeReferenceReader implements TypeReferenceReader {
     }
 
     private <K> Function mapKeyElement(Class<K> keyClass) {
-        return (keyElement) -> {
-            if (SERVICE_PROVIDER.test(keyClass)) {
-                return SERVICE_PROVIDER.read(keyClass, keyElement);
-            }
-            return keyElement;
-        };
+        if (SERVICE_PROVIDER.test(keyClass)) {
+            return keyElement -> SERVICE_PROVIDER.read(keyClass, keyElement);
+        }
+        return Function.identity();
     }
 
     private <V> Function mapValueElement(Class<V> valueClass, Map mapValue) {
-        return (keyElement) -> {
-            Object valueElement = mapValue.get(keyElement);
-            if (SERVICE_PROVIDER.test(valueClass)) {
-                return SERVICE_PROVIDER.read(valueClass, valueElement);
-            }
-            return valueElement;
-        };
+        if (SERVICE_PROVIDER.test(valueClass)) {
+            return keyElement -> SERVICE_PROVIDER.read(valueClass, mapValue.get(keyElement));
+        }
+        return mapValue::get;
     }
 
 
@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncExecutorTest {
+
+    @Test
+    void shouldReturnTheSameExecutor() {
+        assertThat(AsyncExecutor.INSTANCE.get()).isNotNull().isSameAs(AsyncExecutor.INSTANCE.get());
+    }
+
+    @Test
+    void shouldRunOutOfTheCallerThread() throws Exception {
+        Thread caller = Thread.currentThread();
+        Thread thread = CompletableFuture.supplyAsync(Thread::currentThread, AsyncExecutor.INSTANCE.get())
+                .get(10, TimeUnit.SECONDS);
+
+        assertThat(thread).isNotSameAs(caller);
+        assertThat(thread.isDaemon()).isTrue();
+    }
+
+    @Test
+    void shouldBoundTheThreadsByThePoolSize() {
+        assertThat(AsyncExecutor.INSTANCE.get()).isInstanceOf(ThreadPoolExecutor.class);
+        var executor = (ThreadPoolExecutor) AsyncExecutor.INSTANCE.get();
+
+        assertThat(executor.getMaximumPoolSize()).isEqualTo(AsyncExecutor.poolSize())
+                .isEqualTo(2 * Runtime.getRuntime().availableProcessors());
+    }
+
+    @Test
+    void shouldReadThePoolSizeFromTheProperty() {
+        System.setProperty(AsyncExecutor.POOL_SIZE, "3");
+        try {
+            assertThat(AsyncExecutor.poolSize()).isEqualTo(3);
+        } finally {
+            System.clearProperty(AsyncExecutor.POOL_SIZE);
+        }
+    }
+
+    @Test
+    void shouldReturnErrorWhenThePoolSizeIsNotPositive() {
+        System.setProperty(AsyncExecutor.POOL_SIZE, "0");
+        try {
+            assertThatThrownBy(AsyncExecutor::poolSize).isInstanceOf(CommunicationException.class);
+        } finally {
+            System.clearProperty(AsyncExecutor.POOL_SIZE);
+        }
+    }
+}
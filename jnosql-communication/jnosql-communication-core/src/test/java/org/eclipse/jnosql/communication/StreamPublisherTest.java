@@ -0,0 +1,225 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StreamPublisherTest {
+
+    @Test
+    void shouldReturnErrorWhenSupplierIsNull() {
+        assertThatThrownBy(() -> StreamPublisher.of(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldReturnErrorWhenSubscriberIsNull() {
+        var publisher = StreamPublisher.of(Stream::empty);
+        assertThatThrownBy(() -> publisher.subscribe(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldNotOpenTheStreamBeforeTheDemand() {
+        var opened = new AtomicInteger();
+        var publisher = StreamPublisher.of(() -> {
+            opened.incrementAndGet();
+            return Stream.of(1, 2, 3);
+        });
+        var subscriber = new RecordSubscriber<Integer>();
+        publisher.subscribe(subscriber);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(opened).hasValue(0);
+            soft.assertThat(subscriber.items).isEmpty();
+            soft.assertThat(subscriber.completed).isFalse();
+        });
+    }
+
+    @Test
+    void shouldEmitUnderDemand() {
+        var publisher = StreamPublisher.of(() -> IntStream.range(0, 5).boxed());
+        var subscriber = new RecordSubscriber<Integer>();
+        publisher.subscribe(subscriber);
+
+        subscriber.subscription.request(2);
+        assertThat(subscriber.items).containsExactly(0, 1);
+        assertThat(subscriber.completed).isFalse();
+
+        subscriber.subscription.request(2);
+        assertThat(subscriber.items).containsExactly(0, 1, 2, 3);
+        assertThat(subscriber.completed).isFalse();
+
+        subscriber.subscription.request(2);
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(subscriber.items).containsExactly(0, 1, 2, 3, 4);
+            soft.assertThat(subscriber.completed).isTrue();
+            soft.assertThat(subscriber.error).isNull();
+        });
+    }
+
+    @Test
+    void shouldEmitAllWhenTheDemandIsUnbounded() {
+        var closed = new AtomicBoolean();
+        var publisher = StreamPublisher.of(() -> Stream.of("Ada", "Poliana").onClose(() -> closed.set(true)));
+        var subscriber = new RecordSubscriber<String>();
+        publisher.subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(subscriber.items).containsExactly("Ada", "Poliana");
+            soft.assertThat(subscriber.completed).isTrue();
+            soft.assertThat(closed).isTrue();
+        });
+    }
+
+    @Test
+    void shouldRequestFromTheSubscriberCallback() {
+        var publisher = StreamPublisher.of(() -> IntStream.range(0, 100).boxed());
+        var subscriber = new RecordSubscriber<Integer>() {
+            @Override
+            public void onNext(Integer item) {
+                super.onNext(item);
+                subscription.request(1);
+            }
+        };
+        publisher.subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(subscriber.items).hasSize(100);
+            soft.assertThat(subscriber.completed).isTrue();
+        });
+    }
+
+    @Test
+    void shouldCloseTheStreamWhenCancelled() {
+        var closed = new AtomicBoolean();
+        var publisher = StreamPublisher.of(() -> IntStream.range(0, 5).boxed().onClose(() -> closed.set(true)));
+        var subscriber = new RecordSubscriber<Integer>();
+        publisher.subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(10);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(subscriber.items).containsExactly(0);
+            soft.assertThat(subscriber.completed).isFalse();
+            soft.assertThat(closed).isTrue();
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenTheRequestIsNotPositive() {
+        var publisher = StreamPublisher.of(() -> Stream.of(1));
+        var subscriber = new RecordSubscriber<Integer>();
+        publisher.subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(subscriber.items).isEmpty();
+            soft.assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenTheStreamFails() {
+        var closed = new AtomicBoolean();
+        var publisher = StreamPublisher.of(() -> Stream.of(1, 2).map(i -> {
+            if (i == 2) {
+                throw new IllegalStateException("error");
+            }
+            return i;
+        }).onClose(() -> closed.set(true)));
+        var subscriber = new RecordSubscriber<Integer>();
+        publisher.subscribe(subscriber);
+
+        subscriber.subscription.request(10);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(subscriber.items).containsExactly(1);
+            soft.assertThat(subscriber.error).isInstanceOf(IllegalStateException.class);
+            soft.assertThat(subscriber.completed).isFalse();
+            soft.assertThat(closed).isTrue();
+        });
+    }
+
+    @Test
+    void shouldOpenAStreamPerSubscription() {
+        var opened = new AtomicInteger();
+        var publisher = StreamPublisher.of(() -> {
+            opened.incrementAndGet();
+            return Stream.of(1);
+        });
+        var first = new RecordSubscriber<Integer>();
+        var second = new RecordSubscriber<Integer>();
+        publisher.subscribe(first);
+        publisher.subscribe(second);
+
+        first.subscription.request(1);
+        second.subscription.request(1);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(opened).hasValue(2);
+            soft.assertThat(first.items).containsExactly(1);
+            soft.assertThat(second.items).containsExactly(1);
+        });
+    }
+
+    static class RecordSubscriber<T> implements Flow.Subscriber<T> {
+
+        final List<T> items = new ArrayList<>();
+
+        Flow.Subscription subscription;
+
+        Throwable error;
+
+        boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TypeReferenceReaderDecoratorTest {
+
+    private final TypeReferenceReaderDecorator reader = TypeReferenceReaderDecorator.getInstance();
+
+    @Test
+    @DisplayName("Should convert with the reader of the type")
+    void shouldConvert() {
+        List<Integer> first = reader.convert(new TypeReference<List<Integer>>() {}, List.of("1", "2"));
+        List<Integer> second = reader.convert(new TypeReference<List<Integer>>() {}, List.of("3"));
+        Set<String> set = reader.convert(new TypeReference<Set<String>>() {}, List.of("a"));
+
+        assertThat(first).containsExactly(1, 2);
+        assertThat(second).containsExactly(3);
+        assertThat(set).containsExactly("a");
+    }
+
+    @Test
+    @DisplayName("Should convert the map keys and values")
+    void shouldConvertMap() {
+        Map<String, Integer> map = reader.convert(new TypeReference<Map<String, Integer>>() {}, Map.of("one", "1"));
+        assertThat(map).containsEntry("one", 1);
+    }
+
+    @Test
+    @DisplayName("Should check for compatibility")
+    void shouldTest() {
+        assertThat(reader.test(new TypeReference<List<String>>() {})).isTrue();
+        assertThat(reader.test(new TypeReference<List<String>>() {})).isTrue();
+        assertThat(reader.test(new TypeReference<Comparable<String>>() {})).isFalse();
+        assertThat(reader.test(new TypeReference<Comparable<String>>() {})).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should throw UnsupportedOperationException when the type is not supported")
+    void shouldReturnErrorWhenTypeIsNotSupported() {
+        assertThatThrownBy(() -> reader.convert(new TypeReference<Comparable<String>>() {}, "value"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Should not support a type supplier without type")
+    void shouldNotSupportNullType() {
+        TypeSupplier<String> supplier = () -> null;
+        assertThat(reader.test(supplier)).isFalse();
+    }
+}
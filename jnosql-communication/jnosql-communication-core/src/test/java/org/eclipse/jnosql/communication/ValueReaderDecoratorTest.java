@@ -63,6 +63,26 @@ class ValueReaderDecoratorTest {
         assertFalse(serviceLoader.test(Bean.class));
     }
 
+    @Test
+    @DisplayName("Should return the wrapper value when the type is primitive")
+    void shouldReturnWrapperWhenTypeIsPrimitive() {
+        Integer value = 10;
+        assertThat(serviceLoader.read(int.class, value)).isSameAs(value);
+        assertThat(serviceLoader.read(long.class, 10)).isEqualTo(10L);
+        assertThat(serviceLoader.read(boolean.class, Boolean.TRUE)).isEqualTo(Boolean.TRUE);
+    }
+
+    @Test
+    @DisplayName("Should keep the result of the type resolution")
+    void shouldKeepTheResolution() {
+        assertThat(serviceLoader.test(Bean.class)).isFalse();
+        assertThat(serviceLoader.test(Bean.class)).isFalse();
+        assertThatThrownBy(() -> serviceLoader.read(Bean.class, "name"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(serviceLoader.read(Integer.class, "10")).isEqualTo(10);
+        assertThat(serviceLoader.read(Integer.class, "20")).isEqualTo(20);
+    }
+
     static class Bean {
         Bean() {
         }
@@ -0,0 +1,165 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import org.eclipse.jnosql.communication.AsyncExecutor;
+import org.eclipse.jnosql.communication.Value;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * The asynchronous counterpart of the {@link BucketManager}, where each operation returns a
+ * {@link CompletionStage} instead of blocking the caller, so independent operations can run concurrently.
+ *
+ * @see BucketManager
+ */
+public interface AsyncBucketManager {
+
+    /**
+     * Returns the bucket name of this manager
+     *
+     * @return the bucket name
+     */
+    String name();
+
+    /**
+     * Associates the specified value with the specified key asynchronously.
+     *
+     * @param key   the key
+     * @param value the value
+     * @param <K>   the key type
+     * @param <V>   the value type
+     * @return the stage completed when the value is stored
+     * @throws NullPointerException when either key or value are null
+     * @see BucketManager#put(Object, Object)
+     */
+    <K, V> CompletionStage<Void> put(K key, V value);
+
+    /**
+     * Saves the {@link KeyValueEntity} asynchronously.
+     *
+     * @param entity the entity to be stored
+     * @return the stage completed when the entity is stored
+     * @throws NullPointerException when the entity is null
+     * @see BucketManager#put(KeyValueEntity)
+     */
+    CompletionStage<Void> put(KeyValueEntity entity);
+
+    /**
+     * Saves the {@link KeyValueEntity} with time to live asynchronously.
+     *
+     * @param entity the entity to be stored
+     * @param ttl    the time to live
+     * @return the stage completed when the entity is stored
+     * @throws NullPointerException when either the entity or the ttl is null
+     * @see BucketManager#put(KeyValueEntity, Duration)
+     */
+    CompletionStage<Void> put(KeyValueEntity entity, Duration ttl);
+
+    /**
+     * Saves the {@link Iterable} of keys asynchronously.
+     *
+     * @param entities the keys to be stored
+     * @return the stage completed when the entities are stored
+     * @throws NullPointerException when the entities are null
+     * @see BucketManager#put(Iterable)
+     */
+    CompletionStage<Void> put(Iterable<KeyValueEntity> entities);
+
+    /**
+     * Saves the {@link Iterable} of keys with time to live asynchronously.
+     *
+     * @param entities the keys to be stored
+     * @param ttl      the time to live
+     * @return the stage completed when the entities are stored
+     * @throws NullPointerException when either the entities or the ttl is null
+     * @see BucketManager#put(Iterable, Duration)
+     */
+    CompletionStage<Void> put(Iterable<KeyValueEntity> entities, Duration ttl);
+
+    /**
+     * Finds the Value from a key asynchronously.
+     *
+     * @param key the key
+     * @param <K> the key type
+     * @return the stage completed with the value, or {@link Optional#empty()} when it is not found
+     * @throws NullPointerException when the key is null
+     * @see BucketManager#get(Object)
+     */
+    <K> CompletionStage<Optional<Value>> get(K key);
+
+    /**
+     * Finds the values from keys asynchronously.
+     *
+     * @param keys the keys to be used in this query
+     * @param <K>  the key type
+     * @return the stage completed with the values found
+     * @throws NullPointerException when the keys are null
+     * @see BucketManager#get(Iterable)
+     */
+    <K> CompletionStage<Iterable<Value>> get(Iterable<K> keys);
+
+    /**
+     * Removes an entity from key asynchronously.
+     *
+     * @param key the key bo be used
+     * @param <K> the key type
+     * @return the stage completed when the entity is removed
+     * @throws NullPointerException when the key is null
+     * @see BucketManager#delete(Object)
+     */
+    <K> CompletionStage<Void> delete(K key);
+
+    /**
+     * Removes entities from keys asynchronously.
+     *
+     * @param keys the keys to be used
+     * @param <K>  the key type
+     * @return the stage completed when the entities are removed
+     * @throws NullPointerException when the keys are null
+     * @see BucketManager#delete(Iterable)
+     */
+    <K> CompletionStage<Void> delete(Iterable<K> keys);
+
+    /**
+     * Creates an {@link AsyncBucketManager} that runs the operations of the manager on the default
+     * {@link AsyncExecutor}.
+     *
+     * @param manager the synchronous manager
+     * @return an {@link AsyncBucketManager} instance
+     * @throws NullPointerException when the manager is null
+     */
+    static AsyncBucketManager of(BucketManager manager) {
+        return of(manager, AsyncExecutor.INSTANCE.get());
+    }
+
+    /**
+     * Creates an {@link AsyncBucketManager} that runs the operations of the manager on the executor.
+     *
+     * @param manager  the synchronous manager
+     * @param executor the executor that runs the operations
+     * @return an {@link AsyncBucketManager} instance
+     * @throws NullPointerException when either the manager or the executor is null
+     */
+    static AsyncBucketManager of(BucketManager manager, Executor executor) {
+        Objects.requireNonNull(manager, "manager is required");
+        Objects.requireNonNull(executor, "executor is required");
+        return new DefaultAsyncBucketManager(manager, executor);
+    }
+}
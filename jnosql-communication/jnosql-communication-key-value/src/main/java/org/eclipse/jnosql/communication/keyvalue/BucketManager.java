@@ -20,6 +20,9 @@ package org.eclipse.jnosql.communication.keyvalue;
 import org.eclipse.jnosql.communication.Value;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -102,6 +105,26 @@ public interface BucketManager extends AutoCloseable {
      */
     <K> Iterable<Value> get(Iterable<K> keys);
 
+    /**
+     * Finds the values from keys, each one with its key, so the values never depend on the order the database
+     * returns them. The keys that are not found are not in the result.
+     * The default implementation reads each key through {@link #get(Object)}; the drivers that read several keys
+     * in a single operation should override it.
+     *
+     * @param keys the keys to be used in this query
+     * @param <K>  the key type
+     * @return the values found by key, in the order of the keys
+     * @throws NullPointerException when the keys are null
+     */
+    default <K> Map<K, Value> getAll(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        Map<K, Value> values = new LinkedHashMap<>();
+        for (K key : keys) {
+            get(key).ifPresent(value -> values.put(key, value));
+        }
+        return values;
+    }
+
     /**
      * Removes an entity from key
      *
@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import org.eclipse.jnosql.communication.Value;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import static java.util.Objects.requireNonNull;
+
+record DefaultAsyncBucketManager(BucketManager manager, Executor executor) implements AsyncBucketManager {
+
+    @Override
+    public String name() {
+        return manager.name();
+    }
+
+    @Override
+    public <K, V> CompletionStage<Void> put(K key, V value) {
+        requireNonNull(key, "key is required");
+        requireNonNull(value, "value is required");
+        return CompletableFuture.runAsync(() -> manager.put(key, value), executor);
+    }
+
+    @Override
+    public CompletionStage<Void> put(KeyValueEntity entity) {
+        requireNonNull(entity, "entity is required");
+        return CompletableFuture.runAsync(() -> manager.put(entity), executor);
+    }
+
+    @Override
+    public CompletionStage<Void> put(KeyValueEntity entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        return CompletableFuture.runAsync(() -> manager.put(entity, ttl), executor);
+    }
+
+    @Override
+    public CompletionStage<Void> put(Iterable<KeyValueEntity> entities) {
+        requireNonNull(entities, "entities is required");
+        return CompletableFuture.runAsync(() -> manager.put(entities), executor);
+    }
+
+    @Override
+    public CompletionStage<Void> put(Iterable<KeyValueEntity> entities, Duration ttl) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl is required");
+        return CompletableFuture.runAsync(() -> manager.put(entities, ttl), executor);
+    }
+
+    @Override
+    public <K> CompletionStage<Optional<Value>> get(K key) {
+        requireNonNull(key, "key is required");
+        return CompletableFuture.supplyAsync(() -> manager.get(key), executor);
+    }
+
+    @Override
+    public <K> CompletionStage<Iterable<Value>> get(Iterable<K> keys) {
+        requireNonNull(keys, "keys is required");
+        return CompletableFuture.supplyAsync(() -> manager.get(keys), executor);
+    }
+
+    @Override
+    public <K> CompletionStage<Void> delete(K key) {
+        requireNonNull(key, "key is required");
+        return CompletableFuture.runAsync(() -> manager.delete(key), executor);
+    }
+
+    @Override
+    public <K> CompletionStage<Void> delete(Iterable<K> keys) {
+        requireNonNull(keys, "keys is required");
+        return CompletableFuture.runAsync(() -> manager.delete(keys), executor);
+    }
+}
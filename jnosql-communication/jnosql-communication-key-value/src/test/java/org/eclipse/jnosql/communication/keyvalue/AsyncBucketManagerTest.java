@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import org.eclipse.jnosql.communication.Value;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AsyncBucketManagerTest {
+
+    private final BucketManager manager = mock(BucketManager.class);
+
+    private final Executor executor = Runnable::run;
+
+    private final AsyncBucketManager async = AsyncBucketManager.of(manager, executor);
+
+    @Test
+    void shouldPut() {
+        var entity = KeyValueEntity.of("key", "value");
+        var ttl = Duration.ofMinutes(1);
+
+        async.put("key", "value");
+        async.put(entity);
+        async.put(entity, ttl);
+        async.put(List.of(entity));
+        async.put(List.of(entity), ttl);
+
+        verify(manager).put("key", "value");
+        verify(manager).put(entity);
+        verify(manager).put(entity, ttl);
+        verify(manager).put(List.of(entity));
+        verify(manager).put(List.of(entity), ttl);
+    }
+
+    @Test
+    void shouldGet() {
+        when(manager.get("key")).thenReturn(Optional.of(Value.of("value")));
+        when(manager.get(List.of("key"))).thenReturn(List.of(Value.of("value")));
+
+        assertThat(async.get("key").toCompletableFuture().join()).contains(Value.of("value"));
+        assertThat(async.get(List.of("key")).toCompletableFuture().join()).containsExactly(Value.of("value"));
+    }
+
+    @Test
+    void shouldDelete() {
+        async.delete("key");
+        async.delete(List.of("key"));
+
+        verify(manager).delete("key");
+        verify(manager).delete(List.of("key"));
+    }
+
+    @Test
+    void shouldRunOnTheDefaultExecutor() throws Exception {
+        when(manager.name()).thenReturn("bucket");
+        when(manager.get("key")).thenReturn(Optional.empty());
+        var defaultAsync = AsyncBucketManager.of(manager);
+
+        assertThat(defaultAsync.name()).isEqualTo("bucket");
+        assertThat(defaultAsync.get("key").toCompletableFuture().get(10, TimeUnit.SECONDS)).isEmpty();
+    }
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        assertThatThrownBy(() -> AsyncBucketManager.of(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> AsyncBucketManager.of(manager, null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> async.get((String) null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> async.put((KeyValueEntity) null)).isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import org.eclipse.jnosql.communication.Value;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+class BucketManagerTest {
+
+    private final BucketManager manager = mock(BucketManager.class, Answers.CALLS_REAL_METHODS);
+
+    @Test
+    void shouldGetAllByKey() {
+        doReturn(Optional.of(Value.of("Ada"))).when(manager).get("ada");
+        doReturn(Optional.empty()).when(manager).get("poliana");
+        doReturn(Optional.of(Value.of("Otavio"))).when(manager).get("otavio");
+
+        var values = manager.getAll(List.of("otavio", "poliana", "ada"));
+
+        assertThat(values).containsOnlyKeys("otavio", "ada");
+        assertThat(values.keySet()).containsExactly("otavio", "ada");
+        assertThat(values.get("ada").get()).isEqualTo("Ada");
+    }
+
+    @Test
+    void shouldReturnErrorWhenKeysAreNull() {
+        assertThatThrownBy(() -> manager.getAll(null)).isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.Element;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reads the attribute values of a {@link CommunicationEntity}, where a name with dots, such as {@code address.city},
+ * navigates through the sub-documents when the entity has no attribute with the whole name.
+ */
+final class Attributes {
+
+    private Attributes() {
+    }
+
+    static Optional<Object> find(CommunicationEntity entity, String name) {
+        Optional<Element> element = entity.find(name);
+        if (element.isPresent()) {
+            return Optional.ofNullable(element.get().get());
+        }
+        if (name.indexOf('.') < 0) {
+            return Optional.empty();
+        }
+        Object value = entity;
+        for (String segment : name.split("\\.")) {
+            value = child(value, segment);
+            if (value == null) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(value);
+    }
+
+    private static Object child(Object value, String name) {
+        if (value instanceof CommunicationEntity entity) {
+            return entity.find(name).map(Element::get).orElse(null);
+        } else if (value instanceof Element element) {
+            return name.equals(element.name()) ? element.get() : child(element.get(), name);
+        } else if (value instanceof Map<?, ?> map) {
+            return map.get(name);
+        } else if (value instanceof Iterable<?> iterable) {
+            for (Object item : iterable) {
+                if (item instanceof Element element && name.equals(element.name())) {
+                    return element.get();
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.communication.semistructured.Element;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Compiles a {@link CriteriaCondition} tree into a {@link Predicate} of {@link CommunicationEntity}, once per query,
+ * so the like patterns and the nested conditions are resolved before the entities are read.
+ */
+final class EntityFilter {
+
+    private static final TypeReference<List<CriteriaCondition>> CONDITIONS = new TypeReference<>() {
+    };
+
+    static final TypeReference<List<Element>> ELEMENTS = new TypeReference<>() {
+    };
+
+    private EntityFilter() {
+    }
+
+    static Predicate<CommunicationEntity> of(CriteriaCondition condition) {
+        Element element = condition.element();
+        String name = element.name();
+        return switch (condition.condition()) {
+            case EQUALS -> {
+                Object value = element.get();
+                yield entity -> ValueComparator.INSTANCE.equal(Attributes.find(entity, name).orElse(null), value);
+            }
+            case GREATER_THAN -> compare(name, element.get(), order -> order > 0);
+            case GREATER_EQUALS_THAN -> compare(name, element.get(), order -> order >= 0);
+            case LESSER_THAN -> compare(name, element.get(), order -> order < 0);
+            case LESSER_EQUALS_THAN -> compare(name, element.get(), order -> order <= 0);
+            case IN -> {
+                List<Object> values = values(element);
+                yield entity -> {
+                    Object attribute = Attributes.find(entity, name).orElse(null);
+                    return values.stream().anyMatch(value -> ValueComparator.INSTANCE.equal(attribute, value));
+                };
+            }
+            case BETWEEN -> {
+                List<Object> values = values(element);
+                if (values.size() != 2) {
+                    throw new IllegalArgumentException("The between condition requires two values: " + condition);
+                }
+                Predicate<CommunicationEntity> lower = compare(name, values.get(0), order -> order >= 0);
+                yield lower.and(compare(name, values.get(1), order -> order <= 0));
+            }
+            case LIKE -> {
+                Pattern pattern = like(String.valueOf(element.get()));
+                yield entity -> Attributes.find(entity, name)
+                        .map(value -> pattern.matcher(value.toString()).matches())
+                        .orElse(false);
+            }
+            case NOT -> of(element.get(CriteriaCondition.class)).negate();
+            case AND -> element.get(CONDITIONS).stream()
+                    .map(EntityFilter::of)
+                    .reduce(Predicate::and)
+                    .orElse(entity -> true);
+            case OR -> element.get(CONDITIONS).stream()
+                    .map(EntityFilter::of)
+                    .reduce(Predicate::or)
+                    .orElse(entity -> false);
+            case GREATER_THAN_TUPLE -> tuple(element.get(ELEMENTS), order -> order > 0);
+            case LESSER_THAN_TUPLE -> tuple(element.get(ELEMENTS), order -> order < 0);
+        };
+    }
+
+    static Predicate<CommunicationEntity> of(Optional<CriteriaCondition> condition) {
+        return condition.map(EntityFilter::of).orElse(entity -> true);
+    }
+
+    static List<Object> values(Element element) {
+        Object value = element.get();
+        List<Object> values = new ArrayList<>();
+        if (value instanceof Iterable<?> iterable) {
+            iterable.forEach(values::add);
+        } else {
+            values.add(value);
+        }
+        return values;
+    }
+
+    private static Predicate<CommunicationEntity> compare(String name, Object value, Predicate<Integer> order) {
+        return entity -> Attributes.find(entity, name)
+                .map(attribute -> order.test(ValueComparator.INSTANCE.compareValue(attribute, value)))
+                .orElse(false);
+    }
+
+    private static Predicate<CommunicationEntity> tuple(List<Element> keys, Predicate<Integer> order) {
+        return entity -> {
+            for (Element key : keys) {
+                Optional<Object> attribute = Attributes.find(entity, key.name());
+                if (attribute.isEmpty()) {
+                    return false;
+                }
+                int compare = ValueComparator.INSTANCE.compareValue(attribute.get(), key.get());
+                if (compare != 0) {
+                    return order.test(compare);
+                }
+            }
+            return false;
+        };
+    }
+
+    private static Pattern like(String value) {
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (char character : value.toCharArray()) {
+            if (character == '%' || character == '_') {
+                regex.append(Pattern.quote(literal.toString()));
+                literal.setLength(0);
+                regex.append(character == '%' ? ".*" : ".");
+            } else {
+                literal.append(character);
+            }
+        }
+        regex.append(Pattern.quote(literal.toString()));
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+}
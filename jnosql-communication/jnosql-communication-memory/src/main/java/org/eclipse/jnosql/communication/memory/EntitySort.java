@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Creates the {@link Comparator} of the sorts of a query, in the {@link ValueComparator} order.
+ */
+final class EntitySort {
+
+    private EntitySort() {
+    }
+
+    static Comparator<CommunicationEntity> of(List<Sort<?>> sorts) {
+        Comparator<CommunicationEntity> comparator = (first, second) -> 0;
+        for (Sort<?> sort : sorts) {
+            Comparator<CommunicationEntity> attribute = Comparator.comparing(entity -> value(entity, sort),
+                    ValueComparator.INSTANCE);
+            comparator = comparator.thenComparing(sort.isAscending() ? attribute : attribute.reversed());
+        }
+        return comparator;
+    }
+
+    private static Object value(CommunicationEntity entity, Sort<?> sort) {
+        Object value = Attributes.find(entity, sort.property()).orElse(null);
+        if (sort.ignoreCase() && value instanceof CharSequence text) {
+            return text.toString().toLowerCase(Locale.ROOT);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * The entities of one entity name, kept by id with their secondary indexes.
+ *
+ * <p>The writers lock only the stripe of the entity id, so the writes of different entities run concurrently while
+ * the entity and its index entries change together. The readers do not lock: they read the candidate ids from an
+ * index, when there is one to the condition, and the caller always evaluates the whole condition on the current
+ * entity.</p>
+ */
+final class EntityStore {
+
+    private final Map<Object, StoredEntity> entities = new ConcurrentHashMap<>();
+
+    private final Map<String, Index> indexes = new ConcurrentHashMap<>();
+
+    private final Lock[] locks;
+
+    private final Clock clock;
+
+    EntityStore(int stripes, Clock clock) {
+        this.locks = new Lock[stripes];
+        for (int index = 0; index < stripes; index++) {
+            locks[index] = new ReentrantLock();
+        }
+        this.clock = clock;
+    }
+
+    /**
+     * Stores the entity by its id, replacing the previous entity with the same id.
+     *
+     * @param id        the normalized id
+     * @param entity    the entity, that must not be changed after it is stored
+     * @param expiresAt the expiration instant; a null instant keeps the expiration of the replaced entity
+     */
+    void put(Object id, CommunicationEntity entity, Instant expiresAt) {
+        Lock lock = lock(id);
+        lock.lock();
+        try {
+            StoredEntity previous = entities.get(id);
+            Instant expiration = expiresAt;
+            if (previous != null) {
+                indexes.values().forEach(index -> index.remove(id, previous.entity()));
+                if (expiration == null && !previous.isExpired(clock.instant())) {
+                    expiration = previous.expiresAt();
+                }
+            }
+            entities.put(id, new StoredEntity(id, entity, expiration));
+            indexes.values().forEach(index -> index.add(id, entity));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Replaces the entity only when it is still the stored one, keeping its expiration.
+     *
+     * @param stored the stored entity
+     * @param entity the new entity
+     */
+    void replace(StoredEntity stored, CommunicationEntity entity) {
+        Lock lock = lock(stored.id());
+        lock.lock();
+        try {
+            if (entities.replace(stored.id(), stored, new StoredEntity(stored.id(), entity, stored.expiresAt()))) {
+                indexes.values().forEach(index -> index.remove(stored.id(), stored.entity()));
+                indexes.values().forEach(index -> index.add(stored.id(), entity));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the entity only when it is still the stored one.
+     *
+     * @param stored the stored entity
+     */
+    void remove(StoredEntity stored) {
+        Lock lock = lock(stored.id());
+        lock.lock();
+        try {
+            if (entities.remove(stored.id(), stored)) {
+                indexes.values().forEach(index -> index.remove(stored.id(), stored.entity()));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the entities that may match the condition: the ones of an index when the condition can use it,
+     * otherwise all of them. The expired entities are removed and never returned.
+     *
+     * @param condition the condition, null to all the entities
+     * @return the stored entities
+     */
+    Stream<StoredEntity> candidates(CriteriaCondition condition) {
+        Instant now = clock.instant();
+        Stream<StoredEntity> candidates = Optional.ofNullable(condition)
+                .flatMap(this::find)
+                .map(ids -> ids.stream().map(entities::get).filter(Objects::nonNull))
+                .orElseGet(() -> entities.values().stream());
+        return candidates.filter(stored -> {
+            if (stored.isExpired(now)) {
+                remove(stored);
+                return false;
+            }
+            return true;
+        });
+    }
+
+    long count() {
+        return candidates(null).count();
+    }
+
+    /**
+     * Creates the index of the attribute with the current entities, replacing the previous index of the attribute.
+     * All the stripes are locked while the index is filled.
+     *
+     * @param attribute the attribute name
+     * @param factory   the index factory
+     */
+    void index(String attribute, Function<String, Index> factory) {
+        Index index = factory.apply(attribute);
+        for (Lock lock : locks) {
+            lock.lock();
+        }
+        try {
+            entities.values().forEach(stored -> index.add(stored.id(), stored.entity()));
+            indexes.put(attribute, index);
+        } finally {
+            for (Lock lock : locks) {
+                lock.unlock();
+            }
+        }
+    }
+
+    Collection<Index> indexes() {
+        return indexes.values();
+    }
+
+    private Optional<Collection<Object>> find(CriteriaCondition condition) {
+        return switch (condition.condition()) {
+            case AND -> conditions(condition)
+                    .map(this::find)
+                    .flatMap(Optional::stream)
+                    .min((first, second) -> Integer.compare(first.size(), second.size()));
+            case OR -> {
+                Set<Object> ids = new LinkedHashSet<>();
+                for (CriteriaCondition child : conditions(condition).toList()) {
+                    Optional<Collection<Object>> result = find(child);
+                    if (result.isEmpty()) {
+                        yield Optional.empty();
+                    }
+                    ids.addAll(result.get());
+                }
+                yield Optional.of(ids);
+            }
+            case NOT -> Optional.empty();
+            case GREATER_THAN_TUPLE -> find(CriteriaCondition.gte(condition.element().get(EntityFilter.ELEMENTS).get(0)));
+            case LESSER_THAN_TUPLE -> find(CriteriaCondition.lte(condition.element().get(EntityFilter.ELEMENTS).get(0)));
+            default -> Optional.ofNullable(indexes.get(condition.element().name()))
+                    .flatMap(index -> index.find(condition));
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Stream<CriteriaCondition> conditions(CriteriaCondition condition) {
+        return ((Collection<CriteriaCondition>) condition.element().get()).stream();
+    }
+
+    private Lock lock(Object id) {
+        return locks[Math.floorMod(id.hashCode(), locks.length)];
+    }
+}
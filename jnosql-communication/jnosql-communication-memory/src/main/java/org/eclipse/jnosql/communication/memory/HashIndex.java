@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An {@link Index} that answers the equals and in conditions through a hash lookup. A query value is looked up once
+ * for each type of the indexed values, converted to that type, as the scan compares it.
+ */
+final class HashIndex implements Index {
+
+    private final String attribute;
+
+    private final Map<Object, Set<Object>> ids = new ConcurrentHashMap<>();
+
+    private final Set<Class<?>> types = ConcurrentHashMap.newKeySet();
+
+    HashIndex(String attribute) {
+        this.attribute = attribute;
+    }
+
+    @Override
+    public String attribute() {
+        return attribute;
+    }
+
+    @Override
+    public void add(Object id, CommunicationEntity entity) {
+        Attributes.find(entity, attribute).map(ValueComparator::normalize).ifPresent(key -> {
+            types.add(key.getClass());
+            ids.compute(key, (k, values) -> {
+                Set<Object> result = values == null ? ConcurrentHashMap.newKeySet() : values;
+                result.add(id);
+                return result;
+            });
+        });
+    }
+
+    @Override
+    public void remove(Object id, CommunicationEntity entity) {
+        Attributes.find(entity, attribute).map(ValueComparator::normalize).ifPresent(key -> ids.computeIfPresent(key, (k, values) -> {
+            values.remove(id);
+            return values.isEmpty() ? null : values;
+        }));
+    }
+
+    @Override
+    public Optional<Collection<Object>> find(CriteriaCondition condition) {
+        return switch (condition.condition()) {
+            case EQUALS -> Optional.ofNullable(condition.element().get()).map(this::get);
+            case IN -> {
+                Set<Object> result = new LinkedHashSet<>();
+                for (Object value : EntityFilter.values(condition.element())) {
+                    if (value == null) {
+                        yield Optional.empty();
+                    }
+                    result.addAll(get(value));
+                }
+                yield Optional.of(result);
+            }
+            default -> Optional.empty();
+        };
+    }
+
+    private Collection<Object> get(Object value) {
+        Set<Object> result = new LinkedHashSet<>();
+        for (Class<?> type : types) {
+            Set<Object> values = ids.get(ValueComparator.coerce(value, type));
+            if (values != null) {
+                result.addAll(values);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "HashIndex{" +
+                "attribute='" + attribute + '\'' +
+                '}';
+    }
+}
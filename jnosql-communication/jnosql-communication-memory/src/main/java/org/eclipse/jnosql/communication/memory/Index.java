@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * A secondary index of an entity attribute, from the attribute value to the ids of the entities.
+ */
+interface Index {
+
+    /**
+     * Returns the attribute name of this index.
+     *
+     * @return the attribute name
+     */
+    String attribute();
+
+    /**
+     * Indexes the entity by its current attribute value.
+     *
+     * @param id     the entity id
+     * @param entity the entity
+     */
+    void add(Object id, CommunicationEntity entity);
+
+    /**
+     * Removes the entity from the index.
+     *
+     * @param id     the entity id
+     * @param entity the entity as it was indexed
+     */
+    void remove(Object id, CommunicationEntity entity);
+
+    /**
+     * Returns the ids of the entities that may match the condition of this index attribute.
+     *
+     * @param condition the condition
+     * @return the candidate ids, or {@link Optional#empty()} when this index cannot answer the condition
+     */
+    Optional<Collection<Object>> find(CriteriaCondition condition);
+}
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.semistructured.DatabaseConfiguration;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The {@link DatabaseConfiguration} of the in-memory database, that reads the {@link MemoryConfigurations}
+ * from the {@link Settings}.
+ *
+ * <pre>{@code
+ * Settings settings = Settings.builder()
+ *         .put(MemoryConfigurations.HASH_INDEX.get() + ".1", "Person.name")
+ *         .put(MemoryConfigurations.SORTED_INDEX.get() + ".1", "Person.age")
+ *         .build();
+ * MemoryDatabaseManagerFactory factory = new MemoryConfiguration().apply(settings);
+ * MemoryDatabaseManager manager = factory.apply("database");
+ * }</pre>
+ */
+public final class MemoryConfiguration implements DatabaseConfiguration {
+
+    /**
+     * The default number of locks that the writers of an entity are striped by.
+     */
+    public static final int DEFAULT_LOCK_STRIPES = 64;
+
+    @Override
+    public MemoryDatabaseManagerFactory apply(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        int stripes = settings.get(MemoryConfigurations.LOCK_STRIPES.get(), Integer.class).orElse(DEFAULT_LOCK_STRIPES);
+        if (stripes <= 0) {
+            throw new CommunicationException("The number of lock stripes must be positive: " + stripes);
+        }
+        List<MemoryDatabaseManagerFactory.IndexDefinition> indexes = new ArrayList<>();
+        settings.prefix(MemoryConfigurations.HASH_INDEX.get()).forEach(index -> indexes.add(index(index, false)));
+        settings.prefix(MemoryConfigurations.SORTED_INDEX.get()).forEach(index -> indexes.add(index(index, true)));
+        return new MemoryDatabaseManagerFactory(stripes, List.copyOf(indexes), Clock.systemUTC());
+    }
+
+    private static MemoryDatabaseManagerFactory.IndexDefinition index(Object value, boolean sorted) {
+        String index = String.valueOf(value);
+        int separator = index.indexOf('.');
+        if (separator <= 0 || separator == index.length() - 1) {
+            throw new CommunicationException("The index must be defined as entity.attribute: " + index);
+        }
+        return new MemoryDatabaseManagerFactory.IndexDefinition(index.substring(0, separator),
+                index.substring(separator + 1), sorted);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import java.util.function.Supplier;
+
+/**
+ * The configurations of the in-memory database, read from the {@link org.eclipse.jnosql.communication.Settings}
+ * given to {@link MemoryConfiguration}.
+ */
+public enum MemoryConfigurations implements Supplier<String> {
+
+    /**
+     * The hash indexes, as {@code entity.attribute}, to speed up the equals and in conditions.
+     * <p>This property allows multiple indexes by using a numbered suffix.</p>
+     * <p>Example: <code>jnosql.memory.index.hash.1=Person.name</code></p>
+     */
+    HASH_INDEX("jnosql.memory.index.hash"),
+
+    /**
+     * The sorted indexes, as {@code entity.attribute}, to speed up the equals, in, range and between conditions.
+     * <p>This property allows multiple indexes by using a numbered suffix.</p>
+     * <p>Example: <code>jnosql.memory.index.sorted.1=Person.age</code></p>
+     */
+    SORTED_INDEX("jnosql.memory.index.sorted"),
+
+    /**
+     * The number of locks that the writers of an entity are striped by, the default is {@value MemoryConfiguration#DEFAULT_LOCK_STRIPES}.
+     * <p>Example: <code>jnosql.memory.lock.stripes=32</code></p>
+     */
+    LOCK_STRIPES("jnosql.memory.lock.stripes");
+
+    private final String configuration;
+
+    MemoryConfigurations(String configuration) {
+        this.configuration = configuration;
+    }
+
+    @Override
+    public String get() {
+        return configuration;
+    }
+}
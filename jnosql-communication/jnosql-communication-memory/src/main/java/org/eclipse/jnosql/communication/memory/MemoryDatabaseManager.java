@@ -0,0 +1,260 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.semistructured.Capabilities;
+import org.eclipse.jnosql.communication.semistructured.Capability;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A {@link DatabaseManager} that keeps the entities in memory, grouped by entity name and identified by the
+ * {@value #ID} element. The conditions, sorts, skip, limit, TTL and count are evaluated natively, and a condition
+ * uses a secondary index when one was created to its attribute, see {@link #createHashIndex(String, String)} and
+ * {@link #createSortedIndex(String, String)}.
+ *
+ * <p>Insert and update store the entity by its id, replacing the previous one; an entity without id receives a
+ * random {@link UUID}. The stored entities are copies, so changing an entity after it is written or read does
+ * not change the database. The expired entities are removed when they are read.</p>
+ */
+public final class MemoryDatabaseManager implements DatabaseManager {
+
+    /**
+     * The element name of the entity id.
+     */
+    public static final String ID = "_id";
+
+    private static final Capabilities CAPABILITIES = Capabilities.of(Capability.COUNT, Capability.EXISTS,
+            Capability.TUPLE_COMPARISON);
+
+    private final String name;
+
+    private final int stripes;
+
+    private final Clock clock;
+
+    private final Map<String, EntityStore> stores = new ConcurrentHashMap<>();
+
+    MemoryDatabaseManager(String name, int stripes, Clock clock) {
+        this.name = name;
+        this.stripes = stripes;
+        this.clock = clock;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public CommunicationEntity insert(CommunicationEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return write(entity, null);
+    }
+
+    @Override
+    public CommunicationEntity insert(CommunicationEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return write(entity, clock.instant().plus(ttl));
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return stream(entities).map(this::insert).toList();
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return stream(entities).map(entity -> insert(entity, ttl)).toList();
+    }
+
+    @Override
+    public CommunicationEntity update(CommunicationEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return write(entity, null);
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> update(Iterable<CommunicationEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return stream(entities).map(this::update).toList();
+    }
+
+    @Override
+    public void delete(DeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        EntityStore store = stores.get(query.name());
+        if (store == null) {
+            return;
+        }
+        Predicate<CommunicationEntity> filter = EntityFilter.of(query.condition());
+        List<StoredEntity> matches = store.candidates(query.condition().orElse(null))
+                .filter(stored -> filter.test(stored.entity()))
+                .toList();
+        List<String> columns = query.columns();
+        for (StoredEntity stored : matches) {
+            if (columns.isEmpty()) {
+                store.remove(stored);
+            } else {
+                CommunicationEntity entity = stored.entity().copy();
+                columns.forEach(entity::remove);
+                store.replace(stored, entity);
+            }
+        }
+    }
+
+    @Override
+    public Stream<CommunicationEntity> select(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        Stream<CommunicationEntity> entities = find(query);
+        if (!query.sorts().isEmpty()) {
+            entities = entities.sorted(EntitySort.of(query.sorts()));
+        }
+        if (query.skip() > 0) {
+            entities = entities.skip(query.skip());
+        }
+        if (query.limit() > 0) {
+            entities = entities.limit(query.limit());
+        }
+        return entities.map(projection(query.columns()));
+    }
+
+    @Override
+    public long count(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return find(query).count();
+    }
+
+    @Override
+    public boolean exists(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return find(query).findAny().isPresent();
+    }
+
+    @Override
+    public long count(String entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        EntityStore store = stores.get(entity);
+        return store == null ? 0L : store.count();
+    }
+
+    @Override
+    public Capabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    /**
+     * Creates a hash index to the attribute of the entity, that answers the equals and in conditions.
+     * The entities already stored are indexed, and the index replaces any previous index of the attribute.
+     *
+     * @param entity    the entity name
+     * @param attribute the attribute name
+     * @throws NullPointerException when either entity or attribute is null
+     */
+    public void createHashIndex(String entity, String attribute) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(attribute, "attribute is required");
+        store(entity).index(attribute, HashIndex::new);
+    }
+
+    /**
+     * Creates a sorted index to the attribute of the entity, that answers the equals, in, greater than, lesser than
+     * and between conditions. The entities already stored are indexed, and the index replaces any previous index
+     * of the attribute.
+     *
+     * @param entity    the entity name
+     * @param attribute the attribute name
+     * @throws NullPointerException when either entity or attribute is null
+     */
+    public void createSortedIndex(String entity, String attribute) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(attribute, "attribute is required");
+        store(entity).index(attribute, SortedIndex::new);
+    }
+
+    /**
+     * Removes all the entities of this database, keeping the indexes.
+     */
+    public void clear() {
+        stores.values().forEach(store -> store.candidates(null).toList().forEach(store::remove));
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private CommunicationEntity write(CommunicationEntity entity, Instant expiresAt) {
+        Object id = entity.find(ID).map(Element::get).orElse(null);
+        if (id == null) {
+            id = UUID.randomUUID().toString();
+            entity.add(ID, id);
+        }
+        store(entity.name()).put(ValueComparator.normalize(id), entity.copy(), expiresAt);
+        return entity;
+    }
+
+    private Stream<CommunicationEntity> find(SelectQuery query) {
+        EntityStore store = stores.get(query.name());
+        if (store == null) {
+            return Stream.empty();
+        }
+        Predicate<CommunicationEntity> filter = EntityFilter.of(query.condition());
+        return store.candidates(query.condition().orElse(null))
+                .map(StoredEntity::entity)
+                .filter(filter);
+    }
+
+    private EntityStore store(String entity) {
+        return stores.computeIfAbsent(entity, key -> new EntityStore(stripes, clock));
+    }
+
+    private static Function<CommunicationEntity, CommunicationEntity> projection(List<String> columns) {
+        if (columns.isEmpty()) {
+            return CommunicationEntity::copy;
+        }
+        return entity -> CommunicationEntity.of(entity.name(), entity.elements().stream()
+                .filter(element -> columns.contains(element.name()))
+                .collect(Collectors.toList()));
+    }
+
+    private static Stream<CommunicationEntity> stream(Iterable<CommunicationEntity> entities) {
+        return StreamSupport.stream(entities.spliterator(), false);
+    }
+
+    @Override
+    public String toString() {
+        return "MemoryDatabaseManager{" +
+                "name='" + name + '\'' +
+                ", entities=" + stores.keySet() +
+                '}';
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.semistructured.DatabaseManagerFactory;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@link DatabaseManagerFactory} of the in-memory database. Each database name has a single
+ * {@link MemoryDatabaseManager}, that lives until this factory is closed and has the indexes of the configuration.
+ */
+public final class MemoryDatabaseManagerFactory implements DatabaseManagerFactory {
+
+    private final int stripes;
+
+    private final List<IndexDefinition> indexes;
+
+    private final Clock clock;
+
+    private final Map<String, MemoryDatabaseManager> databases = new ConcurrentHashMap<>();
+
+    MemoryDatabaseManagerFactory(int stripes, List<IndexDefinition> indexes, Clock clock) {
+        this.stripes = stripes;
+        this.indexes = indexes;
+        this.clock = clock;
+    }
+
+    @Override
+    public MemoryDatabaseManager apply(String database) {
+        Objects.requireNonNull(database, "database is required");
+        return databases.computeIfAbsent(database, name -> {
+            MemoryDatabaseManager manager = new MemoryDatabaseManager(name, stripes, clock);
+            indexes.forEach(index -> index.create(manager));
+            return manager;
+        });
+    }
+
+    @Override
+    public void close() {
+        databases.values().forEach(MemoryDatabaseManager::clear);
+        databases.clear();
+    }
+
+    /**
+     * An index of the configuration, to be created in every database.
+     *
+     * @param entity    the entity name
+     * @param attribute the attribute name
+     * @param sorted    true to a sorted index, false to a hash index
+     */
+    record IndexDefinition(String entity, String attribute, boolean sorted) {
+
+        void create(MemoryDatabaseManager manager) {
+            if (sorted) {
+                manager.createSortedIndex(entity, attribute);
+            } else {
+                manager.createHashIndex(entity, attribute);
+            }
+        }
+    }
+}
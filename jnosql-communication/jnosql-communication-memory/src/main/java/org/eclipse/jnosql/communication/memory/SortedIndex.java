@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * An {@link Index} that keeps the attribute values in the {@link ValueComparator} order, so it answers the equals,
+ * in, range and between conditions. The query values are converted to the type of the indexed values first; when the
+ * index holds values of more than one type, or a query value cannot be converted, the condition is left to the scan.
+ * The writers of the index are serialized by a read-write lock, and the readers share it.
+ */
+final class SortedIndex implements Index {
+
+    private final String attribute;
+
+    private final NavigableMap<Object, Set<Object>> ids = new TreeMap<>(ValueComparator.INSTANCE);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    SortedIndex(String attribute) {
+        this.attribute = attribute;
+    }
+
+    @Override
+    public String attribute() {
+        return attribute;
+    }
+
+    @Override
+    public void add(Object id, CommunicationEntity entity) {
+        Attributes.find(entity, attribute).map(ValueComparator::normalize).ifPresent(key -> {
+            lock.writeLock().lock();
+            try {
+                ids.computeIfAbsent(key, k -> new HashSet<>()).add(id);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    @Override
+    public void remove(Object id, CommunicationEntity entity) {
+        Attributes.find(entity, attribute).map(ValueComparator::normalize).ifPresent(key -> {
+            lock.writeLock().lock();
+            try {
+                Set<Object> values = ids.get(key);
+                if (values != null && values.remove(id) && values.isEmpty()) {
+                    ids.remove(key);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    @Override
+    public Optional<Collection<Object>> find(CriteriaCondition condition) {
+        List<Object> queryValues = EntityFilter.values(condition.element());
+        if (condition.element().get() == null || queryValues.contains(null)) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            if (ids.isEmpty()) {
+                return Optional.of(List.of());
+            }
+            Class<?> type = ids.firstKey().getClass();
+            if (!type.equals(ids.lastKey().getClass())) {
+                return Optional.empty();
+            }
+            List<Object> values = queryValues.stream().map(v -> ValueComparator.coerce(v, type)).toList();
+            if (!values.stream().allMatch(type::isInstance)) {
+                return Optional.empty();
+            }
+            Object value = values.get(0);
+            return switch (condition.condition()) {
+                case EQUALS -> Optional.of(collect(ids.subMap(value, true, value, true)));
+                case IN -> {
+                    Set<Object> result = new LinkedHashSet<>();
+                    values.forEach(v -> result.addAll(collect(ids.subMap(v, true, v, true))));
+                    yield Optional.of(result);
+                }
+                case GREATER_THAN -> Optional.of(collect(ids.tailMap(value, false)));
+                case GREATER_EQUALS_THAN -> Optional.of(collect(ids.tailMap(value, true)));
+                case LESSER_THAN -> Optional.of(collect(ids.headMap(value, false)));
+                case LESSER_EQUALS_THAN -> Optional.of(collect(ids.headMap(value, true)));
+                case BETWEEN -> {
+                    if (values.size() != 2 || ValueComparator.INSTANCE.compare(values.get(0), values.get(1)) > 0) {
+                        yield Optional.empty();
+                    }
+                    yield Optional.of(collect(ids.subMap(values.get(0), true, values.get(1), true)));
+                }
+                default -> Optional.empty();
+            };
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Collection<Object> collect(Map<Object, Set<Object>> range) {
+        List<Object> result = new ArrayList<>();
+        range.values().forEach(result::addAll);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "SortedIndex{" +
+                "attribute='" + attribute + '\'' +
+                '}';
+    }
+}
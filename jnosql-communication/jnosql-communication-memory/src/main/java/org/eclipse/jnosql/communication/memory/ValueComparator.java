@@ -0,0 +1,153 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.ValueReaderDecorator;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * The order of the attribute values of the in-memory database. The values are normalized, see
+ * {@link #normalize(Object)}, so the numbers are compared by their value regardless of the type, and then ordered by
+ * their type name and by their value within the same type, which keeps the order symmetric and total for the sorted
+ * indexes. Null is the lowest value.
+ * <p>The conditions compare an attribute with a query value through {@link #compareValue(Object, Object)} and
+ * {@link #equal(Object, Object)}, which convert the query value to the type of the attribute with
+ * {@link ValueReaderDecorator} first, such as the text "10" to the number 10.</p>
+ */
+enum ValueComparator implements Comparator<Object> {
+
+    INSTANCE;
+
+    private static final ValueReaderDecorator READER = ValueReaderDecorator.getInstance();
+
+    @Override
+    public int compare(Object first, Object second) {
+        if (first == second) {
+            return 0;
+        } else if (first == null) {
+            return -1;
+        } else if (second == null) {
+            return 1;
+        }
+        Object left = normalize(first);
+        Object right = normalize(second);
+        if (!left.getClass().equals(right.getClass())) {
+            return left.getClass().getName().compareTo(right.getClass().getName());
+        } else if (left instanceof Comparable<?>) {
+            return compareTo(left, right);
+        }
+        return left.toString().compareTo(right.toString());
+    }
+
+    /**
+     * Compares an attribute with a query value, converted to the type of the attribute when they differ.
+     *
+     * @param attribute the attribute value
+     * @param value     the query value
+     * @return the order of the attribute relative to the query value
+     */
+    int compareValue(Object attribute, Object value) {
+        if (attribute == null || value == null) {
+            return compare(attribute, value);
+        }
+        Object left = normalize(attribute);
+        return compare(left, coerce(value, left.getClass()));
+    }
+
+    /**
+     * Checks if an attribute is equal to a query value following {@link #compareValue(Object, Object)}; the values
+     * that are not comparable, such as lists and sub-documents, are compared by {@link Object#equals(Object)}.
+     *
+     * @param attribute the attribute value
+     * @param value     the query value
+     * @return true when both values are equal
+     */
+    boolean equal(Object attribute, Object value) {
+        if (Objects.equals(attribute, value)) {
+            return true;
+        } else if (attribute == null || value == null) {
+            return false;
+        }
+        Object left = normalize(attribute);
+        Object right = coerce(value, left.getClass());
+        if (!(left instanceof Comparable<?>)) {
+            return left.equals(right);
+        }
+        return compare(left, right) == 0;
+    }
+
+    /**
+     * Returns the normalized query value converted to the normalized type of the attributes, or only normalized
+     * when it cannot be converted. The indexes look the query values up by it, so they find the same attributes as
+     * {@link #equal(Object, Object)} and {@link #compareValue(Object, Object)}.
+     *
+     * @param value the query value
+     * @param type  the normalized type of the attributes
+     * @return the value to compare with the attributes of the type
+     */
+    static Object coerce(Object value, Class<?> type) {
+        Object normalized = normalize(value);
+        if (normalized == null || type.isInstance(normalized)) {
+            return normalized;
+        }
+        Object converted = convert(normalized, type);
+        return converted != null && type.isInstance(converted) ? converted : normalized;
+    }
+
+    /**
+     * Returns the value as it is kept by the indexes: numbers as a {@link BigDecimal} without trailing zeros,
+     * text as {@link String} and enums by their name.
+     *
+     * @param value the value
+     * @return the normalized value
+     */
+    static Object normalize(Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal.stripTrailingZeros();
+        } else if (value instanceof BigInteger integer) {
+            return new BigDecimal(integer).stripTrailingZeros();
+        } else if (value instanceof Double || value instanceof Float) {
+            double number = ((Number) value).doubleValue();
+            return Double.isFinite(number) ? BigDecimal.valueOf(number).stripTrailingZeros() : number;
+        } else if (value instanceof Number number) {
+            return BigDecimal.valueOf(number.longValue()).stripTrailingZeros();
+        } else if (value instanceof CharSequence || value instanceof Character) {
+            return value.toString();
+        } else if (value instanceof Enum<?> constant) {
+            return constant.name();
+        }
+        return value;
+    }
+
+    private static Object convert(Object value, Class<?> type) {
+        try {
+            if (READER.test(type)) {
+                return normalize(READER.read(type, value));
+            }
+        } catch (RuntimeException exception) {
+            return null;
+        }
+        return null;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareTo(Object left, Object right) {
+        try {
+            return ((Comparable) left).compareTo(right);
+        } catch (ClassCastException exception) {
+            return left.toString().compareTo(right.toString());
+        }
+    }
+}
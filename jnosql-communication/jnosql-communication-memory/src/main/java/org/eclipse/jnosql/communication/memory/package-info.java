@@ -0,0 +1,18 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+
+/**
+ * An in-memory implementation of the Semi-Structured API. It keeps the entities in the JVM heap, evaluates the
+ * {@link org.eclipse.jnosql.communication.semistructured.CriteriaCondition}, sorts, skip, limit and TTL natively,
+ * and supports optional secondary hash and sorted indexes per entity attribute.
+ * It is meant to be a local cache tier and the backend of tests, load tests and benchmarks.
+ */
+package org.eclipse.jnosql.communication.memory;
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class HashIndexTest {
+
+    private final HashIndex index = new HashIndex("city");
+
+    @Test
+    void shouldFindByCondition() {
+        index.add(1, entity("Salvador"));
+        index.add(2, entity("Salvador"));
+        index.add(3, entity("London"));
+
+        assertSoftly(soft -> {
+            soft.assertThat(index.find(CriteriaCondition.eq("city", "Salvador")))
+                    .hasValueSatisfying(ids -> soft.assertThat(ids).containsExactlyInAnyOrder(1, 2));
+            soft.assertThat(index.find(CriteriaCondition.in("city", List.of("London", "Rome"))))
+                    .hasValueSatisfying(ids -> soft.assertThat(ids).containsExactly(3));
+            soft.assertThat(index.find(CriteriaCondition.gt("city", "London"))).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldConvertTheQueryValueToTheIndexedType() {
+        HashIndex ages = new HashIndex("age");
+        CommunicationEntity entity = CommunicationEntity.of("Person");
+        entity.add("age", 10);
+        ages.add(1, entity);
+
+        assertSoftly(soft -> {
+            soft.assertThat(ages.find(CriteriaCondition.eq("age", "10")))
+                    .hasValueSatisfying(ids -> soft.assertThat(ids).containsExactly(1));
+            soft.assertThat(ages.find(CriteriaCondition.in("age", List.of("10", 11L))))
+                    .hasValueSatisfying(ids -> soft.assertThat(ids).containsExactly(1));
+        });
+    }
+
+    @Test
+    void shouldRemove() {
+        index.add(1, entity("Salvador"));
+        index.remove(1, entity("Salvador"));
+
+        assertSoftly(soft -> soft.assertThat(index.find(CriteriaCondition.eq("city", "Salvador")))
+                .hasValueSatisfying(ids -> soft.assertThat(ids).isEmpty()));
+    }
+
+    private static CommunicationEntity entity(String city) {
+        CommunicationEntity entity = CommunicationEntity.of("Person");
+        entity.add("city", city);
+        return entity;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.semistructured.DatabaseConfiguration;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MemoryConfigurationTest {
+
+    @Test
+    void shouldLoadFromServiceLoader() {
+        MemoryConfiguration configuration = DatabaseConfiguration.getConfiguration(MemoryConfiguration.class);
+        assertThat(configuration).isNotNull();
+    }
+
+    @Test
+    void shouldReturnErrorWhenSettingsIsNull() {
+        assertThatThrownBy(() -> new MemoryConfiguration().apply(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldReturnSameManagerByDatabase() {
+        try (MemoryDatabaseManagerFactory factory = new MemoryConfiguration().apply(Settings.settings())) {
+            assertThat(factory.apply("database")).isSameAs(factory.apply("database"));
+            assertThat(factory.apply("database")).isNotSameAs(factory.apply("other"));
+        }
+    }
+
+    @Test
+    void shouldCreateIndexes() {
+        Settings settings = Settings.of(Map.of(MemoryConfigurations.HASH_INDEX.get() + ".1", "Person.name",
+                MemoryConfigurations.SORTED_INDEX.get() + ".1", "Person.address.age",
+                MemoryConfigurations.LOCK_STRIPES.get(), "8"));
+
+        try (MemoryDatabaseManagerFactory factory = new MemoryConfiguration().apply(settings)) {
+            MemoryDatabaseManager manager = factory.apply("database");
+            assertThat(manager.count(SelectQuery.select().from("Person").where("name").eq("Ada").build())).isZero();
+        }
+    }
+
+    @Test
+    void shouldReturnErrorWhenIndexIsInvalid() {
+        Settings settings = Settings.of(Map.of(MemoryConfigurations.HASH_INDEX.get(), "Person"));
+        assertThatThrownBy(() -> new MemoryConfiguration().apply(settings)).isInstanceOf(CommunicationException.class);
+    }
+
+    @Test
+    void shouldReturnErrorWhenStripesIsNotPositive() {
+        Settings settings = Settings.of(Map.of(MemoryConfigurations.LOCK_STRIPES.get(), 0));
+        assertThatThrownBy(() -> new MemoryConfiguration().apply(settings)).isInstanceOf(CommunicationException.class);
+    }
+}
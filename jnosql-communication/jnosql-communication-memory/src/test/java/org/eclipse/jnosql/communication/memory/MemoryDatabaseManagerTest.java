@@ -0,0 +1,354 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import jakarta.data.page.CursoredPage;
+import jakarta.data.page.PageRequest;
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.semistructured.Capability;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemoryDatabaseManagerTest {
+
+    private final MutableClock clock = new MutableClock();
+
+    private MemoryDatabaseManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = new MemoryDatabaseManager("database", 4, clock);
+        manager.insert(person(1L, "Ada", 36, "London"));
+        manager.insert(person(2L, "Poliana", 30, "Salvador"));
+        manager.insert(person(3L, "Otavio", 35, "Salvador"));
+        manager.insert(person(4L, "Maria", 20, "Lisbon"));
+    }
+
+    @Test
+    void shouldReturnErrorWhenParametersAreNull() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(() -> manager.insert((CommunicationEntity) null)).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> manager.insert(person(5L, "Ada", 1, "Rome"), null)).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> manager.select(null)).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> manager.delete(null)).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> manager.createHashIndex("Person", null)).isInstanceOf(NullPointerException.class);
+        });
+    }
+
+    @Test
+    void shouldGenerateIdWhenItIsMissing() {
+        CommunicationEntity entity = CommunicationEntity.of("Person");
+        entity.add("name", "Lucas");
+
+        CommunicationEntity inserted = manager.insert(entity);
+
+        assertThat(inserted.find(MemoryDatabaseManager.ID)).isPresent();
+        assertThat(manager.count("Person")).isEqualTo(5L);
+    }
+
+    @Test
+    void shouldReplaceEntityWithSameId() {
+        manager.update(person(1L, "Ada Lovelace", 36, "London"));
+
+        var entities = manager.select(SelectQuery.select().from("Person").where("_id").eq(1).build()).toList();
+
+        assertThat(entities).hasSize(1);
+        assertThat(entities.get(0).find("name", String.class)).contains("Ada Lovelace");
+        assertThat(manager.count("Person")).isEqualTo(4L);
+    }
+
+    @Test
+    void shouldNotChangeDatabaseWhenEntityChanges() {
+        CommunicationEntity entity = person(5L, "Lucas", 10, "Rome");
+        manager.insert(entity);
+        entity.add("name", "Changed");
+
+        manager.select(SelectQuery.select().from("Person").build()).forEach(e -> e.add("age", 0));
+
+        var lucas = manager.select(SelectQuery.select().from("Person").where("_id").eq(5L).build()).findFirst().orElseThrow();
+        assertThat(lucas.find("name", String.class)).contains("Lucas");
+        assertThat(lucas.find("age", Integer.class)).contains(10);
+    }
+
+    @Test
+    void shouldSelectByConditions() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(names(SelectQuery.select().from("Person").where("city").eq("Salvador").build()))
+                    .containsExactlyInAnyOrder("Poliana", "Otavio");
+            soft.assertThat(names(SelectQuery.select().from("Person").where("age").gt(30).build()))
+                    .containsExactlyInAnyOrder("Ada", "Otavio");
+            soft.assertThat(names(SelectQuery.select().from("Person").where("age").gte(30L).build()))
+                    .containsExactlyInAnyOrder("Ada", "Otavio", "Poliana");
+            soft.assertThat(names(SelectQuery.select().from("Person").where("age").lt(30).build()))
+                    .containsExactly("Maria");
+            soft.assertThat(names(SelectQuery.select().from("Person").where("age").lte(30.0).build()))
+                    .containsExactlyInAnyOrder("Maria", "Poliana");
+            soft.assertThat(names(SelectQuery.select().from("Person").where("age").between(30, 35).build()))
+                    .containsExactlyInAnyOrder("Poliana", "Otavio");
+            soft.assertThat(names(SelectQuery.select().from("Person").where("name").in(List.of("Ada", "Maria")).build()))
+                    .containsExactlyInAnyOrder("Ada", "Maria");
+            soft.assertThat(names(SelectQuery.select().from("Person").where("name").like("O%v_o").build()))
+                    .containsExactly("Otavio");
+            soft.assertThat(names(SelectQuery.select().from("Person").where("city").not().eq("Salvador").build()))
+                    .containsExactlyInAnyOrder("Ada", "Maria");
+            soft.assertThat(names(SelectQuery.select().from("Person").where("city").eq("Salvador")
+                    .and("age").gt(30).build())).containsExactly("Otavio");
+            soft.assertThat(names(SelectQuery.select().from("Person").where("city").eq("London")
+                    .or("age").lt(25).build())).containsExactlyInAnyOrder("Ada", "Maria");
+            soft.assertThat(names(SelectQuery.select().from("Animal").build())).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldSelectBySubDocument() {
+        CommunicationEntity entity = person(5L, "Lucas", 10, "Rome");
+        entity.add(Element.of("address", List.of(Element.of("street", "Via Roma"), Element.of("zip", "00100"))));
+        manager.insert(entity);
+
+        assertThat(names(SelectQuery.select().from("Person").where("address.zip").eq("00100").build()))
+                .containsExactly("Lucas");
+    }
+
+    @Test
+    void shouldSortSkipAndLimit() {
+        SelectQuery query = SelectQuery.select().from("Person")
+                .orderBy("city").asc()
+                .orderBy("age").desc()
+                .skip(1).limit(2).build();
+
+        assertThat(names(query)).containsExactly("Ada", "Otavio");
+    }
+
+    @Test
+    void shouldSelectColumns() {
+        SelectQuery query = SelectQuery.select("name").from("Person").where("_id").eq(1L).build();
+
+        var entity = manager.select(query).findFirst().orElseThrow();
+
+        assertThat(entity.elementNames()).containsExactly("name");
+    }
+
+    @Test
+    void shouldCountAndExists() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(manager.count("Person")).isEqualTo(4L);
+            soft.assertThat(manager.count("Animal")).isZero();
+            soft.assertThat(manager.count(SelectQuery.select().from("Person").where("city").eq("Salvador").build()))
+                    .isEqualTo(2L);
+            soft.assertThat(manager.exists(SelectQuery.select().from("Person").where("age").gt(35).build())).isTrue();
+            soft.assertThat(manager.exists(SelectQuery.select().from("Person").where("age").gt(40).build())).isFalse();
+        });
+    }
+
+    @Test
+    void shouldDelete() {
+        manager.delete(DeleteQuery.delete().from("Person").where("city").eq("Salvador").build());
+
+        assertThat(names(SelectQuery.select().from("Person").build())).containsExactlyInAnyOrder("Ada", "Maria");
+    }
+
+    @Test
+    void shouldDeleteColumns() {
+        manager.delete(DeleteQuery.delete("city").from("Person").where("_id").eq(1L).build());
+
+        var entity = manager.select(SelectQuery.select().from("Person").where("_id").eq(1L).build()).findFirst().orElseThrow();
+
+        assertThat(entity.find("city")).isEmpty();
+        assertThat(entity.find("name", String.class)).contains("Ada");
+    }
+
+    @Test
+    void shouldExpireEntities() {
+        manager.insert(person(5L, "Lucas", 10, "Rome"), Duration.ofSeconds(10));
+        assertThat(manager.count("Person")).isEqualTo(5L);
+
+        manager.update(person(5L, "Lucas", 11, "Rome"));
+        clock.plus(Duration.ofSeconds(10));
+
+        assertThat(manager.count("Person")).isEqualTo(4L);
+        assertThat(names(SelectQuery.select().from("Person").where("name").eq("Lucas").build())).isEmpty();
+    }
+
+    @Test
+    void shouldSelectByIndexes() {
+        manager.createHashIndex("Person", "city");
+        manager.createSortedIndex("Person", "age");
+        manager.insert(person(5L, "Lucas", 40, "Salvador"));
+        manager.update(person(4L, "Maria", 45, "Salvador"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(names(SelectQuery.select().from("Person").where("city").eq("Salvador").build()))
+                    .containsExactlyInAnyOrder("Poliana", "Otavio", "Lucas", "Maria");
+            soft.assertThat(names(SelectQuery.select().from("Person").where("city").in(List.of("London", "Lisbon")).build()))
+                    .containsExactly("Ada");
+            soft.assertThat(names(SelectQuery.select().from("Person").where("age").gt(36L).build()))
+                    .containsExactlyInAnyOrder("Lucas", "Maria");
+            soft.assertThat(names(SelectQuery.select().from("Person").where("age").between(30, 36).build()))
+                    .containsExactlyInAnyOrder("Ada", "Poliana", "Otavio");
+            soft.assertThat(names(SelectQuery.select().from("Person").where("city").eq("Salvador")
+                    .and("age").lte(35).build())).containsExactlyInAnyOrder("Poliana", "Otavio");
+            soft.assertThat(names(SelectQuery.select().from("Person").where("city").eq("London")
+                    .or("age").gte(45).build())).containsExactlyInAnyOrder("Ada", "Maria");
+        });
+
+        manager.delete(DeleteQuery.delete().from("Person").where("age").gte(40).build());
+        assertThat(names(SelectQuery.select().from("Person").where("city").eq("Salvador").build()))
+                .containsExactlyInAnyOrder("Poliana", "Otavio");
+    }
+
+    @Test
+    void shouldSelectTheSameEntitiesWithAndWithoutIndexes() {
+        SelectQuery byText = SelectQuery.select().from("Person").where("age").eq("36").build();
+        SelectQuery byRange = SelectQuery.select().from("Person").where("age").gt("30").build();
+        List<String> scanned = names(byText);
+        List<String> ranged = names(byRange);
+
+        manager.createHashIndex("Person", "age");
+        List<String> hashed = names(byText);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(scanned).containsExactly("Ada");
+            soft.assertThat(hashed).isEqualTo(scanned);
+            soft.assertThat(ranged).containsExactlyInAnyOrder("Ada", "Otavio");
+        });
+
+        MemoryDatabaseManager sorted = new MemoryDatabaseManager("sorted", 4, clock);
+        sorted.createSortedIndex("Person", "age");
+        sorted.insert(person(1L, "Ada", 36, "London"));
+        sorted.insert(person(3L, "Otavio", 35, "Salvador"));
+        sorted.insert(person(4L, "Maria", 20, "Lisbon"));
+        assertThat(sorted.select(byRange).map(e -> e.find("name", String.class).orElseThrow()).toList())
+                .containsExactlyInAnyOrder("Ada", "Otavio");
+    }
+
+    @Test
+    void shouldSelectCursor() {
+        SelectQuery query = SelectQuery.select().from("Person").orderBy("age").asc().build();
+
+        CursoredPage<CommunicationEntity> first = manager.selectCursor(query, PageRequest.ofSize(2));
+        CursoredPage<CommunicationEntity> second = manager.selectCursor(query, first.nextPageRequest());
+
+        assertThat(first.content()).extracting(e -> e.find("name", String.class).orElseThrow())
+                .containsExactly("Maria", "Poliana");
+        assertThat(second.content()).extracting(e -> e.find("name", String.class).orElseThrow())
+                .containsExactly("Otavio", "Ada");
+    }
+
+    @Test
+    void shouldSelectByTupleComparison() {
+        manager.createSortedIndex("Person", "city");
+        var after = CriteriaCondition.gtTuple(List.of(Element.of("city", "Salvador"), Element.of("name", "Otavio")));
+        var before = CriteriaCondition.ltTuple(List.of(Element.of("city", "Salvador"), Element.of("name", "Otavio")));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(names(SelectQuery.builder().from("Person").where(after).build()))
+                    .containsExactly("Poliana");
+            soft.assertThat(names(SelectQuery.builder().from("Person").where(before).build()))
+                    .containsExactlyInAnyOrder("Ada", "Maria");
+        });
+    }
+
+    @Test
+    void shouldSelectCursorOnCompoundSort() {
+        SelectQuery query = SelectQuery.select().from("Person").orderBy("city").asc().orderBy("name").asc().build();
+
+        CursoredPage<CommunicationEntity> first = manager.selectCursor(query, PageRequest.ofSize(2));
+        CursoredPage<CommunicationEntity> second = manager.selectCursor(query, first.nextPageRequest());
+
+        assertThat(first.content()).extracting(e -> e.find("name", String.class).orElseThrow())
+                .containsExactly("Maria", "Ada");
+        assertThat(second.content()).extracting(e -> e.find("name", String.class).orElseThrow())
+                .containsExactly("Otavio", "Poliana");
+    }
+
+    @Test
+    void shouldWriteConcurrently() {
+        manager.createSortedIndex("Person", "age");
+        CompletableFuture<?>[] writers = IntStream.range(0, 8)
+                .mapToObj(writer -> CompletableFuture.runAsync(() -> IntStream.range(0, 500)
+                        .forEach(index -> manager.insert(person(100L + writer * 500L + index, "Writer", index, "Rome")))))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(writers).join();
+
+        assertThat(manager.count("Person")).isEqualTo(4004L);
+        assertThat(manager.count(SelectQuery.select().from("Person").where("age").lt(10).build())).isEqualTo(80L);
+    }
+
+    @Test
+    void shouldClear() {
+        manager.createHashIndex("Person", "city");
+        manager.clear();
+        manager.insert(person(1L, "Ada", 36, "London"));
+
+        assertThat(manager.count("Person")).isEqualTo(1L);
+        assertThat(names(SelectQuery.select().from("Person").where("city").eq("London").build())).containsExactly("Ada");
+    }
+
+    @Test
+    void shouldDeclareCapabilities() {
+        assertThat(manager.capabilities().values()).containsExactlyInAnyOrder(Capability.COUNT, Capability.EXISTS,
+                Capability.TUPLE_COMPARISON);
+    }
+
+    private List<String> names(SelectQuery query) {
+        return manager.select(query).map(e -> e.find("name", String.class).orElseThrow()).toList();
+    }
+
+    private static CommunicationEntity person(long id, String name, int age, String city) {
+        CommunicationEntity entity = CommunicationEntity.of("Person");
+        entity.add(MemoryDatabaseManager.ID, id);
+        entity.add("name", name);
+        entity.add("age", age);
+        entity.add("city", city);
+        return entity;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private final AtomicReference<Instant> instant = new AtomicReference<>(Instant.parse("2024-01-01T00:00:00Z"));
+
+        void plus(Duration duration) {
+            instant.updateAndGet(current -> current.plus(duration));
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant.get();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class SortedIndexTest {
+
+    private final SortedIndex index = new SortedIndex("age");
+
+    @BeforeEach
+    void setUp() {
+        for (int age = 1; age <= 5; age++) {
+            index.add(age, entity(age));
+        }
+    }
+
+    @Test
+    void shouldFindByCondition() {
+        assertSoftly(soft -> {
+            soft.assertThat(index.find(CriteriaCondition.eq("age", 3L))).hasValueSatisfying(ids -> soft.assertThat(ids).containsExactly(3));
+            soft.assertThat(index.find(CriteriaCondition.gt("age", 3))).hasValueSatisfying(ids -> soft.assertThat(ids).containsExactly(4, 5));
+            soft.assertThat(index.find(CriteriaCondition.gte("age", 3))).hasValueSatisfying(ids -> soft.assertThat(ids).containsExactly(3, 4, 5));
+            soft.assertThat(index.find(CriteriaCondition.lt("age", 3))).hasValueSatisfying(ids -> soft.assertThat(ids).containsExactly(1, 2));
+            soft.assertThat(index.find(CriteriaCondition.lte("age", 3))).hasValueSatisfying(ids -> soft.assertThat(ids).containsExactly(1, 2, 3));
+            soft.assertThat(index.find(CriteriaCondition.between("age", List.of(2, 4))))
+                    .hasValueSatisfying(ids -> soft.assertThat(ids).containsExactly(2, 3, 4));
+            soft.assertThat(index.find(CriteriaCondition.in("age", List.of(1, 5))))
+                    .hasValueSatisfying(ids -> soft.assertThat(ids).containsExactly(1, 5));
+            soft.assertThat(index.find(CriteriaCondition.like("age", "1%"))).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldConvertTheQueryValueToTheIndexedType() {
+        assertSoftly(soft -> {
+            soft.assertThat(index.find(CriteriaCondition.eq("age", "3"))).hasValueSatisfying(ids -> soft.assertThat(ids).containsExactly(3));
+            soft.assertThat(index.find(CriteriaCondition.gt("age", "3"))).hasValueSatisfying(ids -> soft.assertThat(ids).containsExactly(4, 5));
+        });
+    }
+
+    @Test
+    void shouldLeaveToTheScanWhenTheIndexHasMoreThanOneType() {
+        CommunicationEntity entity = CommunicationEntity.of("Person");
+        entity.add("age", "unknown");
+        index.add(6, entity);
+
+        assertSoftly(soft -> soft.assertThat(index.find(CriteriaCondition.gt("age", 3))).isEmpty());
+    }
+
+    @Test
+    void shouldRemove() {
+        index.remove(3, entity(3));
+        assertSoftly(soft -> soft.assertThat(index.find(CriteriaCondition.eq("age", 3)))
+                .hasValueSatisfying(ids -> soft.assertThat(ids).isEmpty()));
+    }
+
+    private static CommunicationEntity entity(int age) {
+        CommunicationEntity entity = CommunicationEntity.of("Person");
+        entity.add("age", age);
+        return entity;
+    }
+}
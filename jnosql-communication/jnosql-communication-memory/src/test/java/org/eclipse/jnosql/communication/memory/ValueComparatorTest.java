@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class ValueComparatorTest {
+
+    private final ValueComparator comparator = ValueComparator.INSTANCE;
+
+    @Test
+    void shouldCompareNumbersByValue() {
+        assertSoftly(soft -> {
+            soft.assertThat(comparator.compare(10, 10L)).isZero();
+            soft.assertThat(comparator.compare(10, 10.5)).isNegative();
+            soft.assertThat(comparator.compare(new BigDecimal("10.00"), 10)).isZero();
+            soft.assertThat(comparator.equal(10, 10.0F)).isTrue();
+            soft.assertThat(ValueComparator.normalize(10)).isEqualTo(ValueComparator.normalize(10.0));
+        });
+    }
+
+    @Test
+    void shouldCompareNullAsLowest() {
+        assertSoftly(soft -> {
+            soft.assertThat(comparator.compare(null, 1)).isNegative();
+            soft.assertThat(comparator.compare(1, null)).isPositive();
+            soft.assertThat(comparator.compare(null, null)).isZero();
+            soft.assertThat(comparator.equal(null, 1)).isFalse();
+        });
+    }
+
+    @Test
+    void shouldConvertValuesOfOtherTypes() {
+        assertSoftly(soft -> {
+            soft.assertThat(comparator.compareValue(LocalDate.of(2024, 1, 2), "2024-01-01")).isPositive();
+            soft.assertThat(comparator.compareValue(LocalDate.of(2024, 1, 2), "2024-01-03")).isNegative();
+            soft.assertThat(comparator.equal(10, "10")).isTrue();
+            soft.assertThat(comparator.equal(Thread.State.NEW, "NEW")).isTrue();
+        });
+    }
+
+    @Test
+    void shouldCompareSymmetrically() {
+        List<Object> values = List.of(10, "10", "9", LocalDate.of(2024, 1, 1), "2024-01-01", 10.5, Thread.State.NEW);
+        assertSoftly(soft -> {
+            for (Object first : values) {
+                for (Object second : values) {
+                    soft.assertThat(Integer.signum(comparator.compare(first, second)))
+                            .as("%s and %s", first, second)
+                            .isEqualTo(-Integer.signum(comparator.compare(second, first)));
+                }
+            }
+            soft.assertThat(comparator.compare(10, "10")).isNotZero();
+        });
+    }
+
+    @Test
+    void shouldCompareNotComparableValuesByEquals() {
+        assertSoftly(soft -> {
+            soft.assertThat(comparator.equal(List.of(1, 2), List.of(1, 2))).isTrue();
+            soft.assertThat(comparator.equal(List.of(1, 2), List.of(2, 1))).isFalse();
+        });
+    }
+}
@@ -15,7 +15,9 @@ package org.eclipse.jnosql.communication.query.method;
 import org.eclipse.jnosql.communication.query.DeleteQuery;
 
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 /**
@@ -24,15 +26,21 @@ import java.util.function.BiFunction;
  * - The Method
  * - The entity name
  * - The DeleteQuery from both Method and entity name
+ * <p>The method name is parsed only once per entity, and the resulting immutable query is reused on the
+ * following calls.</p>
  */
 public enum DeleteMethodProvider implements BiFunction<Method, String, DeleteQuery> {
     INSTANCE;
 
+    private final Map<MethodQueryKey, DeleteQuery> cache = new ConcurrentHashMap<>();
+
     @Override
     public DeleteQuery apply(Method method, String entity) {
         Objects.requireNonNull(method, "method is required");
         Objects.requireNonNull(entity, "entity is required");
-        DeleteByMethodQueryProvider supplier = new DeleteByMethodQueryProvider();
-        return supplier.apply(method.getName(), entity);
+        return cache.computeIfAbsent(new MethodQueryKey(method.getName(), entity), key -> {
+            DeleteByMethodQueryProvider supplier = new DeleteByMethodQueryProvider();
+            return supplier.apply(key.method(), key.entity());
+        });
     }
 }
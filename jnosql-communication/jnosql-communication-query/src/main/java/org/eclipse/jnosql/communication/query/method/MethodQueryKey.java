@@ -0,0 +1,22 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query.method;
+
+/**
+ * The key used to cache the parsed query of a repository method: the query depends only on the method name and
+ * the entity name, so two methods sharing both will produce the same query.
+ *
+ * @param method the method name
+ * @param entity the entity name
+ */
+record MethodQueryKey(String method, String entity) {
+}
@@ -15,19 +15,29 @@ package org.eclipse.jnosql.communication.query.method;
 import org.eclipse.jnosql.communication.query.SelectQuery;
 
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
+/**
+ * Converts a repository method into a select query. The method name is parsed only once per entity, and the
+ * resulting immutable query is reused on the following calls.
+ */
 public enum SelectMethodProvider implements BiFunction<Method, String, SelectQuery> {
 
     INSTANCE;
 
+    private final Map<MethodQueryKey, SelectQuery> cache = new ConcurrentHashMap<>();
+
 
     @Override
     public SelectQuery apply(Method method, String entity) {
         Objects.requireNonNull(method, "method is required");
         Objects.requireNonNull(entity, "entity is required");
-        SelectMethodQueryProvider supplier = new SelectMethodQueryProvider();
-        return supplier.apply(method.getName(), entity);
+        return cache.computeIfAbsent(new MethodQueryKey(method.getName(), entity), key -> {
+            SelectMethodQueryProvider supplier = new SelectMethodQueryProvider();
+            return supplier.apply(key.method(), key.entity());
+        });
     }
 }
@@ -27,6 +27,14 @@ class DeleteMethodProviderTest {
         Assertions.assertEquals("Person", query.entity());
     }
 
+    @Test
+    void shouldReuseParsedQuery() {
+        Method method = PersonRepository.class.getDeclaredMethods()[0];
+        DeleteQuery query = DeleteMethodProvider.INSTANCE.apply(method, "Person");
+        Assertions.assertSame(query, DeleteMethodProvider.INSTANCE.apply(method, "Person"));
+        Assertions.assertNotSame(query, DeleteMethodProvider.INSTANCE.apply(method, "Animal"));
+    }
+
     interface PersonRepository{
         void deleteByAge(Integer age);
     }
@@ -30,6 +30,14 @@ class SelectMethodProviderTest {
     }
 
 
+    @Test
+    void shouldReuseParsedQuery() {
+        Method method = PersonRepository.class.getDeclaredMethods()[0];
+        SelectQuery query = SelectMethodProvider.INSTANCE.apply(method, "Person");
+        Assertions.assertSame(query, SelectMethodProvider.INSTANCE.apply(method, "Person"));
+        Assertions.assertNotSame(query, SelectMethodProvider.INSTANCE.apply(method, "Animal"));
+    }
+
     interface PersonRepository{
         List<String> findByAge(Integer age);
     }
@@ -17,8 +17,8 @@ module org.eclipse.jnosql.communication.semistructured {
     uses org.eclipse.jnosql.communication.semistructured.DatabaseConfiguration;
     requires org.eclipse.jnosql.communication.core;
     requires org.eclipse.jnosql.communication.query;
-    requires jakarta.json.bind;
     requires jakarta.json;
     requires jakarta.data;
+    exports org.eclipse.jnosql.communication.semistructured;
     opens org.eclipse.jnosql.communication.semistructured;
 }
\ No newline at end of file
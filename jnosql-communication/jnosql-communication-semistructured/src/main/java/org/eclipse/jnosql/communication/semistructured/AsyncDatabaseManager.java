@@ -0,0 +1,205 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.AsyncExecutor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * The asynchronous counterpart of the {@link DatabaseManager}, where each operation returns a
+ * {@link CompletionStage} instead of blocking the caller, so independent queries can run concurrently:
+ *
+ * <pre>{@code
+ * AsyncDatabaseManager async = AsyncDatabaseManager.of(manager);
+ * CompletionStage<List<CommunicationEntity>> page = async.select(query);
+ * CompletionStage<Long> total = async.count(countQuery);
+ * page.thenCombine(total, (entities, count) -> ...);
+ * }</pre>
+ *
+ * <p>The selects are read completely on completion, as a {@link List}, instead of a lazy
+ * {@link java.util.stream.Stream} that would block the thread consuming it.</p>
+ *
+ * @see DatabaseManager
+ */
+public interface AsyncDatabaseManager {
+
+    /**
+     * Returns the name of the managed database.
+     *
+     * @return the name of the database
+     */
+    String name();
+
+    /**
+     * Inserts an entity asynchronously.
+     *
+     * @param entity the entity to be inserted
+     * @return the stage completed with the inserted entity
+     * @throws NullPointerException when the entity is null
+     * @see DatabaseManager#insert(CommunicationEntity)
+     */
+    CompletionStage<CommunicationEntity> insert(CommunicationEntity entity);
+
+    /**
+     * Inserts an entity with a time to live asynchronously.
+     *
+     * @param entity the entity to be inserted
+     * @param ttl    the time to live
+     * @return the stage completed with the inserted entity
+     * @throws NullPointerException when either the entity or the ttl is null
+     * @see DatabaseManager#insert(CommunicationEntity, Duration)
+     */
+    CompletionStage<CommunicationEntity> insert(CommunicationEntity entity, Duration ttl);
+
+    /**
+     * Inserts the entities asynchronously.
+     *
+     * @param entities the entities to be inserted
+     * @return the stage completed with the inserted entities
+     * @throws NullPointerException when the entities are null
+     * @see DatabaseManager#insert(Iterable)
+     */
+    CompletionStage<Iterable<CommunicationEntity>> insert(Iterable<CommunicationEntity> entities);
+
+    /**
+     * Inserts the entities with a time to live asynchronously.
+     *
+     * @param entities the entities to be inserted
+     * @param ttl      the time to live
+     * @return the stage completed with the inserted entities
+     * @throws NullPointerException when either the entities or the ttl is null
+     * @see DatabaseManager#insert(Iterable, Duration)
+     */
+    CompletionStage<Iterable<CommunicationEntity>> insert(Iterable<CommunicationEntity> entities, Duration ttl);
+
+    /**
+     * Updates an entity asynchronously.
+     *
+     * @param entity the entity to be updated
+     * @return the stage completed with the updated entity
+     * @throws NullPointerException when the entity is null
+     * @see DatabaseManager#update(CommunicationEntity)
+     */
+    CompletionStage<CommunicationEntity> update(CommunicationEntity entity);
+
+    /**
+     * Updates the entities asynchronously.
+     *
+     * @param entities the entities to be updated
+     * @return the stage completed with the updated entities
+     * @throws NullPointerException when the entities are null
+     * @see DatabaseManager#update(Iterable)
+     */
+    CompletionStage<Iterable<CommunicationEntity>> update(Iterable<CommunicationEntity> entities);
+
+    /**
+     * Updates the entities that match the query asynchronously.
+     *
+     * @param query the query used to select entities to update
+     * @return the stage completed with the number of updated entities
+     * @throws NullPointerException when the query is null
+     * @see DatabaseManager#bulkUpdate(UpdateQuery)
+     */
+    CompletionStage<Long> bulkUpdate(UpdateQuery query);
+
+    /**
+     * Deletes the entities that match the query asynchronously.
+     *
+     * @param query the query used to select entities to be deleted
+     * @return the stage completed when the entities are deleted
+     * @throws NullPointerException when the query is null
+     * @see DatabaseManager#delete(DeleteQuery)
+     */
+    CompletionStage<Void> delete(DeleteQuery query);
+
+    /**
+     * Finds the entities that match the query asynchronously.
+     *
+     * @param query the query used to select entities
+     * @return the stage completed with the entities found
+     * @throws NullPointerException when the query is null
+     * @see DatabaseManager#select(SelectQuery)
+     */
+    CompletionStage<List<CommunicationEntity>> select(SelectQuery query);
+
+    /**
+     * Finds the single entity that matches the query asynchronously.
+     *
+     * @param query the query used to select the entity
+     * @return the stage completed with the entity found, or completed exceptionally with a
+     * {@link jakarta.data.exceptions.NonUniqueResultException} when there is more than one
+     * @throws NullPointerException when the query is null
+     * @see DatabaseManager#singleResult(SelectQuery)
+     */
+    CompletionStage<Optional<CommunicationEntity>> singleResult(SelectQuery query);
+
+    /**
+     * Counts the entities that match the query asynchronously.
+     *
+     * @param query the query
+     * @return the stage completed with the number of entities
+     * @throws NullPointerException when the query is null
+     * @see DatabaseManager#count(SelectQuery)
+     */
+    CompletionStage<Long> count(SelectQuery query);
+
+    /**
+     * Checks if an entity matches the query asynchronously.
+     *
+     * @param query the query
+     * @return the stage completed with true when an entity matches the query
+     * @throws NullPointerException when the query is null
+     * @see DatabaseManager#exists(SelectQuery)
+     */
+    CompletionStage<Boolean> exists(SelectQuery query);
+
+    /**
+     * Counts the entities of the given name asynchronously.
+     *
+     * @param entity the entity name
+     * @return the stage completed with the number of entities
+     * @throws NullPointerException when the entity name is null
+     * @see DatabaseManager#count(String)
+     */
+    CompletionStage<Long> count(String entity);
+
+    /**
+     * Creates an {@link AsyncDatabaseManager} that runs the operations of the manager on the default
+     * {@link AsyncExecutor}.
+     *
+     * @param manager the synchronous manager
+     * @return an {@link AsyncDatabaseManager} instance
+     * @throws NullPointerException when the manager is null
+     */
+    static AsyncDatabaseManager of(DatabaseManager manager) {
+        return of(manager, AsyncExecutor.INSTANCE.get());
+    }
+
+    /**
+     * Creates an {@link AsyncDatabaseManager} that runs the operations of the manager on the executor.
+     *
+     * @param manager  the synchronous manager
+     * @param executor the executor that runs the operations
+     * @return an {@link AsyncDatabaseManager} instance
+     * @throws NullPointerException when either the manager or the executor is null
+     */
+    static AsyncDatabaseManager of(DatabaseManager manager, Executor executor) {
+        Objects.requireNonNull(manager, "manager is required");
+        Objects.requireNonNull(executor, "executor is required");
+        return new DefaultAsyncDatabaseManager(manager, executor);
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The set of {@link Capability} that a {@link DatabaseManager} executes natively. The mapping layer consults it
+ * to choose between a pushdown and a fallback strategy, and to report when a fallback that reads the entities into
+ * memory is in use.
+ *
+ * <pre>{@code
+ * Capabilities capabilities = Capabilities.of(Capability.COUNT, Capability.EXISTS);
+ * boolean nativeCount = capabilities.supports(Capability.COUNT);
+ * }</pre>
+ *
+ * @see DatabaseManager#capabilities()
+ */
+public final class Capabilities {
+
+    private static final Capabilities NONE = new Capabilities(EnumSet.noneOf(Capability.class));
+
+    private static final ClassValue<Capabilities> INFERRED = new ClassValue<>() {
+        @Override
+        protected Capabilities computeValue(Class<?> type) {
+            Set<Capability> capabilities = EnumSet.noneOf(Capability.class);
+            if (overrides(type, "count", SelectQuery.class)) {
+                capabilities.add(Capability.COUNT);
+            }
+            if (overrides(type, "exists", SelectQuery.class)) {
+                capabilities.add(Capability.EXISTS);
+            }
+            if (overrides(type, "bulkUpdate", UpdateQuery.class) || overrides(type, "update", UpdateQuery.class)) {
+                capabilities.add(Capability.BULK_UPDATE);
+            }
+            return new Capabilities(capabilities);
+        }
+    };
+
+    private final Set<Capability> values;
+
+    private Capabilities(Set<Capability> values) {
+        this.values = Collections.unmodifiableSet(values);
+    }
+
+    /**
+     * Checks if the capability is supported natively.
+     *
+     * @param capability the capability
+     * @return true when the database executes the capability natively
+     * @throws NullPointerException when the capability is null
+     */
+    public boolean supports(Capability capability) {
+        Objects.requireNonNull(capability, "capability is required");
+        return values.contains(capability);
+    }
+
+    /**
+     * Returns the supported capabilities.
+     *
+     * @return the supported capabilities as an unmodifiable set
+     */
+    public Set<Capability> values() {
+        return values;
+    }
+
+    /**
+     * Creates a {@link Capabilities} instance with the given capabilities.
+     *
+     * @param capabilities the capabilities supported natively
+     * @return a {@link Capabilities} instance
+     * @throws NullPointerException when the capabilities or any of them is null
+     */
+    public static Capabilities of(Capability... capabilities) {
+        Objects.requireNonNull(capabilities, "capabilities is required");
+        Set<Capability> values = EnumSet.noneOf(Capability.class);
+        for (Capability capability : capabilities) {
+            values.add(Objects.requireNonNull(capability, "capability is required"));
+        }
+        return new Capabilities(values);
+    }
+
+    /**
+     * Returns a {@link Capabilities} instance without any capability.
+     *
+     * @return a {@link Capabilities} instance without any capability
+     */
+    public static Capabilities none() {
+        return NONE;
+    }
+
+    /**
+     * Infers the capabilities of a {@link DatabaseManager} from the default methods it overrides:
+     * {@link Capability#COUNT} from {@link DatabaseManager#count(SelectQuery)}, {@link Capability#EXISTS} from
+     * {@link DatabaseManager#exists(SelectQuery)}, and {@link Capability#BULK_UPDATE} from
+     * {@link DatabaseManager#bulkUpdate(UpdateQuery)} or {@link DatabaseManager#update(UpdateQuery)}.
+     *
+     * @param type the database manager type
+     * @return the inferred capabilities
+     */
+    static Capabilities infer(Class<? extends DatabaseManager> type) {
+        return INFERRED.get(type);
+    }
+
+    private static boolean overrides(Class<?> type, String name, Class<?> parameter) {
+        try {
+            return type.getMethod(name, parameter).getDeclaringClass() != DatabaseManager.class;
+        } catch (NoSuchMethodException exception) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof Capabilities that) {
+            return values.equals(that.values);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return values.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Capabilities{" + values + '}';
+    }
+}
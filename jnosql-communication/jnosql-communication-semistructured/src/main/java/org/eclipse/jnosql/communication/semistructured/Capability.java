@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+/**
+ * The operations that a {@link DatabaseManager} may execute natively in the database, instead of through the
+ * in-memory fallback of the default methods.
+ *
+ * @see Capabilities
+ * @see DatabaseManager#capabilities()
+ */
+public enum Capability {
+
+    /**
+     * The {@link DatabaseManager#count(SelectQuery)} is counted by the database, without streaming the
+     * matching entities.
+     */
+    COUNT,
+
+    /**
+     * The {@link DatabaseManager#exists(SelectQuery)} is checked by the database, without selecting an entity.
+     */
+    EXISTS,
+
+    /**
+     * The {@link DatabaseManager#bulkUpdate(UpdateQuery)} and {@link DatabaseManager#update(UpdateQuery)}
+     * are executed by the database, without reading and writing each matching entity.
+     */
+    BULK_UPDATE,
+
+    /**
+     * The {@link org.eclipse.jnosql.communication.Condition#GREATER_THAN_TUPLE} and
+     * {@link org.eclipse.jnosql.communication.Condition#LESSER_THAN_TUPLE} conditions are evaluated by the
+     * database, so the cursor-based pagination sends the keyset as a single row-value comparison instead of its
+     * expansion to {@code a > x OR (a = x AND b > y)}. The tuple has no direction per key, so it is sent only when
+     * every sort is ascending.
+     */
+    TUPLE_COMPARISON
+}
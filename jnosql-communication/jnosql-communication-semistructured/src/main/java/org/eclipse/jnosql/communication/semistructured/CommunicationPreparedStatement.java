@@ -177,6 +177,24 @@ public final class CommunicationPreparedStatement {
 
     }
 
+    /**
+     * Executes the UPDATE query through {@link DatabaseManager#bulkUpdate(UpdateQuery)}, without reading
+     * the updated entities back as {@link #result()} does.
+     *
+     * @return the number of updated entities
+     * @throws QueryException           if there are parameters left to bind
+     * @throws IllegalArgumentException if the query is not an UPDATE query
+     */
+    public long bulkUpdate() {
+        if (!paramsLeft.isEmpty()) {
+            throw new QueryException("Check all the parameters before execute the query, params left: " + paramsLeft);
+        }
+        if (PreparedStatementType.UPDATE.equals(type)) {
+            return manager.bulkUpdate(updateQuery);
+        }
+        throw new IllegalArgumentException("The bulk update operation is only allowed for UPDATE queries");
+    }
+
 
 
     /**
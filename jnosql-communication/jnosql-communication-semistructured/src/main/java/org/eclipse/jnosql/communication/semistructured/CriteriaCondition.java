@@ -397,6 +397,38 @@ public final class CriteriaCondition {
         return between(Element.of(name, value));
     }
 
+    /**
+     * Creates a new {@link CriteriaCondition} with a {@link Condition#GREATER_THAN_TUPLE} condition.
+     * This indicates that a select operation will scan data whose values of the element names, in the given
+     * order, are greater than the element values in the lexicographic order, such as {@code (a, b) > (x, y)}.
+     * The {@link Element} will store the {@link Condition#getNameField()} as the key and the list of
+     * elements as the value.
+     *
+     * @param elements the ordered elements, each one with the name and the value to compare
+     * @return a {@link CriteriaCondition} with {@link Condition#GREATER_THAN_TUPLE}
+     * @throws NullPointerException     when the elements are null
+     * @throws IllegalArgumentException when the elements are empty
+     */
+    public static CriteriaCondition gtTuple(List<Element> elements) {
+        return tuple(elements, Condition.GREATER_THAN_TUPLE);
+    }
+
+    /**
+     * Creates a new {@link CriteriaCondition} with a {@link Condition#LESSER_THAN_TUPLE} condition.
+     * This indicates that a select operation will scan data whose values of the element names, in the given
+     * order, are lesser than the element values in the lexicographic order, such as {@code (a, b) < (x, y)}.
+     * The {@link Element} will store the {@link Condition#getNameField()} as the key and the list of
+     * elements as the value.
+     *
+     * @param elements the ordered elements, each one with the name and the value to compare
+     * @return a {@link CriteriaCondition} with {@link Condition#LESSER_THAN_TUPLE}
+     * @throws NullPointerException     when the elements are null
+     * @throws IllegalArgumentException when the elements are empty
+     */
+    public static CriteriaCondition ltTuple(List<Element> elements) {
+        return tuple(elements, Condition.LESSER_THAN_TUPLE);
+    }
+
     /**
      * Returns a condition that is the negation of the supplied condition.
      * This is accomplished by returning the result of calling {@code target.negate()}.
@@ -454,6 +486,15 @@ public final class CriteriaCondition {
         return of(element, Condition.OR);
     }
 
+    private static CriteriaCondition tuple(List<Element> elements, Condition condition) {
+        Objects.requireNonNull(elements, "elements is required");
+        if (elements.isEmpty()) {
+            throw new IllegalArgumentException("On CriteriaCondition#" + condition + ", you must use at least one element");
+        }
+        Element element = Element.of(condition.getNameField(), List.copyOf(elements));
+        return new CriteriaCondition(element, condition);
+    }
+
     private static void checkInClause(Value value) {
         if (!value.isInstanceOf(Iterable.class)) {
             throw new IllegalArgumentException("On CriteriaCondition#in, you must use an iterable" +
@@ -24,6 +24,7 @@ import org.eclipse.jnosql.communication.TypeReference;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 
 enum CursorExecutor {
 
@@ -53,7 +54,7 @@ enum CursorExecutor {
         public CursoredPage<CommunicationEntity> cursor(SelectQuery query, PageRequest pageRequest, DatabaseManager template) {
 
             var cursor = pageRequest.cursor().orElseThrow();
-            var condition = condition(query, cursor);
+            var condition = condition(query, cursor, template);
 
             var select = updateQuery(pageRequest.size(), query, condition);
 
@@ -70,24 +71,12 @@ enum CursorExecutor {
             }
         }
 
-        private static CriteriaCondition condition(SelectQuery query, PageRequest.Cursor cursor) {
-            CriteriaCondition condition = null;
-            CriteriaCondition previousCondition = null;
-            List<Sort<?>> sorts = query.sorts();
-            checkCursorKeySizes(cursor, sorts);
-            for (int index = 0; index < sorts.size(); index++) {
-                Sort<?> sort = sorts.get(index);
-                Object key = cursor.get(index);
-                if(condition == null) {
-                    condition = CriteriaCondition.gt(sort.property(), key);
-                    previousCondition = CriteriaCondition.eq(sort.property(), key);
-                } else {
-                    condition = condition.or(previousCondition.and(CriteriaCondition.gt(sort.property(), key)));
-                    previousCondition = previousCondition.and(CriteriaCondition.eq(sort.property(), key));
-                }
-
+        private static CriteriaCondition condition(SelectQuery query, PageRequest.Cursor cursor, DatabaseManager template) {
+            var keys = keys(query.sorts(), cursor);
+            if (supportsTuple(query.sorts(), template)) {
+                return CriteriaCondition.gtTuple(keys);
             }
-            return condition;
+            return expand(keys, CriteriaCondition::gt);
         }
 
 
@@ -95,7 +84,7 @@ enum CursorExecutor {
         @Override
         public CursoredPage<CommunicationEntity> cursor(SelectQuery query, PageRequest pageRequest, DatabaseManager template) {
             var cursor = pageRequest.cursor().orElseThrow();
-            var condition = condition(query, cursor);
+            var condition = condition(query, cursor, template);
 
             var select = updateQuery(pageRequest.size(), query, condition);
 
@@ -112,24 +101,12 @@ enum CursorExecutor {
             }
         }
 
-        private static CriteriaCondition condition(SelectQuery query, PageRequest.Cursor cursor) {
-            CriteriaCondition condition = null;
-            CriteriaCondition previousCondition = null;
-            List<Sort<?>> sorts = query.sorts();
-            checkCursorKeySizes(cursor, sorts);
-            for (int index = 0; index < sorts.size(); index++) {
-                Sort<?> sort = sorts.get(index);
-                Object key = cursor.get(index);
-                if(condition == null) {
-                    condition = CriteriaCondition.lt(sort.property(), key);
-                    previousCondition = CriteriaCondition.eq(sort.property(), key);
-                } else {
-                    condition = condition.or(previousCondition.and(CriteriaCondition.lt(sort.property(), key)));
-                    previousCondition = previousCondition.and(CriteriaCondition.eq(sort.property(), key));
-                }
-
+        private static CriteriaCondition condition(SelectQuery query, PageRequest.Cursor cursor, DatabaseManager template) {
+            var keys = keys(query.sorts(), cursor);
+            if (supportsTuple(query.sorts(), template)) {
+                return CriteriaCondition.ltTuple(keys);
             }
-            return condition;
+            return expand(keys, CriteriaCondition::lt);
         }
     };
 
@@ -181,6 +158,49 @@ enum CursorExecutor {
                         .orElse(condition),false);
     }
 
+    private static List<Element> keys(List<Sort<?>> sorts, PageRequest.Cursor cursor) {
+        checkCursorKeySizes(cursor, sorts);
+        List<Element> keys = new ArrayList<>(sorts.size());
+        for (int index = 0; index < sorts.size(); index++) {
+            keys.add(Element.of(sorts.get(index).property(), cursor.get(index)));
+        }
+        return keys;
+    }
+
+    /**
+     * The tuple compares every key in the same direction, so it is used only when all the sorts are ascending;
+     * any descending sort keeps the expansion of {@link #expand(List, Function)}.
+     */
+    private static boolean supportsTuple(List<Sort<?>> sorts, DatabaseManager template) {
+        Capabilities capabilities = template.capabilities();
+        return capabilities != null && capabilities.supports(Capability.TUPLE_COMPARISON)
+                && sorts.stream().allMatch(Sort::isAscending);
+    }
+
+    /**
+     * Expands the keyset to {@code a > x OR (a = x AND b > y) OR (a = x AND b = y AND c > z)}, for the databases
+     * without the {@link Capability#TUPLE_COMPARISON}. Each branch is created once from the equalities of the
+     * previous keys, instead of copying the conjunctions on every key.
+     */
+    private static CriteriaCondition expand(List<Element> keys, Function<Element, CriteriaCondition> comparison) {
+        if (keys.size() == 1) {
+            return comparison.apply(keys.get(0));
+        }
+        List<CriteriaCondition> branches = new ArrayList<>(keys.size());
+        List<CriteriaCondition> equals = new ArrayList<>(keys.size());
+        for (Element key : keys) {
+            if (equals.isEmpty()) {
+                branches.add(comparison.apply(key));
+            } else {
+                CriteriaCondition[] branch = equals.toArray(new CriteriaCondition[equals.size() + 1]);
+                branch[equals.size()] = comparison.apply(key);
+                branches.add(CriteriaCondition.and(branch));
+            }
+            equals.add(CriteriaCondition.eq(key));
+        }
+        return CriteriaCondition.or(branches.toArray(CriteriaCondition[]::new));
+    }
+
     private static void checkCursorKeySizes(PageRequest.Cursor cursor, List<Sort<?>> sorts) {
         if(sorts.size() != cursor.size()) {
             throw new IllegalArgumentException("The cursor size is different from the sort size. Cursor: "
@@ -14,11 +14,15 @@ package org.eclipse.jnosql.communication.semistructured;
 import jakarta.data.exceptions.NonUniqueResultException;
 import jakarta.data.page.CursoredPage;
 import jakarta.data.page.PageRequest;
+import org.eclipse.jnosql.communication.StreamPublisher;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 
 /**
@@ -155,10 +159,13 @@ public interface DatabaseManager extends AutoCloseable {
     /**
      * Modifies an existing entity in the database based on the specified query.
      *
-     * <p>This default implementation of the update operation is executed in memory. It fetches the
-     * entities using a selection query, applies updates in memory, and then writes each updated entity
-     * back to the database. While this method provides a straightforward and universal approach, it may
-     * impact performance due to multiple database read and write operations.</p>
+     * <p>This default implementation of the update operation is executed in memory. It streams the
+     * entities of a selection query, applies updates in memory, and then writes the updated entities
+     * back to the database through {@link #update(Iterable)}, in batches. While this method provides a
+     * straightforward and universal approach, it may impact performance due to multiple database read and
+     * write operations, and it keeps every updated entity to return them; use {@link #bulkUpdate(UpdateQuery)}
+     * when the updated entities are not needed. Like {@link #bulkUpdate(UpdateQuery)}, it writes the batches
+     * while the selection is read and needs a stable snapshot from {@link #select(SelectQuery)}.</p>
      *
      * <p>To enhance performance, especially in production environments, it is recommended that this
      * method is overridden by the database driver to perform the update operation directly in the database.
@@ -176,8 +183,43 @@ public interface DatabaseManager extends AutoCloseable {
      */
     default Iterable<CommunicationEntity> update(UpdateQuery query) {
         Objects.requireNonNull(query, "query is required");
-        var entities = this.select(query.toSelectQuery());
-        return entities.peek(e -> e.addAll(query.set())).map(this::update).toList();
+        List<CommunicationEntity> updated = new ArrayList<>();
+        UpdateExecutor.INSTANCE.execute(this, query, entities -> entities.forEach(updated::add));
+        return updated;
+    }
+
+    /**
+     * Modifies every entity in the database that matches the specified query, returning the number of
+     * updated entities instead of the entities themselves.
+     *
+     * <p>This default implementation streams the entities of a selection query and writes them back
+     * through {@link #update(Iterable)} in batches, so only one batch of entities is held in memory at a time,
+     * whatever the number of matching entities. The whole entities are read and written, since
+     * {@link #update(CommunicationEntity)} replaces the stored entity. When the driver overrides
+     * {@link #update(UpdateQuery)}, this default implementation uses it instead.</p>
+     *
+     * <p>Each batch is written while the stream of the selection query is still open. A driver that relies on this
+     * default implementation must return a stable snapshot from {@link #select(SelectQuery)}, one that writes made
+     * while it is read do not change: a live cursor or a paginated read could otherwise skip entities or return them
+     * twice, especially when the {@link UpdateQuery#set()} elements change a column of the condition or of the sort.
+     * A driver that cannot give that guarantee should override this method.</p>
+     *
+     * <p>Database drivers that can update the matching entities directly in the database, in a single
+     * operation, should override this method.</p>
+     *
+     * @param query the query used to select entities to update
+     * @return the number of updated entities
+     * @throws NullPointerException if the query is null
+     */
+    default long bulkUpdate(UpdateQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        long[] count = {0L};
+        if (UpdateExecutor.INSTANCE.isNative(this)) {
+            update(query).forEach(entity -> count[0]++);
+            return count[0];
+        }
+        UpdateExecutor.INSTANCE.execute(this, query, entities -> entities.forEach(entity -> count[0]++));
+        return count[0];
     }
 
     /**
@@ -199,9 +241,30 @@ public interface DatabaseManager extends AutoCloseable {
      */
     Stream<CommunicationEntity> select(SelectQuery query);
 
+    /**
+     * Finds entities in the database based on the specified query, emitting them to a {@link Flow.Subscriber}
+     * under its demand.
+     *
+     * <p>This default implementation reads the {@link #select(SelectQuery)} stream as the subscriber requests
+     * the entities, and closes it on completion, error or cancellation; see {@link StreamPublisher}. Database
+     * drivers with a reactive or a paged client should override it to fetch the entities under demand from the
+     * database.</p>
+     *
+     * @param query the query used to select entities
+     * @return a publisher of the entities found by the query, that runs the query for each subscriber
+     * @throws NullPointerException when the query is null
+     */
+    default Flow.Publisher<CommunicationEntity> selectPublisher(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return StreamPublisher.of(() -> this.select(query));
+    }
+
     /**
      * Returns the number of entities in the database that match the specified query.
      *
+     * <p>This default implementation streams every matching entity to count them; database drivers that count
+     * natively should override it, which is reported as {@link Capability#COUNT}.</p>
+     *
      * @param query the query
      * @return the number of entities returned by the query
      * @throws NullPointerException when the query is null
@@ -345,6 +408,21 @@ public interface DatabaseManager extends AutoCloseable {
      */
     long count(String entity);
 
+    /**
+     * Returns the operations that this manager executes natively in the database, instead of through the
+     * in-memory fallback of the default methods, such as {@link #count(SelectQuery)} streaming every matching
+     * entity. The mapping layer uses it to choose a pushdown strategy and to report the fallbacks in use.
+     *
+     * <p>This default implementation infers the capabilities from the default methods that the manager
+     * overrides; see {@link Capabilities}. Database drivers should override it to declare the capabilities
+     * that cannot be inferred, such as {@link Capability#TUPLE_COMPARISON}.</p>
+     *
+     * @return the capabilities of this manager
+     */
+    default Capabilities capabilities() {
+        return Capabilities.infer(getClass());
+    }
+
     /**
      * Closes the database manager and releases any associated resources.
      */
@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+record DefaultAsyncDatabaseManager(DatabaseManager manager, Executor executor) implements AsyncDatabaseManager {
+
+    @Override
+    public String name() {
+        return manager.name();
+    }
+
+    @Override
+    public CompletionStage<CommunicationEntity> insert(CommunicationEntity entity) {
+        requireNonNull(entity, "entity is required");
+        return CompletableFuture.supplyAsync(() -> manager.insert(entity), executor);
+    }
+
+    @Override
+    public CompletionStage<CommunicationEntity> insert(CommunicationEntity entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        return CompletableFuture.supplyAsync(() -> manager.insert(entity, ttl), executor);
+    }
+
+    @Override
+    public CompletionStage<Iterable<CommunicationEntity>> insert(Iterable<CommunicationEntity> entities) {
+        requireNonNull(entities, "entities is required");
+        return CompletableFuture.supplyAsync(() -> manager.insert(entities), executor);
+    }
+
+    @Override
+    public CompletionStage<Iterable<CommunicationEntity>> insert(Iterable<CommunicationEntity> entities, Duration ttl) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl is required");
+        return CompletableFuture.supplyAsync(() -> manager.insert(entities, ttl), executor);
+    }
+
+    @Override
+    public CompletionStage<CommunicationEntity> update(CommunicationEntity entity) {
+        requireNonNull(entity, "entity is required");
+        return CompletableFuture.supplyAsync(() -> manager.update(entity), executor);
+    }
+
+    @Override
+    public CompletionStage<Iterable<CommunicationEntity>> update(Iterable<CommunicationEntity> entities) {
+        requireNonNull(entities, "entities is required");
+        return CompletableFuture.supplyAsync(() -> manager.update(entities), executor);
+    }
+
+    @Override
+    public CompletionStage<Long> bulkUpdate(UpdateQuery query) {
+        requireNonNull(query, "query is required");
+        return CompletableFuture.supplyAsync(() -> manager.bulkUpdate(query), executor);
+    }
+
+    @Override
+    public CompletionStage<Void> delete(DeleteQuery query) {
+        requireNonNull(query, "query is required");
+        return CompletableFuture.runAsync(() -> manager.delete(query), executor);
+    }
+
+    @Override
+    public CompletionStage<List<CommunicationEntity>> select(SelectQuery query) {
+        requireNonNull(query, "query is required");
+        return CompletableFuture.supplyAsync(() -> {
+            try (Stream<CommunicationEntity> entities = manager.select(query)) {
+                return entities.toList();
+            }
+        }, executor);
+    }
+
+    @Override
+    public CompletionStage<Optional<CommunicationEntity>> singleResult(SelectQuery query) {
+        requireNonNull(query, "query is required");
+        return CompletableFuture.supplyAsync(() -> manager.singleResult(query), executor);
+    }
+
+    @Override
+    public CompletionStage<Long> count(SelectQuery query) {
+        requireNonNull(query, "query is required");
+        return CompletableFuture.supplyAsync(() -> manager.count(query), executor);
+    }
+
+    @Override
+    public CompletionStage<Boolean> exists(SelectQuery query) {
+        requireNonNull(query, "query is required");
+        return CompletableFuture.supplyAsync(() -> manager.exists(query), executor);
+    }
+
+    @Override
+    public CompletionStage<Long> count(String entity) {
+        requireNonNull(entity, "entity is required");
+        return CompletableFuture.supplyAsync(() -> manager.count(entity), executor);
+    }
+}
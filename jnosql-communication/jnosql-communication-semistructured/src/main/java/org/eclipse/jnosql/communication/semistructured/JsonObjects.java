@@ -11,22 +11,73 @@
 package org.eclipse.jnosql.communication.semistructured;
 
 
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
 import jakarta.json.JsonObject;
-import jakarta.json.bind.Jsonb;
-import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
+/**
+ * Converts a {@link JsonObject} to a list of {@link Element} walking the {@link JsonValue} tree,
+ * with the same structure as {@link Elements#of(Map)}: the null values are skipped, an object with a single
+ * attribute becomes an {@link Element}, an object with many attributes a list of {@link Element} and an array
+ * a {@link List}. An integral number becomes an {@link Integer}, {@link Long} or {@link java.math.BigInteger},
+ * in the narrowest type that holds it, and a decimal number a {@link java.math.BigDecimal}.
+ */
 final class JsonObjects {
 
-    private static final Jsonb JSON = JsonbBuilder.create();
-
     private JsonObjects() {
     }
 
     static List<Element> getColumns(JsonObject jsonObject) {
-        Map<String, Object> map = JSON.fromJson(jsonObject.toString(), Map.class);
-        return Elements.of(map);
+        Objects.requireNonNull(jsonObject, "jsonObject is required");
+        List<Element> elements = new ArrayList<>(jsonObject.size());
+        for (Map.Entry<String, JsonValue> entry : jsonObject.entrySet()) {
+            JsonValue value = entry.getValue();
+            if (value != null && value.getValueType() != JsonValue.ValueType.NULL) {
+                elements.add(Element.of(entry.getKey(), getValue(value)));
+            }
+        }
+        return elements;
     }
 
+    private static Object getValue(JsonValue value) {
+        return switch (value.getValueType()) {
+            case OBJECT -> {
+                List<Element> elements = getColumns(value.asJsonObject());
+                yield elements.size() == 1 ? elements.get(0) : elements;
+            }
+            case ARRAY -> {
+                JsonArray array = value.asJsonArray();
+                List<Object> values = new ArrayList<>(array.size());
+                for (JsonValue item : array) {
+                    values.add(getValue(item));
+                }
+                yield values;
+            }
+            case STRING -> ((JsonString) value).getString();
+            case NUMBER -> getNumber((JsonNumber) value);
+            case TRUE -> Boolean.TRUE;
+            case FALSE -> Boolean.FALSE;
+            case NULL -> null;
+        };
+    }
+
+    private static Number getNumber(JsonNumber number) {
+        if (!number.isIntegral()) {
+            return number.bigDecimalValue();
+        }
+        var integer = number.bigIntegerValue();
+        if (integer.bitLength() < Integer.SIZE) {
+            return integer.intValue();
+        } else if (integer.bitLength() < Long.SIZE) {
+            return integer.longValue();
+        }
+        return integer;
+    }
 }
@@ -0,0 +1,148 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.query.DeleteQuery;
+import org.eclipse.jnosql.communication.query.SelectQuery;
+import org.eclipse.jnosql.communication.query.UpdateQuery;
+import org.eclipse.jnosql.communication.query.data.DeleteProvider;
+import org.eclipse.jnosql.communication.query.data.SelectProvider;
+import org.eclipse.jnosql.communication.query.data.UpdateProvider;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A bounded, thread-safe cache of the parsed JDQL queries used by {@link QueryParser}.
+ *
+ * <p>Parsing a query text with ANTLR is the most expensive step to create a {@link CommunicationPreparedStatement}.
+ * The parsed query is immutable and does not depend on the {@link CommunicationObserverParser}, so it is kept by
+ * query text and entity; each statement still maps it through the observer with its own {@link org.eclipse.jnosql.communication.Params}.
+ * When the cache is full, the least recently used query is evicted.</p>
+ *
+ * <p>The maximum size is read from the {@value #MAXIMUM_SIZE} system property, the default is
+ * {@value #DEFAULT_MAXIMUM_SIZE}; zero disables the cache.</p>
+ */
+public final class QueryCache {
+
+    /**
+     * The system property that defines the maximum number of queries kept in the cache.
+     */
+    public static final String MAXIMUM_SIZE = "jnosql.query.cache.maximum.size";
+
+    /**
+     * The default maximum number of queries kept in the cache.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1_000;
+
+    private static final QueryCache INSTANCE = new QueryCache(Integer.getInteger(MAXIMUM_SIZE, DEFAULT_MAXIMUM_SIZE));
+
+    private final Map<QueryKey, Object> queries;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    QueryCache(int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("The maximum size of the query cache cannot be negative: " + maximumSize);
+        }
+        this.queries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<QueryKey, Object> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the number of times a parsed query was found in the cache.
+     *
+     * @return the number of hits
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of times a query had to be parsed because it was not in the cache.
+     *
+     * @return the number of misses
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of parsed queries currently in the cache.
+     *
+     * @return the cache size
+     */
+    public int size() {
+        synchronized (queries) {
+            return queries.size();
+        }
+    }
+
+    /**
+     * Removes all the parsed queries and resets the hit and miss counters.
+     */
+    public void clear() {
+        synchronized (queries) {
+            queries.clear();
+        }
+        hits.reset();
+        misses.reset();
+    }
+
+    /**
+     * Returns the cache shared by all the {@link QueryParser} instances.
+     *
+     * @return the {@link QueryCache} instance
+     */
+    public static QueryCache instance() {
+        return INSTANCE;
+    }
+
+    SelectQuery select(String query, String entity) {
+        return get(new QueryKey(QueryType.SELECT, query, entity), () -> new SelectProvider().apply(query, entity));
+    }
+
+    DeleteQuery delete(String query) {
+        return get(new QueryKey(QueryType.DELETE, query, null), () -> new DeleteProvider().apply(query));
+    }
+
+    UpdateQuery update(String query) {
+        return get(new QueryKey(QueryType.UPDATE, query, null), () -> new UpdateProvider().apply(query));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(QueryKey key, Supplier<T> parser) {
+        synchronized (queries) {
+            Object query = queries.get(key);
+            if (query != null) {
+                hits.increment();
+                return (T) query;
+            }
+        }
+        misses.increment();
+        T query = parser.get();
+        synchronized (queries) {
+            queries.putIfAbsent(key, query);
+        }
+        return query;
+    }
+
+    private record QueryKey(QueryType type, String query, String entity) {
+    }
+}
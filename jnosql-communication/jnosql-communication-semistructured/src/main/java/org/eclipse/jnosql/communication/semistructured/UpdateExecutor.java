@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Executes an {@link UpdateQuery} in memory for the databases that do not update natively: the matching entities
+ * are streamed from the select query, the {@link UpdateQuery#set()} elements are applied, and the entities are
+ * written back through {@link DatabaseManager#update(Iterable)} in batches of {@link #BATCH_SIZE}, so only one batch
+ * is held in memory at a time. The batches are written while the select stream is open, so it relies on the
+ * {@link DatabaseManager#select(SelectQuery)} of the driver returning a stable snapshot, as documented at
+ * {@link DatabaseManager#bulkUpdate(UpdateQuery)}.
+ */
+enum UpdateExecutor {
+
+    INSTANCE;
+
+    /**
+     * The maximum number of entities sent to {@link DatabaseManager#update(Iterable)} in a single call.
+     */
+    static final int BATCH_SIZE = 1_000;
+
+    private final ClassValue<Boolean> nativeUpdates = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("update", UpdateQuery.class).getDeclaringClass() != DatabaseManager.class;
+            } catch (NoSuchMethodException exception) {
+                return false;
+            }
+        }
+    };
+
+    /**
+     * Checks if the manager overrides {@link DatabaseManager#update(UpdateQuery)}, which means the database
+     * updates the matching entities natively.
+     *
+     * @param manager the database manager
+     * @return true when the update by query is overridden
+     */
+    boolean isNative(DatabaseManager manager) {
+        return nativeUpdates.get(manager.getClass());
+    }
+
+    /**
+     * Updates the entities that match the query.
+     *
+     * @param manager the database manager
+     * @param query   the update query
+     * @param updated receives the result of each {@link DatabaseManager#update(Iterable)} call
+     */
+    void execute(DatabaseManager manager, UpdateQuery query, Consumer<Iterable<CommunicationEntity>> updated) {
+        try (Stream<CommunicationEntity> entities = manager.select(query.toSelectQuery())) {
+            Iterator<CommunicationEntity> iterator = entities.iterator();
+            List<CommunicationEntity> batch = new ArrayList<>();
+            while (iterator.hasNext()) {
+                CommunicationEntity entity = iterator.next();
+                entity.addAll(query.set());
+                batch.add(entity);
+                if (batch.size() == BATCH_SIZE) {
+                    updated.accept(manager.update(batch));
+                    batch = new ArrayList<>();
+                }
+            }
+            if (!batch.isEmpty()) {
+                updated.accept(manager.update(batch));
+            }
+        }
+    }
+}
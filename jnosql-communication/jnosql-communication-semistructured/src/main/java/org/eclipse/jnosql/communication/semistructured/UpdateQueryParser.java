@@ -14,7 +14,6 @@ package org.eclipse.jnosql.communication.semistructured;
 import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.QueryException;
 import org.eclipse.jnosql.communication.query.UpdateItem;
-import org.eclipse.jnosql.communication.query.data.UpdateProvider;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -60,8 +59,7 @@ public final class UpdateQueryParser implements BiFunction<org.eclipse.jnosql.co
     }
 
     private UpdateQuery getQuery(String query, Params params, CommunicationObserverParser observer) {
-        var converter = new UpdateProvider();
-        var updateQuery = converter.apply(query);
+        var updateQuery = QueryCache.instance().update(query);
         return getQuery(params, observer, updateQuery);
     }
 
@@ -82,8 +80,7 @@ public final class UpdateQueryParser implements BiFunction<org.eclipse.jnosql.co
 
     private UpdateQuery getQuery(String query, CommunicationObserverParser observer) {
 
-        var converter = new UpdateProvider();
-        var updateQuery = converter.apply(query);
+        var updateQuery = QueryCache.instance().update(query);
 
         var entity = observer.fireEntity(updateQuery.entity());
         Params params = Params.newParams();
@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AsyncDatabaseManagerTest {
+
+    private final DatabaseManager manager = Mockito.mock(DatabaseManager.class);
+
+    private final Executor executor = Runnable::run;
+
+    private final AsyncDatabaseManager async = AsyncDatabaseManager.of(manager, executor);
+
+    @Test
+    void shouldInsertAndUpdate() {
+        var entity = CommunicationEntity.of("person");
+        var ttl = Duration.ofMinutes(1);
+        when(manager.insert(entity)).thenReturn(entity);
+        when(manager.update(entity)).thenReturn(entity);
+
+        assertThat(async.insert(entity).toCompletableFuture().join()).isSameAs(entity);
+        assertThat(async.update(entity).toCompletableFuture().join()).isSameAs(entity);
+        async.insert(entity, ttl);
+        async.insert(List.of(entity));
+        async.insert(List.of(entity), ttl);
+        async.update(List.of(entity));
+
+        verify(manager).insert(entity, ttl);
+        verify(manager).insert(List.of(entity));
+        verify(manager).insert(List.of(entity), ttl);
+        verify(manager).update(List.of(entity));
+    }
+
+    @Test
+    void shouldSelectAsList() {
+        var query = SelectQuery.select().from("person").build();
+        var entity = CommunicationEntity.of("person");
+        when(manager.select(query)).thenReturn(Stream.of(entity));
+
+        assertThat(async.select(query).toCompletableFuture().join()).containsExactly(entity);
+    }
+
+    @Test
+    void shouldCountAndExists() {
+        var query = SelectQuery.select().from("person").build();
+        when(manager.count(query)).thenReturn(10L);
+        when(manager.exists(query)).thenReturn(true);
+        when(manager.count("person")).thenReturn(20L);
+        when(manager.singleResult(query)).thenReturn(Optional.empty());
+
+        assertThat(async.count(query).toCompletableFuture().join()).isEqualTo(10L);
+        assertThat(async.exists(query).toCompletableFuture().join()).isTrue();
+        assertThat(async.count("person").toCompletableFuture().join()).isEqualTo(20L);
+        assertThat(async.singleResult(query).toCompletableFuture().join()).isEmpty();
+    }
+
+    @Test
+    void shouldDeleteAndBulkUpdate() {
+        var delete = DeleteQuery.delete().from("person").build();
+        var update = new DefaultUpdateQuery("person", List.of(Element.of("age", 10)), null);
+        when(manager.bulkUpdate(update)).thenReturn(3L);
+
+        async.delete(delete).toCompletableFuture().join();
+
+        verify(manager).delete(delete);
+        assertThat(async.bulkUpdate(update).toCompletableFuture().join()).isEqualTo(3L);
+    }
+
+    @Test
+    void shouldCompleteExceptionally() {
+        var query = SelectQuery.select().from("person").build();
+        when(manager.count(query)).thenThrow(new UnsupportedOperationException("count"));
+
+        assertThatThrownBy(() -> async.count(query).toCompletableFuture().join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldRunTheQueriesConcurrently() throws Exception {
+        var first = SelectQuery.select().from("person").build();
+        var second = SelectQuery.select().from("book").build();
+        var latch = new CountDownLatch(2);
+        when(manager.count(Mockito.any(SelectQuery.class))).thenAnswer(invocation -> {
+            latch.countDown();
+            return latch.await(10, TimeUnit.SECONDS) ? 1L : 0L;
+        });
+        var defaultAsync = AsyncDatabaseManager.of(manager);
+
+        CompletableFuture<Long> total = defaultAsync.count(first)
+                .thenCombine(defaultAsync.count(second), Long::sum).toCompletableFuture();
+
+        assertThat(total.get(10, TimeUnit.SECONDS)).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        assertThatThrownBy(() -> AsyncDatabaseManager.of(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> AsyncDatabaseManager.of(manager, null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> async.select(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> async.insert((CommunicationEntity) null)).isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.mockito.Mockito;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CapabilitiesTest {
+
+    @Test
+    void shouldCreateCapabilities() {
+        var capabilities = Capabilities.of(Capability.COUNT, Capability.TUPLE_COMPARISON);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(capabilities.supports(Capability.COUNT)).isTrue();
+            soft.assertThat(capabilities.supports(Capability.TUPLE_COMPARISON)).isTrue();
+            soft.assertThat(capabilities.supports(Capability.EXISTS)).isFalse();
+            soft.assertThat(capabilities.values()).containsExactly(Capability.COUNT, Capability.TUPLE_COMPARISON);
+            soft.assertThat(capabilities).isEqualTo(Capabilities.of(Capability.TUPLE_COMPARISON, Capability.COUNT))
+                    .hasSameHashCodeAs(Capabilities.of(Capability.TUPLE_COMPARISON, Capability.COUNT));
+        });
+    }
+
+    @Test
+    void shouldReturnNone() {
+        assertThat(Capabilities.none().values()).isEmpty();
+        assertThat(Capabilities.of()).isEqualTo(Capabilities.none());
+    }
+
+    @Test
+    void shouldReturnErrorWhenCapabilityIsNull() {
+        assertThatThrownBy(() -> Capabilities.of((Capability) null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> Capabilities.none().supports(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldNotModifyValues() {
+        var values = Capabilities.of(Capability.COUNT).values();
+        assertThatThrownBy(() -> values.add(Capability.EXISTS)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldInferFromTheDefaultMethods() {
+        var manager = Mockito.mock(DatabaseManager.class, Answers.CALLS_REAL_METHODS);
+        assertThat(manager.capabilities().values()).isEmpty();
+    }
+
+    @Test
+    void shouldInferFromTheOverriddenMethods() {
+        var manager = Mockito.mock(NativeManager.class, Answers.CALLS_REAL_METHODS);
+        assertThat(manager.capabilities().values())
+                .containsExactly(Capability.COUNT, Capability.EXISTS, Capability.BULK_UPDATE);
+    }
+
+    abstract static class NativeManager implements DatabaseManager {
+
+        @Override
+        public long count(SelectQuery query) {
+            return 0L;
+        }
+
+        @Override
+        public boolean exists(SelectQuery query) {
+            return false;
+        }
+
+        @Override
+        public long bulkUpdate(UpdateQuery query) {
+            return 0L;
+        }
+    }
+}
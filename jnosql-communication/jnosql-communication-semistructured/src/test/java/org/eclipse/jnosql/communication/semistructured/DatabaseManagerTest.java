@@ -26,8 +26,11 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Flow;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
@@ -244,6 +247,71 @@ class DatabaseManagerTest {
         });
     }
 
+    @Test
+    void shouldReturnPaginationAfterKeyAsTupleWhenItIsSupported() {
+        SelectQuery query = SelectQuery.select().from("person")
+                .where("address").eq("street")
+                .orderBy("name").asc()
+                .orderBy("age").asc()
+                .build();
+        Mockito.doReturn(Capabilities.of(Capability.TUPLE_COMPARISON)).when(databaseManager).capabilities();
+        Mockito.when(databaseManager.select(Mockito.any(SelectQuery.class)))
+                .thenReturn(stream());
+
+        databaseManager.selectCursor(query, PageRequest.afterCursor(PageRequest.Cursor.forKey("Ada", 20), 1, 10, false));
+
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        Mockito.verify(databaseManager).select(captor.capture());
+        CriteriaCondition condition = captor.getValue().condition().orElseThrow();
+        List<CriteriaCondition> conditions = condition.element().get(new TypeReference<>() {
+        });
+
+        assertSoftly(soft -> {
+            soft.assertThat(condition.condition()).isEqualTo(Condition.AND);
+            soft.assertThat(conditions).containsExactly(CriteriaCondition.eq("address", "street"),
+                    CriteriaCondition.gtTuple(List.of(Element.of("name", "Ada"), Element.of("age", 20))));
+        });
+    }
+
+    @Test
+    void shouldReturnPaginationBeforeKeyAsTupleWhenItIsSupported() {
+        SelectQuery query = SelectQuery.select().from("person")
+                .orderBy("name").asc()
+                .orderBy("age").asc()
+                .build();
+        Mockito.doReturn(Capabilities.of(Capability.TUPLE_COMPARISON)).when(databaseManager).capabilities();
+        Mockito.when(databaseManager.select(Mockito.any(SelectQuery.class)))
+                .thenReturn(stream());
+
+        databaseManager.selectCursor(query, PageRequest.beforeCursor(PageRequest.Cursor.forKey("Ada", 20), 1, 10, false));
+
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        Mockito.verify(databaseManager).select(captor.capture());
+
+        Assertions.assertThat(captor.getValue().condition()).contains(
+                CriteriaCondition.ltTuple(List.of(Element.of("name", "Ada"), Element.of("age", 20))));
+    }
+
+    @Test
+    void shouldExpandTheKeysInsteadOfTupleWhenTheDirectionsAreMixed() {
+        SelectQuery query = SelectQuery.select().from("person")
+                .orderBy("name").desc()
+                .orderBy("age").asc()
+                .build();
+        Mockito.doReturn(Capabilities.of(Capability.TUPLE_COMPARISON)).when(databaseManager).capabilities();
+        Mockito.when(databaseManager.select(Mockito.any(SelectQuery.class)))
+                .thenReturn(stream());
+
+        databaseManager.selectCursor(query, PageRequest.afterCursor(PageRequest.Cursor.forKey("Ada", 20), 1, 10, false));
+
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        Mockito.verify(databaseManager).select(captor.capture());
+
+        Assertions.assertThat(captor.getValue().condition()).contains(
+                CriteriaCondition.or(CriteriaCondition.gt("name", "Ada"),
+                        CriteriaCondition.eq("name", "Ada").and(CriteriaCondition.gt("age", 20))));
+    }
+
     @Test
     void shouldFindSubElement() {
         SelectQuery query = SelectQuery.select().from("person")
@@ -536,6 +604,43 @@ class DatabaseManagerTest {
         Assertions.assertThat(entity).isEmpty();
     }
 
+    @Test
+    void shouldSelectPublisher(){
+        SelectQuery query = SelectQuery.select().from("person").build();
+        var ada = CommunicationEntity.of("person", List.of(Element.of("name", "Ada")));
+        var poliana = CommunicationEntity.of("person", List.of(Element.of("name", "Poliana")));
+        Mockito.when(databaseManager.select(query)).thenReturn(Stream.of(ada, poliana));
+
+        List<CommunicationEntity> entities = new ArrayList<>();
+        databaseManager.selectPublisher(query).subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(CommunicationEntity item) {
+                entities.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                fail(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        Assertions.assertThat(entities).containsExactly(ada);
+    }
+
+    @Test
+    void shouldReturnErrorWhenSelectPublisherQueryIsNull(){
+        assertThrows(NullPointerException.class, () -> databaseManager.selectPublisher(null));
+    }
+
     @Test
     void shouldExecuteUpdate(){
         List<Element> elements = List.of(Element.of("name", "Ada"), Element.of("age", 10));
@@ -544,23 +649,89 @@ class DatabaseManagerTest {
         var entity = CommunicationEntity.of("person");
         entity.add("name", "Poliana");
         Mockito.when(databaseManager.select(select)).thenReturn(Stream.of(entity));
+        Mockito.when(databaseManager.update(Mockito.<Iterable<CommunicationEntity>>any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
 
-        databaseManager.update(updateQuery);
+        var updated = databaseManager.update(updateQuery);
 
-        ArgumentCaptor<CommunicationEntity> captor = ArgumentCaptor.forClass(CommunicationEntity.class);
+        ArgumentCaptor<Iterable<CommunicationEntity>> captor = ArgumentCaptor.forClass(Iterable.class);
         Mockito.verify(databaseManager).update(captor.capture());
 
-        CommunicationEntity communication = captor.getValue();
+        CommunicationEntity communication = captor.getValue().iterator().next();
 
         SoftAssertions.assertSoftly(soft ->{
+            soft.assertThat(updated).containsExactly(communication);
             soft.assertThat(communication.find("name").orElseThrow().get()).isEqualTo("Ada");
             soft.assertThat(communication.find("age").orElseThrow().get()).isEqualTo(10);
             soft.assertThat(communication.name()).isEqualTo("person");
         });
+    }
+
+    @Test
+    void shouldExecuteUpdateInBatches(){
+        var updateQuery = new DefaultUpdateQuery("person", List.of(Element.of("age", 10)), null);
+        Mockito.when(databaseManager.select(Mockito.any(SelectQuery.class))).thenReturn(people(2_500));
+        Mockito.when(databaseManager.update(Mockito.<Iterable<CommunicationEntity>>any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
 
+        var updated = databaseManager.update(updateQuery);
 
+        ArgumentCaptor<Iterable<CommunicationEntity>> captor = ArgumentCaptor.forClass(Iterable.class);
+        Mockito.verify(databaseManager, Mockito.times(3)).update(captor.capture());
+
+        SoftAssertions.assertSoftly(soft ->{
+            soft.assertThat(updated).hasSize(2_500)
+                    .allMatch(entity -> entity.find("age").orElseThrow().get().equals(10));
+            soft.assertThat(captor.getAllValues()).map(batch -> (List<CommunicationEntity>) batch)
+                    .map(List::size).containsExactly(1_000, 1_000, 500);
+        });
+    }
+
+    @Test
+    void shouldExecuteBulkUpdate(){
+        var updateQuery = new DefaultUpdateQuery("person", List.of(Element.of("age", 10)), null);
+        Mockito.when(databaseManager.select(Mockito.any(SelectQuery.class))).thenReturn(people(1_001));
+        Mockito.when(databaseManager.update(Mockito.<Iterable<CommunicationEntity>>any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        long updated = databaseManager.bulkUpdate(updateQuery);
+
+        Assertions.assertThat(updated).isEqualTo(1_001L);
+        Mockito.verify(databaseManager, Mockito.times(2)).update(Mockito.<Iterable<CommunicationEntity>>any());
+        Mockito.verify(databaseManager, Mockito.never()).update(Mockito.any(UpdateQuery.class));
     }
 
+    @Test
+    void shouldUseTheUpdateQueryOverriddenAtBulkUpdate(){
+        var updateQuery = new DefaultUpdateQuery("person", List.of(Element.of("age", 10)), null);
+        var manager = Mockito.mock(NativeUpdateManager.class, Answers.CALLS_REAL_METHODS);
+
+        long updated = manager.bulkUpdate(updateQuery);
+
+        Assertions.assertThat(updated).isEqualTo(2L);
+        Mockito.verify(manager, Mockito.never()).select(Mockito.any(SelectQuery.class));
+    }
+
+    @Test
+    void shouldReturnErrorWhenBulkUpdateQueryIsNull(){
+        assertThrows(NullPointerException.class, () -> databaseManager.bulkUpdate(null));
+    }
+
+    abstract static class NativeUpdateManager implements DatabaseManager {
+
+        @Override
+        public Iterable<CommunicationEntity> update(UpdateQuery query) {
+            return List.of(CommunicationEntity.of(query.name()), CommunicationEntity.of(query.name()));
+        }
+    }
+
+    private Stream<CommunicationEntity> people(int size) {
+        return IntStream.range(0, size).mapToObj(index -> {
+            var entity = CommunicationEntity.of("person");
+            entity.add("id", index);
+            return entity;
+        });
+    }
 
     private Stream<CommunicationEntity> stream() {
         var entity = CommunicationEntity.of("name");
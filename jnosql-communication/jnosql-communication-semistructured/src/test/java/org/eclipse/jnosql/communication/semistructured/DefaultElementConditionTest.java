@@ -238,4 +238,24 @@ class DefaultElementConditionTest {
         assertThat(integers).contains(12, 13);
     }
 
+    @Test
+    void shouldReturnErrorWhenTupleIsInvalid() {
+        assertThrows(NullPointerException.class, () -> CriteriaCondition.gtTuple(null));
+        assertThrows(IllegalArgumentException.class, () -> CriteriaCondition.ltTuple(List.of()));
+    }
+
+    @Test
+    void shouldReturnTuple() {
+        List<Element> keys = List.of(Element.of("name", "Ada"), Element.of("age", 20));
+        CriteriaCondition greater = CriteriaCondition.gtTuple(keys);
+        CriteriaCondition lesser = CriteriaCondition.ltTuple(keys);
+
+        assertEquals(Condition.GREATER_THAN_TUPLE, greater.condition());
+        assertEquals(Condition.LESSER_THAN_TUPLE, lesser.condition());
+        assertEquals(Condition.GREATER_THAN_TUPLE.getNameField(), greater.element().name());
+        List<Element> elements = greater.element().get(new TypeReference<>() {
+        });
+        assertThat(elements).containsExactlyElementsOf(keys);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import jakarta.json.Json;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonObjectsTest {
+
+    @Test
+    void shouldConvertTypedValues() {
+        var json = Json.createObjectBuilder()
+                .add("name", "Ada")
+                .add("age", 10)
+                .add("population", 8_000_000_000L)
+                .add("huge", new BigInteger("123456789012345678901234567890"))
+                .add("salary", new BigDecimal("10.5"))
+                .add("active", true)
+                .add("deleted", false)
+                .addNull("nickname")
+                .build();
+
+        List<Element> elements = JsonObjects.getColumns(json);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(elements).extracting(Element::name)
+                    .containsExactly("name", "age", "population", "huge", "salary", "active", "deleted");
+            soft.assertThat(elements).extracting(Element::get)
+                    .containsExactly("Ada", 10, 8_000_000_000L, new BigInteger("123456789012345678901234567890"),
+                            new BigDecimal("10.5"), true, false);
+        });
+    }
+
+    @Test
+    void shouldConvertSubDocuments() {
+        var json = Json.createObjectBuilder()
+                .add("address", Json.createObjectBuilder().add("city", "Salvador").add("zip", "40000"))
+                .add("phone", Json.createObjectBuilder().add("mobile", "1234"))
+                .build();
+
+        List<Element> elements = JsonObjects.getColumns(json);
+
+        assertThat(elements.get(0).get()).isEqualTo(List.of(Element.of("city", "Salvador"), Element.of("zip", "40000")));
+        assertThat(elements.get(1).get()).isEqualTo(Element.of("mobile", "1234"));
+    }
+
+    @Test
+    void shouldConvertArrays() {
+        var json = Json.createObjectBuilder()
+                .add("tags", Json.createArrayBuilder().add("java").add(1).addNull())
+                .add("contacts", Json.createArrayBuilder()
+                        .add(Json.createObjectBuilder().add("name", "Ada").add("age", 10)))
+                .build();
+
+        List<Element> elements = JsonObjects.getColumns(json);
+
+        assertThat(elements.get(0).get()).asList().containsExactly("java", 1, null);
+        assertThat(elements.get(1).get())
+                .isEqualTo(List.of(List.of(Element.of("name", "Ada"), Element.of("age", 10))));
+    }
+
+    @Test
+    void shouldReturnErrorWhenJsonIsNull() {
+        assertThatThrownBy(() -> JsonObjects.getColumns(null)).isInstanceOf(NullPointerException.class);
+    }
+}
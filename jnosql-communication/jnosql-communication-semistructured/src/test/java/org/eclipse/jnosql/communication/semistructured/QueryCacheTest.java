@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.QueryException;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueryCacheTest {
+
+    private final CommunicationObserverParser observer = new CommunicationObserverParser() {
+    };
+
+    @Test
+    void shouldReuseParsedQuery() {
+        var cache = new QueryCache(10);
+        var query = cache.select("FROM Person WHERE name = :name", null);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(cache.select("FROM Person WHERE name = :name", null)).isSameAs(query);
+            soft.assertThat(cache.select("FROM Person WHERE name = :name", "Person")).isNotSameAs(query);
+            soft.assertThat(cache.hits()).isEqualTo(1L);
+            soft.assertThat(cache.misses()).isEqualTo(2L);
+            soft.assertThat(cache.size()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void shouldSplitByQueryType() {
+        var cache = new QueryCache(10);
+        cache.delete("DELETE FROM Person WHERE age > 10");
+        cache.update("UPDATE Person SET age = 10");
+        cache.delete("DELETE FROM Person WHERE age > 10");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(cache.hits()).isEqualTo(1L);
+            soft.assertThat(cache.misses()).isEqualTo(2L);
+            soft.assertThat(cache.size()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        var cache = new QueryCache(2);
+        var first = cache.select("FROM Person", null);
+        cache.select("FROM Animal", null);
+        cache.select("FROM Person", null);
+        cache.select("FROM Book", null);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.select("FROM Person", null)).isSameAs(first);
+        cache.select("FROM Animal", null);
+        assertThat(cache.misses()).isEqualTo(4L);
+    }
+
+    @Test
+    void shouldDisableCacheWhenSizeIsZero() {
+        var cache = new QueryCache(0);
+        cache.select("FROM Person", null);
+        cache.select("FROM Person", null);
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.misses()).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldClear() {
+        var cache = new QueryCache(10);
+        cache.select("FROM Person", null);
+        cache.select("FROM Person", null);
+        cache.clear();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(cache.hits()).isZero();
+            soft.assertThat(cache.misses()).isZero();
+            soft.assertThat(cache.size()).isZero();
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenSizeIsNegative() {
+        assertThatThrownBy(() -> new QueryCache(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldCreateIndependentParams() {
+        var manager = Mockito.mock(DatabaseManager.class);
+        var parser = new QueryParser();
+        var first = parser.prepare("FROM Person WHERE name = :name", null, manager, observer);
+        var second = parser.prepare("FROM Person WHERE name = :name", null, manager, observer);
+        first.bind("name", "Ada");
+
+        assertThat(first.result()).isEmpty();
+        assertThatThrownBy(second::result).isInstanceOf(QueryException.class);
+    }
+}
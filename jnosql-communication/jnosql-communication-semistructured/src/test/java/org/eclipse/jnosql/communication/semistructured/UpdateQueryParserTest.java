@@ -398,6 +398,32 @@ class UpdateQueryParserTest {
         });
     }
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"UPDATE entity SET age = 10 WHERE age = :age"})
+    void shouldExecuteBulkUpdatePrepareStatement(String query) {
+        var captor = ArgumentCaptor.forClass(UpdateQuery.class);
+        Mockito.when(manager.bulkUpdate(Mockito.any())).thenReturn(3L);
+
+        CommunicationPreparedStatement prepare = parser.prepare(query, manager, observer);
+        prepare.bind("age", 12);
+        long updated = prepare.bulkUpdate();
+        Mockito.verify(manager).bulkUpdate(captor.capture());
+        Mockito.verify(manager, Mockito.never()).update(Mockito.any(UpdateQuery.class));
+        var criteriaCondition = captor.getValue().condition().orElseThrow();
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(updated).isEqualTo(3L);
+            soft.assertThat(criteriaCondition.element().name()).isEqualTo("age");
+            soft.assertThat(criteriaCondition.element().get()).isEqualTo(12);
+        });
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"UPDATE entity SET age = 10 WHERE age = :age"})
+    void shouldReturnErrorOnBulkUpdateWhenThereIsNotBind(String query) {
+        CommunicationPreparedStatement prepare = parser.prepare(query, manager, observer);
+        assertThrows(QueryException.class, prepare::bulkUpdate);
+    }
+
     private void checkBaseQuery(UpdateQuery updateQuery) {
         assertEquals("entity", updateQuery.name());
     }
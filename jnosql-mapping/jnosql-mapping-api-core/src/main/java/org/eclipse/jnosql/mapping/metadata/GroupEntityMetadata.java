@@ -14,7 +14,9 @@
  */
 package org.eclipse.jnosql.mapping.metadata;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * This interface represents metadata for grouped entities in the context of a data mapping framework.
@@ -39,4 +41,15 @@ public interface GroupEntityMetadata {
      * @return A map containing Java classes and their corresponding metadata.
      */
     Map<Class<?>, EntityMetadata> classes();
+
+    /**
+     * Returns the scanned entities and embeddables whose {@link EntityMetadata} was not created yet,
+     * and that are neither at {@link #mappings()} nor at {@link #classes()}.
+     * Their metadata is created on the first use.
+     *
+     * @return the classes to load lazily, by default an empty set
+     */
+    default Set<Class<?>> lazyClasses() {
+        return Collections.emptySet();
+    }
 }
\ No newline at end of file
@@ -16,27 +16,35 @@ package org.eclipse.jnosql.mapping.core;
 
 
 import jakarta.enterprise.context.ApplicationScoped;
-import jakarta.enterprise.context.spi.CreationalContext;
 import jakarta.enterprise.inject.spi.Bean;
 import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.inject.Inject;
 import jakarta.nosql.AttributeConverter;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldParameterMetadata;
 
 import java.util.Iterator;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * The {@link jakarta.nosql.Convert} collection, this instance will generate/create an instance.
+ * The bean of each converter type is looked up once. Only a normal-scoped bean is kept, as its client proxy;
+ * a dependent bean, or a converter created by its constructor when it is not a CDI bean, is created on each use,
+ * since such a converter might hold state.
  */
 @ApplicationScoped
 public class Converters {
 
     private static final Logger LOGGER = Logger.getLogger(Converters.class.getName());
 
+    private final Map<Class<?>, Resolution> resolutions = new ConcurrentHashMap<>();
+
     @Inject
     private BeanManager beanManager;
 
@@ -49,37 +57,71 @@ public class Converters {
      * @return a converter instance
      * @throws NullPointerException when converter is null
      */
+    @SuppressWarnings("unchecked")
     public <X, Y> AttributeConverter<X, Y> get(FieldParameterMetadata metadata) {
         Objects.requireNonNull(metadata, "The metadata is required");
-        return getInstance(metadata);
-    }
-
-
-
-    @SuppressWarnings("unchecked")
-    private <T> T getInstance(FieldParameterMetadata metadata) {
-        Class<T> type = (Class<T>) metadata.converter()
+        Class<?> type = metadata.converter()
                 .orElseThrow(() -> new NoSuchElementException("There is not converter to the field: "
                         + metadata.name() + " in the Field: " + metadata.type()));
+        Resolution resolution = resolutions.computeIfAbsent(type, this::resolve);
+        return (AttributeConverter<X, Y>) instance(type, resolution, metadata);
+    }
 
-        Iterator<Bean<?>> iterator = beanManager.getBeans(type).iterator();
-        if (iterator.hasNext()) {
-            Bean<T> bean = (Bean<T>) iterator.next();
-            CreationalContext<T> ctx = beanManager.createCreationalContext(bean);
-            return (T) beanManager.getReference(bean, type, ctx);
-        } else {
-            LOGGER.log(Level.FINE, "The converter type: " + type + " not found on CDI context, creating by constructor");
-            return (T) metadata.newConverter() .orElseThrow(() -> new NoSuchElementException("There is not converter to the field: "
-                    + metadata.name() + " in the Field: " + metadata.type()));
+    /**
+     * Looks up the converters of the fields and constructor parameters of the entities in advance,
+     * so the first conversion of each field does not pay the CDI lookup.
+     *
+     * @param entities the entities metadata, e.g. the values of {@link org.eclipse.jnosql.mapping.metadata.GroupEntityMetadata#classes()}
+     * @throws NullPointerException when entities is null
+     */
+    public void warmUp(Iterable<EntityMetadata> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        for (EntityMetadata entity : entities) {
+            entity.fields().stream().map(FieldParameterMetadata::converter)
+                    .flatMap(Optional::stream).forEach(type -> resolutions.computeIfAbsent(type, this::resolve));
+            entity.constructor().parameters().stream().map(FieldParameterMetadata::converter)
+                    .flatMap(Optional::stream).forEach(type -> resolutions.computeIfAbsent(type, this::resolve));
         }
+    }
 
+    private Resolution resolve(Class<?> type) {
+        Iterator<Bean<?>> iterator = beanManager.getBeans(type).iterator();
+        if (!iterator.hasNext()) {
+            LOGGER.log(Level.FINE, () -> "The converter type: " + type + " not found on CDI context, creating by constructor");
+            return new Resolution(null, null);
+        }
+        Bean<?> bean = iterator.next();
+        if (beanManager.isNormalScope(bean.getScope())) {
+            Object proxy = beanManager.getReference(bean, type, beanManager.createCreationalContext(bean));
+            return new Resolution(bean, (AttributeConverter<?, ?>) proxy);
+        }
+        return new Resolution(bean, null);
     }
 
+    private AttributeConverter<?, ?> instance(Class<?> type, Resolution resolution, FieldParameterMetadata metadata) {
+        if (resolution.shared() != null) {
+            return resolution.shared();
+        }
+        if (resolution.bean() != null) {
+            Bean<?> bean = resolution.bean();
+            return (AttributeConverter<?, ?>) beanManager.getReference(bean, type, beanManager.createCreationalContext(bean));
+        }
+        return (AttributeConverter<?, ?>) metadata.newConverter().orElseThrow(() -> new NoSuchElementException("There is not converter to the field: "
+                + metadata.name() + " in the Field: " + metadata.type()));
+    }
 
     @Override
     public String toString() {
         return "DefaultConverters{" +
                 "beanManager=" + beanManager +
+                ", converters=" + resolutions.keySet() +
                 '}';
     }
+
+    /**
+     * The bean of a converter type, null when it is not a CDI bean, and the converter shared by every use,
+     * only for a normal-scoped bean.
+     */
+    private record Resolution(Bean<?> bean, AttributeConverter<?, ?> shared) {
+    }
 }
@@ -55,7 +55,41 @@ public enum MappingConfigurations implements Supplier<String> {
     /**
      * Activate the automatic transaction at Graph database. By default it is true.
      */
-    GRAPH_TRANSACTION_AUTOMATIC("jnosql.graph.transaction.automatic");
+    GRAPH_TRANSACTION_AUTOMATIC("jnosql.graph.transaction.automatic"),
+    /**
+     * Define the maximum number of entities or ids sent to the database in a single call by the bulk operations:
+     * the templates inserting, updating or getting an {@link Iterable}, and the repositories finding or deleting
+     * by a set of ids, where it is also the maximum size of the IN condition. By default it is 1000; zero or a
+     * negative value uses a single call.
+     */
+    BATCH_SIZE("jnosql.batch.size"),
+    /**
+     * Activate the batch {@code saveAll} at the repositories that support it: the existence of the whole list is
+     * checked with a single query by batch, then the entities are sent as one bulk insert and one bulk update.
+     * By default it is false, and each entity is saved on its own.
+     */
+    REPOSITORY_SAVE_BATCH("jnosql.repository.save.batch"),
+    /**
+     * Define how the {@link org.eclipse.jnosql.mapping.metadata.EntityMetadata} of the scanned entities and
+     * embeddables is created at the container boot: {@code eager} creates them one by one, {@code parallel} creates
+     * them on the common fork-join pool, and {@code lazy} only registers the classes, creating each metadata on
+     * its first use. By default it is {@code eager}.
+     */
+    METADATA_LOADING("jnosql.metadata.loading"),
+    /**
+     * Read the entities, embeddables and repositories from the index generated at compile time by the
+     * {@code jnosql-mapping-processor}, instead of scanning the classpath. Only the classes compiled with the annotation
+     * processor are in the index, so it is enabled only when every mapped class is. By default it is false.
+     */
+    METADATA_INDEX("jnosql.metadata.index"),
+    /**
+     * Define the number of threads of the default executor of the asynchronous templates and managers, which is
+     * the maximum number of their operations running at once on the database. By default it is two per available
+     * processor.
+     *
+     * @see org.eclipse.jnosql.communication.AsyncExecutor
+     */
+    ASYNC_POOL_SIZE("jnosql.async.pool.size");
 
 
     private final String value;
@@ -15,6 +15,7 @@
 package org.eclipse.jnosql.mapping.core.query;
 
 import jakarta.data.exceptions.MappingException;
+import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.spi.CDI;
 import org.eclipse.jnosql.mapping.core.repository.ThrowingSupplier;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
@@ -22,6 +23,8 @@ import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.eclipse.jnosql.mapping.core.query.AnnotationOperation.DELETE;
 import static org.eclipse.jnosql.mapping.core.query.AnnotationOperation.INSERT;
@@ -31,12 +34,16 @@ import static org.eclipse.jnosql.mapping.core.query.AnnotationOperation.UPDATE;
 /**
  * Abstract class that serves as a proxy for repository interfaces.
  * It implements the InvocationHandler interface to handle method invocations.
+ * The {@link RepositoryType} of each method, and the custom repository bean it delegates to, are resolved
+ * at the first invocation of the method and reused by the next ones.
  *
  * @param <T> The type of the entity managed by the repository.
  * @param <K> The type of the entity's ID.
  */
 public abstract class AbstractRepositoryProxy<T, K> implements InvocationHandler {
 
+    private final Map<Method, MethodExecutor> executors = new ConcurrentHashMap<>();
+
     /**
      * Retrieves the underlying repository associated with this proxy.
      *
@@ -141,65 +148,67 @@ public abstract class AbstractRepositoryProxy<T, K> implements InvocationHandler
 
     @Override
     public Object invoke(Object instance, Method method, Object[] params) throws Throwable {
+        MethodExecutor executor = executors.get(method);
+        if (executor == null) {
+            executor = executor(method);
+            MethodExecutor current = executors.putIfAbsent(method, executor);
+            if (current != null) {
+                executor = current;
+            }
+        }
+        return executor.execute(instance, params);
+    }
 
+    private MethodExecutor executor(Method method) {
         RepositoryType type = RepositoryType.of(method, repositoryType());
 
-        switch (type) {
-            case DEFAULT -> {
-                return unwrapInvocationTargetException(() -> method.invoke(repository(), params));
-            }
-            case FIND_BY -> {
-                return unwrapInvocationTargetException(() ->   executeFindByQuery(instance, method, params));
-            }
-            case COUNT_ALL, COUNT_BY -> {
-                return unwrapInvocationTargetException(() ->   executeCountByQuery(instance, method, params));
-            }
-            case EXISTS_BY -> {
-                return unwrapInvocationTargetException(() ->   executeExistByQuery(instance, method, params));
-            }
-            case FIND_ALL -> {
-                return unwrapInvocationTargetException(() ->   executeFindAll(instance, method, params));
-            }
-            case DELETE_BY -> {
-                return unwrapInvocationTargetException(() ->   executeDeleteByAll(instance, method, params));
-            }
-            case OBJECT_METHOD -> {
-                return unwrapInvocationTargetException(() ->  unwrapInvocationTargetException(() -> method.invoke(this, params)));
-            }
-            case DEFAULT_METHOD -> {
-                return unwrapInvocationTargetException(() -> InvocationHandler.invokeDefault(instance, method, params));
-            }
-            case ORDER_BY ->
-                    throw new MappingException("Eclipse JNoSQL has not support for method that has OrderBy annotation");
-            case QUERY -> {
-                return unwrapInvocationTargetException(() ->  executeQuery(instance, method, params));
-            }
-            case PARAMETER_BASED -> {
-                return unwrapInvocationTargetException(() -> executeParameterBased(instance, method, params));
-            }
-            case CUSTOM_REPOSITORY -> {
-                Object customRepository = CDI.current().select(method.getDeclaringClass()).get();
-                return unwrapInvocationTargetException(() -> method.invoke(customRepository, params));
-            }
-            case SAVE -> {
-                return unwrapInvocationTargetException(() -> SAVE.invoke(new AnnotationOperation.Operation(method, params, repository())));
-            }
-            case INSERT -> {
-                return unwrapInvocationTargetException(() -> INSERT.invoke(new AnnotationOperation.Operation(method, params, repository())));
-            }
-            case DELETE -> {
-                return unwrapInvocationTargetException(() -> DELETE.invoke(new AnnotationOperation.Operation(method, params, repository())));
-            }
-            case UPDATE -> {
-                return unwrapInvocationTargetException(() -> UPDATE.invoke(new AnnotationOperation.Operation(method, params, repository())));
-            }
-            case CURSOR_PAGINATION -> {
-                return unwrapInvocationTargetException(() ->   executeCursorPagination(instance, method, params));
-            }
-            default -> {
-                return Void.class;
-            }
+        return switch (type) {
+            case DEFAULT -> (instance, params) -> unwrapInvocationTargetException(() -> method.invoke(repository(), params));
+            case FIND_BY -> (instance, params) -> unwrapInvocationTargetException(() -> executeFindByQuery(instance, method, params));
+            case COUNT_ALL, COUNT_BY -> (instance, params) -> unwrapInvocationTargetException(() -> executeCountByQuery(instance, method, params));
+            case EXISTS_BY -> (instance, params) -> unwrapInvocationTargetException(() -> executeExistByQuery(instance, method, params));
+            case FIND_ALL -> (instance, params) -> unwrapInvocationTargetException(() -> executeFindAll(instance, method, params));
+            case DELETE_BY -> (instance, params) -> unwrapInvocationTargetException(() -> executeDeleteByAll(instance, method, params));
+            case OBJECT_METHOD -> (instance, params) ->
+                    unwrapInvocationTargetException(() -> unwrapInvocationTargetException(() -> method.invoke(this, params)));
+            case DEFAULT_METHOD -> (instance, params) ->
+                    unwrapInvocationTargetException(() -> InvocationHandler.invokeDefault(instance, method, params));
+            case ORDER_BY -> (instance, params) -> {
+                throw new MappingException("Eclipse JNoSQL has not support for method that has OrderBy annotation");
+            };
+            case QUERY -> (instance, params) -> unwrapInvocationTargetException(() -> executeQuery(instance, method, params));
+            case PARAMETER_BASED -> (instance, params) -> unwrapInvocationTargetException(() -> executeParameterBased(instance, method, params));
+            case CUSTOM_REPOSITORY -> customRepository(method);
+            case SAVE -> (instance, params) ->
+                    unwrapInvocationTargetException(() -> SAVE.invoke(new AnnotationOperation.Operation(method, params, repository())));
+            case INSERT -> (instance, params) ->
+                    unwrapInvocationTargetException(() -> INSERT.invoke(new AnnotationOperation.Operation(method, params, repository())));
+            case DELETE -> (instance, params) ->
+                    unwrapInvocationTargetException(() -> DELETE.invoke(new AnnotationOperation.Operation(method, params, repository())));
+            case UPDATE -> (instance, params) ->
+                    unwrapInvocationTargetException(() -> UPDATE.invoke(new AnnotationOperation.Operation(method, params, repository())));
+            case CURSOR_PAGINATION -> (instance, params) -> unwrapInvocationTargetException(() -> executeCursorPagination(instance, method, params));
+            default -> (instance, params) -> Void.class;
+        };
+    }
+
+    /**
+     * Delegates to the custom repository that declares the method: a normal-scoped bean is kept as its client proxy,
+     * any other bean is resolved on each invocation and destroyed after it.
+     */
+    private MethodExecutor customRepository(Method method) {
+        CDI<Object> container = CDI.current();
+        Instance<?> customRepositories = container.select(method.getDeclaringClass());
+        Instance.Handle<?> handle = customRepositories.getHandle();
+        if (container.getBeanManager().isNormalScope(handle.getBean().getScope())) {
+            Object customRepository = handle.get();
+            return (instance, params) -> unwrapInvocationTargetException(() -> method.invoke(customRepository, params));
         }
+        return (instance, params) -> unwrapInvocationTargetException(() -> {
+            try (Instance.Handle<?> current = customRepositories.getHandle()) {
+                return method.invoke(current.get(), params);
+            }
+        });
     }
 
     /**
@@ -216,4 +225,13 @@ public abstract class AbstractRepositoryProxy<T, K> implements InvocationHandler
             throw ex.getCause();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * The execution of a repository method, resolved once per method with its {@link RepositoryType}.
+     */
+    @FunctionalInterface
+    private interface MethodExecutor {
+
+        Object execute(Object instance, Object[] params) throws Throwable;
+    }
+}
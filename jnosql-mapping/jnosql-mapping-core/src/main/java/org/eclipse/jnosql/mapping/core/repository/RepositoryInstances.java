@@ -0,0 +1,151 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.repository;
+
+import jakarta.data.exceptions.MappingException;
+import jakarta.nosql.Template;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Creates the repository instances from their {@link InvocationHandler}.
+ * When the repository interface has an implementation generated at compile time by the
+ * {@code jnosql-mapping-processor} annotation processor, named as the interface plus {@link #SUFFIX},
+ * that class is used; otherwise, the repository is a {@link Proxy} of the interface. A generated class created with
+ * the {@link Template} of the repository executes the query methods derived at compile time on the template, without
+ * calling the handler.
+ */
+public enum RepositoryInstances {
+
+    INSTANCE;
+
+    /**
+     * The suffix of the repository implementations generated at compile time.
+     */
+    public static final String SUFFIX = "$JNoSQL";
+
+    private static final Logger LOGGER = Logger.getLogger(RepositoryInstances.class.getName());
+
+    private final ClassValue<Optional<Generated>> generated = new ClassValue<>() {
+        @Override
+        protected Optional<Generated> computeValue(Class<?> type) {
+            return findGenerated(type);
+        }
+    };
+
+    /**
+     * Creates a repository instance of the interface that delegates the methods to the handler.
+     *
+     * @param type    the repository interface
+     * @param handler the handler that executes the repository methods
+     * @param <T>     the repository type
+     * @return the generated implementation when it exists, otherwise a {@link Proxy}
+     * @throws NullPointerException when either type or handler is null
+     * @throws MappingException     when the generated implementation cannot be created
+     */
+    public <T> T newInstance(Class<T> type, InvocationHandler handler) {
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(handler, "handler is required");
+        Optional<Generated> implementation = generated.get(type);
+        if (implementation.isPresent()) {
+            return create(type, implementation.get().handler(), handler);
+        }
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class[]{type}, handler));
+    }
+
+    /**
+     * Creates a repository instance of the interface that delegates the methods to the handler, where the generated
+     * implementation executes the query methods derived at compile time on the template.
+     *
+     * @param type     the repository interface
+     * @param handler  the handler that executes the repository methods
+     * @param template the template the repository queries
+     * @param <T>      the repository type
+     * @return the generated implementation when it exists, otherwise a {@link Proxy}
+     * @throws NullPointerException when either type, handler or template is null
+     * @throws MappingException     when the generated implementation cannot be created
+     */
+    public <T> T newInstance(Class<T> type, InvocationHandler handler, Template template) {
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(handler, "handler is required");
+        Objects.requireNonNull(template, "template is required");
+        Optional<Generated> implementation = generated.get(type);
+        if (implementation.isPresent() && implementation.get().template() != null) {
+            return create(type, implementation.get().template(), handler, template);
+        }
+        return newInstance(type, handler);
+    }
+
+    /**
+     * Checks if the repository interface has an implementation generated at compile time.
+     *
+     * @param type the repository interface
+     * @return true when the generated implementation is used
+     * @throws NullPointerException when type is null
+     */
+    public boolean isGenerated(Class<?> type) {
+        Objects.requireNonNull(type, "type is required");
+        return generated.get(type).isPresent();
+    }
+
+    private static <T> T create(Class<T> type, Constructor<?> constructor, Object... arguments) {
+        try {
+            return type.cast(constructor.newInstance(arguments));
+        } catch (ReflectiveOperationException exception) {
+            throw new MappingException("There is an issue to create the generated repository of " + type, exception);
+        }
+    }
+
+    private static Optional<Generated> findGenerated(Class<?> type) {
+        try {
+            Class<?> implementation = Class.forName(type.getName() + SUFFIX, false, type.getClassLoader());
+            if (!type.isAssignableFrom(implementation)) {
+                LOGGER.log(Level.WARNING, () -> "The class " + implementation + " does not implement " + type
+                        + ", using a proxy to the repository");
+                return Optional.empty();
+            }
+            LOGGER.log(Level.FINE, () -> "Using the generated repository " + implementation + " to " + type);
+            Constructor<?> handler = implementation.getConstructor(InvocationHandler.class);
+            return Optional.of(new Generated(handler, templateConstructor(implementation)));
+        } catch (ClassNotFoundException exception) {
+            return Optional.empty();
+        } catch (NoSuchMethodException exception) {
+            LOGGER.log(Level.WARNING, () -> "The generated repository of " + type
+                    + " does not have a constructor with InvocationHandler, using a proxy to the repository");
+            return Optional.empty();
+        }
+    }
+
+    private static Constructor<?> templateConstructor(Class<?> implementation) {
+        try {
+            return implementation.getConstructor(InvocationHandler.class, Template.class);
+        } catch (NoSuchMethodException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * The constructors of a generated repository, where the one with the template is null when it was generated
+     * without it.
+     */
+    private record Generated(Constructor<?> handler, Constructor<?> template) {
+    }
+}
@@ -17,22 +17,35 @@ package org.eclipse.jnosql.mapping.core.spi;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.spi.AfterDeploymentValidation;
+import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.enterprise.inject.spi.BeforeBeanDiscovery;
 import jakarta.enterprise.inject.spi.Extension;
 import jakarta.nosql.Entity;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.config.MappingConfigurations;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
 import org.eclipse.jnosql.mapping.metadata.ClassConverter;
 import org.eclipse.jnosql.mapping.metadata.ClassScanner;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.GroupEntityMetadata;
 
+import java.util.Collections;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 /**
  * This class is a CDI extension to load all class that has {@link Entity} annotation.
  * This extension will load all Classes and put in a map.
- * Where the key is {@link Class#getName()} and the value is {@link EntityMetadata}
+ * Where the key is {@link Class#getName()} and the value is {@link EntityMetadata}.
+ * The {@link MappingConfigurations#METADATA_LOADING} defines whether the metadata is created one by one,
+ * in parallel, or lazily on its first use.
+ * Once the deployment is validated, the {@link Converters} of the created metadata are looked up in advance.
  */
 @ApplicationScoped
 public class EntityMetadataExtension implements Extension, GroupEntityMetadata {
@@ -42,6 +55,8 @@ public class EntityMetadataExtension implements Extension, GroupEntityMetadata {
 
     private final Map<Class<?>, EntityMetadata> classes = new ConcurrentHashMap<>();
 
+    private final Set<Class<?>> lazyClasses = ConcurrentHashMap.newKeySet();
+
     private final ClassConverter converter;
 
     {
@@ -52,28 +67,50 @@ public class EntityMetadataExtension implements Extension, GroupEntityMetadata {
         LOGGER.fine("Starting the scanning process for Entity and Embeddable annotations: ");
 
         ClassScanner scanner = ClassScanner.load();
+        Loading loading = Loading.of(MicroProfileSettings.INSTANCE.get(MappingConfigurations.METADATA_LOADING, String.class)
+                .orElse(null));
+
+        switch (loading) {
+            case LAZY -> {
+                lazyClasses.addAll(scanner.entities());
+                lazyClasses.addAll(scanner.embeddables());
+            }
+            case PARALLEL -> {
+                processEntities(scanner.entities().parallelStream());
+                processEmbeddables(scanner.embeddables().parallelStream());
+            }
+            default -> {
+                processEntities(scanner.entities().stream());
+                processEmbeddables(scanner.embeddables().stream());
+            }
+        }
 
-        processEntities(scanner);
-        processEmbeddables(scanner);
+        LOGGER.fine(() -> "Finishing the scanning with " + loading + " loading with total of " + classes.size()
+                + " scanned and " + lazyClasses.size() + " to load lazily.");
+    }
 
-        LOGGER.fine("Finishing the scanning with total of " + classes.size() + " scanned.");
+    void warmUpConverters(@Observes AfterDeploymentValidation event, BeanManager beanManager) {
+        Instance<Converters> converters = beanManager.createInstance().select(Converters.class);
+        if (converters.isResolvable() && !classes.isEmpty()) {
+            converters.get().warmUp(classes.values());
+        }
     }
 
-    private void processEntities(ClassScanner scanner) {
-        for (Class<?> entity : scanner.entities()) {
+    private void processEntities(Stream<Class<?>> entities) {
+        entities.forEach(entity -> {
             EntityMetadata entityMetadata = convertToEntityMetadata(entity);
             if (entityMetadata.hasEntityName()) {
                 mappings.put(entityMetadata.name(), entityMetadata);
             }
             classes.put(entity, entityMetadata);
-        }
+        });
     }
 
-    private void processEmbeddables(ClassScanner scanner) {
-        for (Class<?> embeddable : scanner.embeddables()) {
+    private void processEmbeddables(Stream<Class<?>> embeddables) {
+        embeddables.forEach(embeddable -> {
             EntityMetadata entityMetadata = convertToEntityMetadata(embeddable);
             classes.put(embeddable, entityMetadata);
-        }
+        });
     }
 
     private EntityMetadata convertToEntityMetadata(Class<?> entityClass) {
@@ -90,11 +127,34 @@ public class EntityMetadataExtension implements Extension, GroupEntityMetadata {
         return classes;
     }
 
+    @Override
+    public Set<Class<?>> lazyClasses() {
+        return Collections.unmodifiableSet(lazyClasses);
+    }
+
     @Override
     public String toString() {
         return "EntityMetadataExtension{" + "classConverter=" + converter +
                 ", mappings-size=" + mappings.size() +
                 ", classes=" + classes +
+                ", lazyClasses=" + lazyClasses +
                 '}';
     }
+
+    private enum Loading {
+        EAGER, PARALLEL, LAZY;
+
+        static Loading of(String value) {
+            if (value == null || value.isBlank()) {
+                return EAGER;
+            }
+            try {
+                return valueOf(value.strip().toUpperCase(Locale.US));
+            } catch (IllegalArgumentException exception) {
+                LOGGER.warning(() -> "The value " + value + " of " + MappingConfigurations.METADATA_LOADING.get()
+                        + " is not supported, using eager loading");
+                return EAGER;
+            }
+        }
+    }
 }
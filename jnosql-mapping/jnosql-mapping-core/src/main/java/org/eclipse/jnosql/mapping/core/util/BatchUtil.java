@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.util;
+
+import org.eclipse.jnosql.mapping.core.config.MappingConfigurations;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Utilitarian class to split the values of a bulk operation into batches of
+ * {@link MappingConfigurations#BATCH_SIZE}.
+ */
+public final class BatchUtil {
+
+    /**
+     * The batch size when {@link MappingConfigurations#BATCH_SIZE} is not defined.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1_000;
+
+    private BatchUtil() {
+    }
+
+    /**
+     * Returns the configured batch size, {@link Integer#MAX_VALUE} when the configuration is zero or negative.
+     *
+     * @return the batch size
+     */
+    public static int batchSize() {
+        int batchSize = MicroProfileSettings.INSTANCE.get(MappingConfigurations.BATCH_SIZE, Integer.class)
+                .orElse(DEFAULT_BATCH_SIZE);
+        return batchSize > 0 ? batchSize : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Splits the values into batches of the configured batch size, keeping the iteration order.
+     *
+     * @param values the values
+     * @param <T>    the value type
+     * @return the batches, empty when there is no value
+     * @throws NullPointerException when values is null
+     */
+    public static <T> List<List<T>> split(Iterable<T> values) {
+        return split(values, batchSize());
+    }
+
+    /**
+     * Splits the values into batches of the given size, keeping the iteration order.
+     *
+     * @param values    the values
+     * @param batchSize the maximum size of each batch
+     * @param <T>       the value type
+     * @return the batches, empty when there is no value
+     * @throws NullPointerException     when values is null
+     * @throws IllegalArgumentException when batchSize is not positive
+     */
+    public static <T> List<List<T>> split(Iterable<T> values, int batchSize) {
+        requireNonNull(values, "values is required");
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be positive: " + batchSize);
+        }
+        List<List<T>> batches = new ArrayList<>();
+        List<T> batch = new ArrayList<>();
+        for (T value : values) {
+            batch.add(value);
+            if (batch.size() == batchSize) {
+                batches.add(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+}
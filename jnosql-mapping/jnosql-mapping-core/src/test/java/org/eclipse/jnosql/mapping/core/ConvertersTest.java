@@ -17,7 +17,10 @@ package org.eclipse.jnosql.mapping.core;
 import jakarta.inject.Inject;
 import jakarta.nosql.AttributeConverter;
 import jakarta.nosql.Convert;
+import org.eclipse.jnosql.mapping.metadata.ConstructorMetadata;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+import org.eclipse.jnosql.mapping.core.entities.MoneyConverter;
 import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
 import org.jboss.weld.junit5.auto.AddExtensions;
 import org.jboss.weld.junit5.auto.AddPackages;
@@ -26,6 +29,8 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -78,6 +83,88 @@ class ConvertersTest {
         Assertions.assertEquals("Text", text);
     }
 
+    @Test
+    void shouldReuseTheBeanConverter() {
+        FieldMetadata fieldMetadata = field(MyConverter.class, new MyConverter());
+
+        AttributeConverter<String, String> first = converters.get(fieldMetadata);
+        AttributeConverter<String, String> second = converters.get(fieldMetadata);
+
+        assertThat(second).isSameAs(first);
+        Mockito.verify(fieldMetadata, Mockito.never()).newConverter();
+    }
+
+    @Test
+    void shouldCreateTheDependentConverterOnEachUse() {
+        FieldMetadata fieldMetadata = field(DependentConverter.class, new DependentConverter());
+
+        AttributeConverter<String, String> first = converters.get(fieldMetadata);
+        AttributeConverter<String, String> second = converters.get(fieldMetadata);
+
+        assertThat(second).isNotSameAs(first).isInstanceOf(DependentConverter.class);
+        Mockito.verify(fieldMetadata, Mockito.never()).newConverter();
+    }
+
+    @Test
+    void shouldCreateTheConverterByConstructorOnEachUse() {
+        FieldMetadata fieldMetadata = field(VetedConverter.class, new VetedConverter());
+        FieldMetadata otherField = field(VetedConverter.class, new VetedConverter());
+
+        AttributeConverter<String, String> first = converters.get(fieldMetadata);
+        AttributeConverter<String, String> second = converters.get(otherField);
+
+        assertThat(second).isNotSameAs(first);
+        Mockito.verify(fieldMetadata).newConverter();
+        Mockito.verify(otherField).newConverter();
+    }
+
+    @Test
+    void shouldReturnErrorWhenThereIsNotConverter() {
+        FieldMetadata fieldMetadata = Mockito.mock(FieldMetadata.class);
+        Mockito.when(fieldMetadata.converter()).thenReturn(Optional.empty());
+
+        Assertions.assertThrows(NoSuchElementException.class, () -> converters.get(fieldMetadata));
+    }
+
+    @Test
+    void shouldWarmUp() {
+        FieldMetadata fieldMetadata = field(VetedConverter.class, new VetedConverter());
+        FieldMetadata withoutConverter = Mockito.mock(FieldMetadata.class);
+        Mockito.when(withoutConverter.converter()).thenReturn(Optional.empty());
+        ConstructorMetadata constructor = Mockito.mock(ConstructorMetadata.class);
+        Mockito.when(constructor.parameters()).thenReturn(List.of());
+        EntityMetadata entity = Mockito.mock(EntityMetadata.class);
+        Mockito.when(entity.fields()).thenReturn(List.of(fieldMetadata, withoutConverter));
+        Mockito.when(entity.constructor()).thenReturn(constructor);
+
+        converters.warmUp(List.of(entity));
+
+        assertThat(converters.toString()).contains(VetedConverter.class.getName());
+        Mockito.verify(fieldMetadata, Mockito.never()).newConverter();
+    }
+
+    @Test
+    void shouldWarmUpTheScannedEntitiesAtDeployment() {
+        assertThat(converters.toString()).contains(MoneyConverter.class.getName());
+    }
+
+    @Test
+    void shouldReturnNPEWhenWarmUpIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> converters.warmUp(null));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static FieldMetadata field(Class<?> type, AttributeConverter<?, ?> instance) {
+        FieldMetadata fieldMetadata = Mockito.mock(FieldMetadata.class);
+        Optional<?> converter = Optional.of(type);
+        Optional<?> newInstance = Optional.of(instance);
+        Mockito.when(fieldMetadata.converter())
+                .thenReturn((Optional<Class<AttributeConverter<Object, Object>>>) converter);
+        Mockito.when(fieldMetadata.newConverter())
+                .thenReturn((Optional<AttributeConverter<Object, Object>>) newInstance);
+        return fieldMetadata;
+    }
+
     @Test
     void shouldGetToString(){
         assertThat(this.converters.toString()).isNotNull().isNotBlank().isNotEmpty();
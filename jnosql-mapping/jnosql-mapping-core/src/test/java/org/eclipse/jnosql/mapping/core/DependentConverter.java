@@ -0,0 +1,35 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.nosql.AttributeConverter;
+
+@Dependent
+public class DependentConverter implements AttributeConverter<String, String> {
+
+    private String last;
+
+    @Override
+    public String convertToDatabaseColumn(String attribute) {
+        this.last = attribute;
+        return attribute;
+    }
+
+    @Override
+    public String convertToEntityAttribute(String dbData) {
+        return last;
+    }
+}
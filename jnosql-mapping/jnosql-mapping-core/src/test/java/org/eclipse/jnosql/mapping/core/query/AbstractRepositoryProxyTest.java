@@ -101,4 +101,22 @@ class AbstractRepositoryProxyTest {
         });
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldReuseTheMethodResolution() throws Throwable {
+        Method findAll = TestRepository.class.getMethod("findAll");
+        Method countBy = TestRepository.class.getMethod("countBy");
+
+        assertEquals("executeFindAll", proxy.invoke(proxy, findAll, new Object[]{}));
+        assertEquals("executeCountByQuery", proxy.invoke(proxy, countBy, new Object[]{}));
+        assertEquals("executeFindAll", proxy.invoke(proxy, findAll, new Object[]{}));
+    }
+
+    @Test
+    void shouldThrowAtEveryInvocationWhenMethodIsNotSupported() throws Throwable {
+        Method method = TestRepository.class.getMethod("customMethod");
+
+        assertThrows(UnsupportedOperationException.class, () -> proxy.invoke(proxy, method, new Object[]{}));
+        assertThrows(UnsupportedOperationException.class, () -> proxy.invoke(proxy, method, new Object[]{}));
+    }
+
+}
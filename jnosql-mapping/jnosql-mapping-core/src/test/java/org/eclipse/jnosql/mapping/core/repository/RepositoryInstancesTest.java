@@ -0,0 +1,154 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.repository;
+
+import jakarta.nosql.Template;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.UndeclaredThrowableException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RepositoryInstancesTest {
+
+    private final InvocationHandler handler = (instance, method, params) -> method.getName() + "-handler";
+
+    @Test
+    void shouldUseTheGeneratedRepository() {
+        Garage garage = RepositoryInstances.INSTANCE.newInstance(Garage.class, handler);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(garage).isInstanceOf(Garage$JNoSQL.class);
+            soft.assertThat(garage.name()).isEqualTo("name-handler");
+            soft.assertThat(RepositoryInstances.INSTANCE.isGenerated(Garage.class)).isTrue();
+        });
+    }
+
+    @Test
+    void shouldUseProxyWhenThereIsNotGeneratedRepository() {
+        Store store = RepositoryInstances.INSTANCE.newInstance(Store.class, handler);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(Proxy.isProxyClass(store.getClass())).isTrue();
+            soft.assertThat(store.name()).isEqualTo("name-handler");
+            soft.assertThat(RepositoryInstances.INSTANCE.isGenerated(Store.class)).isFalse();
+        });
+    }
+
+    @Test
+    void shouldUseProxyWhenGeneratedClassDoesNotImplementTheRepository() {
+        Shop shop = RepositoryInstances.INSTANCE.newInstance(Shop.class, handler);
+
+        assertThat(Proxy.isProxyClass(shop.getClass())).isTrue();
+        assertThat(RepositoryInstances.INSTANCE.isGenerated(Shop.class)).isFalse();
+    }
+
+    @Test
+    void shouldCreateTheGeneratedRepositoryWithTheTemplate() {
+        Template template = Mockito.mock(Template.class);
+        Library library = RepositoryInstances.INSTANCE.newInstance(Library.class, handler, template);
+        Garage garage = RepositoryInstances.INSTANCE.newInstance(Garage.class, handler, template);
+        Store store = RepositoryInstances.INSTANCE.newInstance(Store.class, handler, template);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(library).isInstanceOf(Library$JNoSQL.class);
+            soft.assertThat(((Library$JNoSQL) library).template).isSameAs(template);
+            soft.assertThat(garage).isInstanceOf(Garage$JNoSQL.class);
+            soft.assertThat(Proxy.isProxyClass(store.getClass())).isTrue();
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenParametersAreNull() {
+        assertThatThrownBy(() -> RepositoryInstances.INSTANCE.newInstance(null, handler))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> RepositoryInstances.INSTANCE.newInstance(Garage.class, null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> RepositoryInstances.INSTANCE.newInstance(Garage.class, handler, null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> RepositoryInstances.INSTANCE.isGenerated(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    interface Garage {
+        String name();
+    }
+
+    interface Store {
+        String name();
+    }
+
+    interface Shop {
+        String name();
+    }
+
+    interface Library {
+    }
+
+    public static final class Garage$JNoSQL implements Garage {
+
+        private static final Method NAME;
+
+        static {
+            try {
+                NAME = Garage.class.getMethod("name");
+            } catch (NoSuchMethodException exception) {
+                throw new NoSuchMethodError(exception.getMessage());
+            }
+        }
+
+        private final InvocationHandler handler;
+
+        public Garage$JNoSQL(InvocationHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public String name() {
+            try {
+                return (String) handler.invoke(this, NAME, null);
+            } catch (RuntimeException | Error exception) {
+                throw exception;
+            } catch (Throwable throwable) {
+                throw new UndeclaredThrowableException(throwable);
+            }
+        }
+    }
+
+    public static final class Shop$JNoSQL {
+
+        public Shop$JNoSQL(InvocationHandler handler) {
+        }
+    }
+
+    public static final class Library$JNoSQL implements Library {
+
+        private final Template template;
+
+        public Library$JNoSQL(InvocationHandler handler) {
+            this.template = null;
+        }
+
+        public Library$JNoSQL(InvocationHandler handler, Template template) {
+            this.template = template;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.repository.returns;
+
+import jakarta.data.page.Page;
+import jakarta.data.page.PageRequest;
+import org.eclipse.jnosql.mapping.core.repository.DynamicReturn;
+import org.eclipse.jnosql.mapping.core.repository.RepositoryReturn;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@ExtendWith(MockitoExtension.class)
+class PublisherRepositoryReturnTest {
+
+    private final RepositoryReturn repositoryReturn = new PublisherRepositoryReturn();
+
+    @Mock
+    private Page<Person> page;
+
+    @Test
+    void shouldReturnIsCompatible() {
+        Assertions.assertTrue(repositoryReturn.isCompatible(Person.class, Flow.Publisher.class));
+        assertFalse(repositoryReturn.isCompatible(Object.class, Person.class));
+        assertFalse(repositoryReturn.isCompatible(Person.class, Object.class));
+    }
+
+    @Test
+    void shouldReturnPublisherPage() {
+        Person ada = new Person("Ada");
+        DynamicReturn<Person> dynamic = DynamicReturn.builder()
+                .classSource(Person.class)
+                .singleResult(Optional::empty)
+                .result(Stream::empty)
+                .singleResultPagination(p -> Optional.empty())
+                .streamPagination(p -> Stream.of(ada))
+                .methodSource(Person.class.getDeclaredMethods()[0])
+                .pagination(PageRequest.ofPage(2).size(2))
+                .page(p -> page)
+                .build();
+        Flow.Publisher<Person> publisher = (Flow.Publisher<Person>) repositoryReturn.convertPageRequest(dynamic);
+        Assertions.assertNotNull(publisher);
+        assertEquals(List.of(ada), read(publisher));
+    }
+
+    @Test
+    void shouldReturnPublisher() {
+        Person ada = new Person("Ada");
+        DynamicReturn<Person> dynamic = DynamicReturn.builder()
+                .singleResult(Optional::empty)
+                .classSource(Person.class)
+                .result(() -> Stream.of(ada))
+                .methodSource(Person.class.getDeclaredMethods()[0])
+                .build();
+        Flow.Publisher<Person> publisher = (Flow.Publisher<Person>) repositoryReturn.convert(dynamic);
+        Assertions.assertNotNull(publisher);
+        assertEquals(List.of(ada), read(publisher));
+    }
+
+    private static <T> List<T> read(Flow.Publisher<T> publisher) {
+        List<T> items = new ArrayList<>();
+        publisher.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(T item) {
+                items.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                Assertions.fail(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        return items;
+    }
+
+    private static class Person implements Comparable<Person> {
+
+        private String name;
+
+        public Person(String name) {
+            this.name = name;
+        }
+
+        public Person() {
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Person person = (Person) o;
+            return Objects.equals(name, person.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(name);
+        }
+
+        @Override
+        public String toString() {
+            return "Person{" +
+                    "name='" + name + '\'' +
+                    '}';
+        }
+
+        @Override
+        public int compareTo(Person o) {
+            return name.compareTo(o.name);
+        }
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.util;
+
+import org.eclipse.jnosql.mapping.core.config.MappingConfigurations;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BatchUtilTest {
+
+    @AfterEach
+    void cleanUp() {
+        System.clearProperty(MappingConfigurations.BATCH_SIZE.get());
+    }
+
+    @Test
+    void shouldReturnDefaultBatchSize() {
+        assertThat(BatchUtil.batchSize()).isEqualTo(BatchUtil.DEFAULT_BATCH_SIZE);
+    }
+
+    @Test
+    void shouldReturnConfiguredBatchSize() {
+        System.setProperty(MappingConfigurations.BATCH_SIZE.get(), "10");
+        assertThat(BatchUtil.batchSize()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldUseSingleBatchWhenSizeIsNotPositive() {
+        System.setProperty(MappingConfigurations.BATCH_SIZE.get(), "0");
+        assertThat(BatchUtil.batchSize()).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    void shouldSplit() {
+        assertThat(BatchUtil.split(List.of(1, 2, 3, 4, 5), 2))
+                .containsExactly(List.of(1, 2), List.of(3, 4), List.of(5));
+    }
+
+    @Test
+    void shouldSplitEmpty() {
+        assertThat(BatchUtil.split(List.of(), 2)).isEmpty();
+    }
+
+    @Test
+    void shouldReturnErrorWhenBatchSizeIsInvalid() {
+        assertThatThrownBy(() -> BatchUtil.split(List.of(1), 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BatchUtil.split(null, 1)).isInstanceOf(NullPointerException.class);
+    }
+}
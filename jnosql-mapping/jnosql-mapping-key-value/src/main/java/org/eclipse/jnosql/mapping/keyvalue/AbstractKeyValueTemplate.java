@@ -19,15 +19,17 @@ import jakarta.nosql.QueryMapper;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import org.eclipse.jnosql.mapping.core.util.BatchUtil;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
 
@@ -103,12 +105,11 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
     public <K, T> Iterable<T> get(Iterable<K> keys, Class<T> type) {
         requireNonNull(keys, "keys is required");
         requireNonNull(type, "type class is required");
-        return StreamSupport.stream(keys.spliterator(), false)
-                .map(k -> getManager().get(k)
-                        .map(v -> KeyValueEntity.of(k, v)))
-                .filter(Optional::isPresent)
-                .map(e -> getConverter().toEntity(type, e.get()))
-                .collect(Collectors.toList());
+        List<T> entities = new ArrayList<>();
+        for (List<K> batch : BatchUtil.split(keys)) {
+            get(batch, type, entities);
+        }
+        return entities;
     }
 
 
@@ -155,6 +156,23 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
                 .orElseThrow();
     }
 
+    /**
+     * Reads a batch of keys with a single {@link BucketManager#getAll(Iterable)} call, which returns each value
+     * with its key.
+     */
+    private <K, T> void get(List<K> keys, Class<T> type, List<T> entities) {
+        Map<K, Value> values = getManager().getAll(keys);
+        for (K key : keys) {
+            Value value = values.get(key);
+            if (value != null) {
+                T entity = getConverter().toEntity(type, KeyValueEntity.of(key, value));
+                if (entity != null) {
+                    entities.add(entity);
+                }
+            }
+        }
+    }
+
     private <T> UnaryOperator<T> toUnary(Consumer<T> consumer) {
         return t -> {
             consumer.accept(t);
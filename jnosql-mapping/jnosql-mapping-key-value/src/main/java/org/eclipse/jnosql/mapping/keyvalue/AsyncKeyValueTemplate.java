@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * The asynchronous variant of the {@link KeyValueTemplate} operations, where each operation returns a
+ * {@link CompletionStage} instead of blocking the caller, so independent operations can run concurrently.
+ *
+ * <p>Each operation runs the synchronous operation of the template on an executor, see
+ * {@link KeyValueTemplate#async()}.</p>
+ */
+public interface AsyncKeyValueTemplate {
+
+    /**
+     * Saves an entity asynchronously.
+     *
+     * @param entity the entity to be saved
+     * @param <T>    the entity type
+     * @return the stage completed with the saved entity
+     * @throws NullPointerException when the entity is null
+     * @see KeyValueTemplate#put(Object)
+     */
+    <T> CompletionStage<T> put(T entity);
+
+    /**
+     * Saves an entity with a time to live asynchronously.
+     *
+     * @param entity the entity to be saved
+     * @param ttl    the time to live
+     * @param <T>    the entity type
+     * @return the stage completed with the saved entity
+     * @throws NullPointerException when either the entity or the ttl is null
+     * @see KeyValueTemplate#put(Object, Duration)
+     */
+    <T> CompletionStage<T> put(T entity, Duration ttl);
+
+    /**
+     * Saves the entities asynchronously.
+     *
+     * @param entities the entities to be saved
+     * @param <T>      the entity type
+     * @return the stage completed with the saved entities
+     * @throws NullPointerException when the entities are null
+     * @see KeyValueTemplate#put(Iterable)
+     */
+    <T> CompletionStage<Iterable<T>> put(Iterable<T> entities);
+
+    /**
+     * Saves the entities with a time to live asynchronously.
+     *
+     * @param entities the entities to be saved
+     * @param ttl      the time to live
+     * @param <T>      the entity type
+     * @return the stage completed with the saved entities
+     * @throws NullPointerException when either the entities or the ttl is null
+     * @see KeyValueTemplate#put(Iterable, Duration)
+     */
+    <T> CompletionStage<Iterable<T>> put(Iterable<T> entities, Duration ttl);
+
+    /**
+     * Finds the value associated with the key asynchronously.
+     *
+     * @param key  the key
+     * @param type the entity class to convert the result
+     * @param <K>  the key type
+     * @param <T>  the entity type
+     * @return the stage completed with the value, or {@link Optional#empty()} when it is not found
+     * @throws NullPointerException when either the key or the type is null
+     * @see KeyValueTemplate#get(Object, Class)
+     */
+    <K, T> CompletionStage<Optional<T>> get(K key, Class<T> type);
+
+    /**
+     * Finds the values associated with the keys asynchronously.
+     *
+     * @param keys the keys to be used in this query
+     * @param type the entity class
+     * @param <K>  the key type
+     * @param <T>  the entity type
+     * @return the stage completed with the values found
+     * @throws NullPointerException when either the keys or the type is null
+     * @see KeyValueTemplate#get(Iterable, Class)
+     */
+    <K, T> CompletionStage<Iterable<T>> get(Iterable<K> keys, Class<T> type);
+
+    /**
+     * Removes the entity associated with the key asynchronously.
+     *
+     * @param key the key to be used
+     * @param <K> the key type
+     * @return the stage completed when the entity is removed
+     * @throws NullPointerException when the key is null
+     * @see KeyValueTemplate#delete(Object)
+     */
+    <K> CompletionStage<Void> delete(K key);
+
+    /**
+     * Removes the entities associated with the keys asynchronously.
+     *
+     * @param keys the keys to be used
+     * @param <K>  the key type
+     * @return the stage completed when the entities are removed
+     * @throws NullPointerException when the keys are null
+     * @see KeyValueTemplate#delete(Iterable)
+     */
+    <K> CompletionStage<Void> delete(Iterable<K> keys);
+}
@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import static java.util.Objects.requireNonNull;
+
+record DefaultAsyncKeyValueTemplate(KeyValueTemplate template, Executor executor) implements AsyncKeyValueTemplate {
+
+    @Override
+    public <T> CompletionStage<T> put(T entity) {
+        requireNonNull(entity, "entity is required");
+        return CompletableFuture.supplyAsync(() -> template.put(entity), executor);
+    }
+
+    @Override
+    public <T> CompletionStage<T> put(T entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        return CompletableFuture.supplyAsync(() -> template.put(entity, ttl), executor);
+    }
+
+    @Override
+    public <T> CompletionStage<Iterable<T>> put(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        return CompletableFuture.supplyAsync(() -> template.put(entities), executor);
+    }
+
+    @Override
+    public <T> CompletionStage<Iterable<T>> put(Iterable<T> entities, Duration ttl) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl is required");
+        return CompletableFuture.supplyAsync(() -> template.put(entities, ttl), executor);
+    }
+
+    @Override
+    public <K, T> CompletionStage<Optional<T>> get(K key, Class<T> type) {
+        requireNonNull(key, "key is required");
+        requireNonNull(type, "type is required");
+        return CompletableFuture.supplyAsync(() -> template.get(key, type), executor);
+    }
+
+    @Override
+    public <K, T> CompletionStage<Iterable<T>> get(Iterable<K> keys, Class<T> type) {
+        requireNonNull(keys, "keys is required");
+        requireNonNull(type, "type is required");
+        return CompletableFuture.supplyAsync(() -> template.get(keys, type), executor);
+    }
+
+    @Override
+    public <K> CompletionStage<Void> delete(K key) {
+        requireNonNull(key, "key is required");
+        return CompletableFuture.runAsync(() -> template.delete(key), executor);
+    }
+
+    @Override
+    public <K> CompletionStage<Void> delete(Iterable<K> keys) {
+        requireNonNull(keys, "keys is required");
+        return CompletableFuture.runAsync(() -> template.delete(keys), executor);
+    }
+}
@@ -15,10 +15,12 @@
 package org.eclipse.jnosql.mapping.keyvalue;
 
 import jakarta.nosql.Template;
+import org.eclipse.jnosql.communication.AsyncExecutor;
 
 import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.stream.StreamSupport;
 
 /**
@@ -129,4 +131,27 @@ public interface KeyValueTemplate extends Template {
      */
     <K> void delete(Iterable<K> keys);
 
+    /**
+     * Returns the asynchronous variant of the operations of this template, running them on the default
+     * {@link AsyncExecutor}, a pool bounded by the {@value AsyncExecutor#POOL_SIZE} property that uses virtual
+     * threads when the runtime supports them.
+     *
+     * @return an {@link AsyncKeyValueTemplate} instance
+     */
+    default AsyncKeyValueTemplate async() {
+        return async(AsyncExecutor.INSTANCE.get());
+    }
+
+    /**
+     * Returns the asynchronous variant of the operations of this template, running them on the executor.
+     *
+     * @param executor the executor that runs the operations
+     * @return an {@link AsyncKeyValueTemplate} instance
+     * @throws NullPointerException when the executor is null
+     */
+    default AsyncKeyValueTemplate async(Executor executor) {
+        Objects.requireNonNull(executor, "executor is required");
+        return new DefaultAsyncKeyValueTemplate(this, executor);
+    }
+
 }
\ No newline at end of file
@@ -17,6 +17,14 @@ package org.eclipse.jnosql.mapping.keyvalue.query;
 
 import org.eclipse.jnosql.mapping.keyvalue.KeyValueTemplate;
 import org.eclipse.jnosql.mapping.core.query.AbstractRepository;
+import org.eclipse.jnosql.mapping.core.util.BatchUtil;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.StreamSupport.stream;
 
 /**
  * The template method to key-value repository
@@ -31,4 +39,29 @@ public abstract class AbstractKeyValueRepository<T, K> extends AbstractRepositor
         return "The key-value type does not support %s method";
     }
 
+    @Override
+    public Stream<T> findByIdIn(Iterable<K> ids) {
+        requireNonNull(ids, "ids is required");
+        return stream(template().get(ids, type()).spliterator(), false);
+    }
+
+    @Override
+    public void deleteByIdIn(Iterable<K> ids) {
+        requireNonNull(ids, "ids is required");
+        for (List<K> batch : BatchUtil.split(ids)) {
+            template().delete(batch);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void deleteAll(List<? extends T> entities) {
+        requireNonNull(entities, "entities is required");
+        FieldMetadata id = getIdField();
+        List<K> ids = entities.stream()
+                .map(entity -> (K) requireNonNull(id.read(entity), "id is required"))
+                .toList();
+        deleteByIdIn(ids);
+    }
+
 }
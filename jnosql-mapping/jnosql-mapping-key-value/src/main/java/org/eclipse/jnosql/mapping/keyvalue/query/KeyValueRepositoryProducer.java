@@ -18,12 +18,12 @@ package org.eclipse.jnosql.mapping.keyvalue.query;
 import jakarta.data.repository.BasicRepository;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import org.eclipse.jnosql.mapping.core.repository.RepositoryInstances;
 import org.eclipse.jnosql.mapping.keyvalue.KeyValueTemplate;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.mapping.keyvalue.KeyValueTemplateProducer;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 
-import java.lang.reflect.Proxy;
 import java.util.Objects;
 
 @ApplicationScoped
@@ -46,8 +46,6 @@ public class KeyValueRepositoryProducer {
         Objects.requireNonNull(repositoryClass, "repository class is required");
         Objects.requireNonNull(template, "template class is required");
         KeyValueRepositoryProxy<T, K> handler = new KeyValueRepositoryProxy<>(repositoryClass, entities, template);
-        return (R) Proxy.newProxyInstance(repositoryClass.getClassLoader(),
-                new Class[]{repositoryClass},
-                handler);
+        return RepositoryInstances.INSTANCE.newInstance(repositoryClass, handler);
     }
 }
@@ -21,10 +21,10 @@ import org.eclipse.jnosql.mapping.DatabaseQualifier;
 import org.eclipse.jnosql.mapping.DatabaseType;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.core.spi.AbstractBean;
+import org.eclipse.jnosql.mapping.core.repository.RepositoryInstances;
 import org.eclipse.jnosql.mapping.core.util.AnnotationLiteralUtil;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.HashSet;
@@ -77,9 +77,7 @@ public class RepositoryKeyValueBean<T extends CrudRepository> extends AbstractBe
                 getInstance(KeyValueTemplate.class, DatabaseQualifier.ofKeyValue(provider));
         EntitiesMetadata entities = getInstance(EntitiesMetadata.class);
         var handler = new KeyValueRepositoryProxy<>(type, entities, template);
-        return (T) Proxy.newProxyInstance(type.getClassLoader(),
-                new Class[]{type},
-                handler);
+        return (T) RepositoryInstances.INSTANCE.newInstance(type, handler);
     }
 
 
@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import org.eclipse.jnosql.mapping.keyvalue.entities.User;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+
+class AsyncKeyValueTemplateTest {
+
+    private final KeyValueTemplate template = Mockito.mock(KeyValueTemplate.class, Answers.CALLS_REAL_METHODS);
+
+    private final Executor executor = Runnable::run;
+
+    private final AsyncKeyValueTemplate async = template.async(executor);
+
+    private final User user = new User("otaviojava", "Otavio", 30);
+
+    @Test
+    void shouldPut() {
+        var ttl = Duration.ofMinutes(1);
+        doReturn(user).when(template).put(user);
+        doReturn(user).when(template).put(user, ttl);
+        doReturn(List.of(user)).when(template).put(List.of(user));
+        doReturn(List.of(user)).when(template).put(List.of(user), ttl);
+
+        assertThat(async.put(user).toCompletableFuture().join()).isSameAs(user);
+        assertThat(async.put(user, ttl).toCompletableFuture().join()).isSameAs(user);
+        assertThat(async.put(List.of(user)).toCompletableFuture().join()).containsExactly(user);
+        assertThat(async.put(List.of(user), ttl).toCompletableFuture().join()).containsExactly(user);
+    }
+
+    @Test
+    void shouldGet() {
+        doReturn(Optional.of(user)).when(template).get("otaviojava", User.class);
+        doReturn(List.of(user)).when(template).get(List.of("otaviojava"), User.class);
+
+        assertThat(async.get("otaviojava", User.class).toCompletableFuture().join()).contains(user);
+        assertThat(async.get(List.of("otaviojava"), User.class).toCompletableFuture().join()).containsExactly(user);
+    }
+
+    @Test
+    void shouldDelete() {
+        async.delete("otaviojava").toCompletableFuture().join();
+        async.delete(List.of("otaviojava")).toCompletableFuture().join();
+
+        verify(template).delete("otaviojava");
+        verify(template).delete(List.of("otaviojava"));
+    }
+
+    @Test
+    void shouldRunOnTheDefaultExecutor() throws Exception {
+        doReturn(Optional.of(user)).when(template).get("otaviojava", User.class);
+
+        assertThat(template.async().get("otaviojava", User.class).toCompletableFuture().get(10, TimeUnit.SECONDS))
+                .contains(user);
+    }
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        assertThatThrownBy(() -> template.async(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> async.get("otaviojava", null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> async.put((User) null)).isInstanceOf(NullPointerException.class);
+    }
+}
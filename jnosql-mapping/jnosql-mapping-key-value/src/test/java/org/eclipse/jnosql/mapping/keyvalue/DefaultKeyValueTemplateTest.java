@@ -20,6 +20,7 @@ import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.config.MappingConfigurations;
 import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
 import org.eclipse.jnosql.mapping.keyvalue.entities.Person;
 import org.eclipse.jnosql.mapping.keyvalue.entities.User;
@@ -40,11 +41,14 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static java.util.Collections.singletonList;
 import static java.util.stream.StreamSupport.stream;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -81,6 +85,7 @@ class DefaultKeyValueTemplateTest {
     void setUp() {
         Instance<BucketManager> instance = Mockito.mock(Instance.class);
         when(instance.get()).thenReturn(manager);
+        Mockito.doCallRealMethod().when(manager).getAll(Mockito.any());
         this.template = new DefaultKeyValueTemplate(converter, instance, eventManager);
     }
 
@@ -237,6 +242,54 @@ class DefaultKeyValueTemplateTest {
         assertEquals(user, userOptional.get(0));
     }
 
+    @Test
+    void shouldGetIterableInASingleCall() {
+        User ada = new User("ada", "Ada", 30);
+        User poliana = new User("poliana", "Poliana", 25);
+        Map<String, Value> values = new LinkedHashMap<>();
+        values.put("poliana", Value.of(poliana));
+        values.put("ada", Value.of(ada));
+        Mockito.doReturn(values).when(manager).getAll(List.of("ada", "poliana"));
+
+        List<User> users = stream(template.get(List.of("ada", "poliana"), User.class).spliterator(), false)
+                .toList();
+
+        assertThat(users).containsExactly(ada, poliana);
+        Mockito.verify(manager, Mockito.never()).get(Mockito.anyString());
+    }
+
+    @Test
+    void shouldGetIterableInBatches() {
+        System.setProperty(MappingConfigurations.BATCH_SIZE.get(), "2");
+        try {
+            User ada = new User("ada", "Ada", 30);
+            User poliana = new User("poliana", "Poliana", 25);
+            User otavio = new User("otavio", "Otavio", 35);
+            Mockito.doReturn(Map.of("ada", Value.of(ada), "poliana", Value.of(poliana)))
+                    .when(manager).getAll(List.of("ada", "poliana"));
+            Mockito.doReturn(Map.of("otavio", Value.of(otavio))).when(manager).getAll(List.of("otavio"));
+
+            List<User> users = stream(template.get(List.of("ada", "poliana", "otavio"), User.class)
+                    .spliterator(), false).toList();
+
+            assertThat(users).containsExactly(ada, poliana, otavio);
+        } finally {
+            System.clearProperty(MappingConfigurations.BATCH_SIZE.get());
+        }
+    }
+
+    @Test
+    void shouldSkipTheKeysNotFoundInTheBatch() {
+        User ada = new User("ada", "Ada", 30);
+        Mockito.doReturn(Map.of("ada", Value.of(ada))).when(manager).getAll(List.of("ada", "poliana"));
+
+        List<User> users = stream(template.get(List.of("ada", "poliana"), User.class).spliterator(), false)
+                .toList();
+
+        assertThat(users).containsExactly(ada);
+        Mockito.verify(manager, Mockito.never()).get(Mockito.anyString());
+    }
+
     @Test
     void shouldReturnEmptyIterable() {
         User user = new User(KEY, "otavio", 27);
@@ -165,9 +165,8 @@ class KeyValueRepositoryProxyTest {
     @Test
     void shouldDeleteIterable() {
         userRepository.deleteByIdIn(Collections.singletonList("key"));
-        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
-        Mockito.verify(template).delete(Mockito.eq(User.class), captor.capture());
-        assertEquals("key", captor.getValue());
+        Mockito.verify(template).delete(List.of("key"));
+        Mockito.verify(template, Mockito.never()).delete(Mockito.eq(User.class), Mockito.any());
     }
 
     @Test
@@ -183,9 +182,7 @@ class KeyValueRepositoryProxyTest {
     void shouldDeleteEntities() {
         User user = new User("ada", "Ada", 10);
         userRepository.deleteAll(Collections.singletonList(user));
-        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
-        Mockito.verify(template).delete(Mockito.eq(User.class), captor.capture());
-        assertEquals("ada", captor.getValue());
+        Mockito.verify(template).delete(List.of("ada"));
     }
 
     @Test
@@ -211,10 +208,10 @@ class KeyValueRepositoryProxyTest {
         User user = new User("ada", "Ada", 10);
         User user2 = new User("ada", "Ada", 10);
         List<String> keys = Arrays.asList("key", "key2");
-        when(template.find(User.class, "key")).thenReturn(Optional.of(user));
-        when(template.find(User.class, "key2")).thenReturn(Optional.of(user2));
+        when(template.get(keys, User.class)).thenReturn(List.of(user, user2));
 
         assertThat(userRepository.findByIdIn(keys)).contains(user, user2);
+        Mockito.verify(template, Mockito.never()).find(Mockito.eq(User.class), Mockito.any());
     }
 
     @Test
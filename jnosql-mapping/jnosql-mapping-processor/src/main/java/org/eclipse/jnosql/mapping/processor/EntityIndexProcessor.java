@@ -0,0 +1,156 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * The annotation processor that writes the index of the entities, embeddables, repositories and custom repositories
+ * of the compilation to {@link #INDEX}. The {@code ReflectionClassScanner} reads the index instead of scanning
+ * the classpath when the {@code jnosql.metadata.index} property is true. Each line of the index has the kind and the binary name of a class.
+ * The entries of a previous index whose types still exist with the same annotation are kept, so an incremental
+ * compilation does not lose them.
+ */
+@SupportedAnnotationTypes({EntityIndexProcessor.ENTITY_ANNOTATION, EntityIndexProcessor.EMBEDDABLE_ANNOTATION,
+        RepositoryProcessor.REPOSITORY})
+public class EntityIndexProcessor extends AbstractProcessor {
+
+    static final String INDEX = "META-INF/jnosql/index";
+
+    static final String ENTITY_ANNOTATION = "jakarta.nosql.Entity";
+
+    static final String EMBEDDABLE_ANNOTATION = "jakarta.nosql.Embeddable";
+
+    private static final String DATA_REPOSITORY = "jakarta.data.repository.DataRepository";
+
+    private final Map<String, String> entries = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        for (TypeElement annotation : annotations) {
+            String name = annotation.getQualifiedName().toString();
+            for (Element element : round.getElementsAnnotatedWith(annotation)) {
+                if (element instanceof TypeElement type) {
+                    kind(name, type).ifPresent(kind -> entries.put(binaryName(type), kind));
+                }
+            }
+        }
+        if (round.processingOver() && !entries.isEmpty()) {
+            write();
+        }
+        return false;
+    }
+
+    private Optional<String> kind(String annotation, TypeElement type) {
+        return switch (annotation) {
+            case ENTITY_ANNOTATION -> Optional.of("entity");
+            case EMBEDDABLE_ANNOTATION -> Optional.of("embeddable");
+            case RepositoryProcessor.REPOSITORY -> {
+                if (type.getKind() != ElementKind.INTERFACE) {
+                    yield Optional.empty();
+                }
+                yield Optional.of(isDataRepository(type) ? "repository" : "custom-repository");
+            }
+            default -> Optional.empty();
+        };
+    }
+
+    private boolean isDataRepository(TypeElement type) {
+        TypeElement repository = processingEnv.getElementUtils().getTypeElement(DATA_REPOSITORY);
+        if (repository == null) {
+            return false;
+        }
+        var types = processingEnv.getTypeUtils();
+        TypeMirror erasure = types.erasure(repository.asType());
+        return types.isAssignable(types.erasure(type.asType()), erasure);
+    }
+
+    private String binaryName(TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    private void write() {
+        readPrevious();
+        try {
+            FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+            try (Writer writer = index.openWriter()) {
+                writer.write("# Generated by the Eclipse JNoSQL annotation processor" + System.lineSeparator());
+                for (Map.Entry<String, String> entry : entries.entrySet()) {
+                    writer.write(entry.getValue() + ' ' + entry.getKey() + System.lineSeparator());
+                }
+            }
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "There is an issue to write the class index " + INDEX + ": " + exception.getMessage());
+        }
+    }
+
+    private void readPrevious() {
+        try {
+            FileObject previous = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+            try (Reader reader = previous.openReader(true); var lines = new BufferedReader(reader)) {
+                lines.lines().map(String::strip)
+                        .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                        .map(line -> line.split("\\s+"))
+                        .filter(values -> values.length == 2 && annotated(values[0], values[1]))
+                        .forEach(values -> entries.putIfAbsent(values[1], values[0]));
+            }
+        } catch (IOException | IllegalArgumentException exception) {
+            // there is not a previous index
+        }
+    }
+
+    /**
+     * Checks that the type of a previous entry still exists and still has the annotation of its kind.
+     */
+    private boolean annotated(String kind, String binaryName) {
+        TypeElement type = processingEnv.getElementUtils().getTypeElement(binaryName.replace('$', '.'));
+        if (type == null) {
+            return false;
+        }
+        String annotation = switch (kind) {
+            case "entity" -> ENTITY_ANNOTATION;
+            case "embeddable" -> EMBEDDABLE_ANNOTATION;
+            case "repository", "custom-repository" -> RepositoryProcessor.REPOSITORY;
+            default -> null;
+        };
+        return annotation != null && type.getAnnotationMirrors().stream()
+                .map(mirror -> (TypeElement) mirror.getAnnotationType().asElement())
+                .anyMatch(element -> element.getQualifiedName().contentEquals(annotation));
+    }
+}
@@ -0,0 +1,528 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.IntersectionType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Writes the source of the class that implements a repository interface, where each abstract method, declared
+ * or inherited, calls the {@link java.lang.reflect.InvocationHandler} with a {@link java.lang.reflect.Method}
+ * constant, as a {@link java.lang.reflect.Proxy} does, and rethrows the exceptions the same way.
+ * The default methods are kept from the interface.
+ * <p>
+ * When the class is created with the {@code jakarta.nosql.Template} of the repository, the query methods that can be
+ * derived at compile time query the template directly: the {@code findBy} methods whose conditions are joined by
+ * {@code And}, and the {@link #FIND} methods whose parameters have {@link #BY}, declared in a repository of an entity,
+ * over mapped fields, and returning the entity as a {@link List}, {@link java.util.stream.Stream},
+ * {@link java.util.Optional} or itself. Any other method, a null argument, or an instance without the template,
+ * still calls the handler, which executes the {@code @Query} methods, the special parameters and the other return
+ * types at runtime.
+ */
+final class RepositoryClassWriter {
+
+    /**
+     * The suffix of the generated class name, the same one the mapping looks up when it creates the repository.
+     */
+    static final String SUFFIX = "$JNoSQL";
+
+    private static final String INDENT = "    ";
+
+    private static final String TEMPLATE = "jakarta.nosql.Template";
+
+    private static final String DATA_REPOSITORY = "jakarta.data.repository.DataRepository";
+
+    private static final String FIND = "jakarta.data.repository.Find";
+
+    private static final String BY = "jakarta.data.repository.By";
+
+    private static final String DATA_PACKAGE = "jakarta.data.repository";
+
+    /**
+     * The keywords of the method names, split the same way the query method parser of the mapping does.
+     */
+    private static final Pattern TOKENIZER = Pattern.compile(
+            "findBy|deleteBy|countAll|countBy|existsBy|OrderBy|"
+                    + "First(?=\\d*By)|First(?=By)|(?<=First\\d{1,})By|(?<=First)By|(?<!First)By|IgnoreCase|"
+                    + "And|Or(?!der)|Null|Not|Equals|GreaterThanEqual|True|False|Contains|EndsWith|StartsWith|"
+                    + "LessThanEqual|GreaterThan|LessThan|Between|In|Like|Asc|Desc");
+
+    private static final Set<String> KEYWORDS = Set.of("findBy", "deleteBy", "countAll", "countBy", "existsBy",
+            "OrderBy", "First", "By", "IgnoreCase", "And", "Or", "Null", "Not", "Equals", "GreaterThanEqual", "True",
+            "False", "Contains", "EndsWith", "StartsWith", "LessThanEqual", "GreaterThan", "LessThan", "Between", "In",
+            "Like", "Asc", "Desc");
+
+    private static final Map<String, String> OPERATORS = Map.of("Equals", "eq", "GreaterThan", "gt",
+            "GreaterThanEqual", "gte", "LessThan", "lt", "LessThanEqual", "lte", "Like", "like", "In", "in",
+            "Between", "between");
+
+    private final Elements elements;
+
+    private final Types types;
+
+    private final TypeElement repository;
+
+    private final String packageName;
+
+    private final String simpleName;
+
+    RepositoryClassWriter(ProcessingEnvironment environment, TypeElement repository) {
+        this.elements = environment.getElementUtils();
+        this.types = environment.getTypeUtils();
+        this.repository = repository;
+        this.packageName = elements.getPackageOf(repository).getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(repository).toString();
+        this.simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + SUFFIX;
+    }
+
+    /**
+     * Returns the qualified name of the generated class.
+     *
+     * @return the class name
+     */
+    String qualifiedName() {
+        return packageName.isEmpty() ? simpleName : packageName + '.' + simpleName;
+    }
+
+    /**
+     * Returns the source of the generated class.
+     *
+     * @return the source code
+     */
+    String write() {
+        String repositoryName = repository.getQualifiedName().toString();
+        List<ExecutableElement> methods = methods();
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        if (elements.getTypeElement("javax.annotation.processing.Generated") != null) {
+            source.append("@javax.annotation.processing.Generated(\"").append(RepositoryProcessor.class.getName()).append("\")\n");
+        }
+        if (elements.getTypeElement("jakarta.enterprise.inject.Vetoed") != null) {
+            source.append("@jakarta.enterprise.inject.Vetoed\n");
+        }
+        source.append("@SuppressWarnings(\"unchecked\")\n");
+        source.append("public final class ").append(simpleName).append(" implements ").append(repositoryName).append(" {\n\n");
+
+        for (int index = 0; index < methods.size(); index++) {
+            ExecutableElement method = methods.get(index);
+            source.append(INDENT).append("private static final java.lang.reflect.Method METHOD_").append(index)
+                    .append(" = repositoryMethod(\"").append(method.getSimpleName()).append('"');
+            for (VariableElement parameter : method.getParameters()) {
+                source.append(", ").append(print(types.erasure(parameter.asType()))).append(".class");
+            }
+            source.append(");\n");
+        }
+
+        boolean template = elements.getTypeElement(TEMPLATE) != null;
+        source.append('\n').append(INDENT).append("private final java.lang.reflect.InvocationHandler handler;\n");
+        if (template) {
+            source.append('\n').append(INDENT).append("private final ").append(TEMPLATE).append(" template;\n");
+        }
+        source.append('\n').append(INDENT).append("public ").append(simpleName).append("(java.lang.reflect.InvocationHandler handler) {\n");
+        source.append(INDENT).append(INDENT).append("this.handler = java.util.Objects.requireNonNull(handler, \"handler is required\");\n");
+        if (template) {
+            source.append(INDENT).append(INDENT).append("this.template = null;\n");
+            source.append(INDENT).append("}\n\n");
+            source.append(INDENT).append("public ").append(simpleName).append("(java.lang.reflect.InvocationHandler handler, ")
+                    .append(TEMPLATE).append(" template) {\n");
+            source.append(INDENT).append(INDENT).append("this.handler = java.util.Objects.requireNonNull(handler, \"handler is required\");\n");
+            source.append(INDENT).append(INDENT).append("this.template = java.util.Objects.requireNonNull(template, \"template is required\");\n");
+        }
+        source.append(INDENT).append("}\n");
+
+        DeclaredType entity = template ? entity() : null;
+        for (int index = 0; index < methods.size(); index++) {
+            writeMethod(source, methods.get(index), index, entity);
+        }
+
+        source.append('\n').append(INDENT).append("private static java.lang.reflect.Method repositoryMethod(String name, Class<?>... parameters) {\n");
+        source.append(INDENT).append(INDENT).append("try {\n");
+        source.append(INDENT).append(INDENT).append(INDENT).append("return ").append(repositoryName).append(".class.getMethod(name, parameters);\n");
+        source.append(INDENT).append(INDENT).append("} catch (NoSuchMethodException exception) {\n");
+        source.append(INDENT).append(INDENT).append(INDENT).append("throw new NoSuchMethodError(exception.getMessage());\n");
+        source.append(INDENT).append(INDENT).append("}\n");
+        source.append(INDENT).append("}\n");
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private List<ExecutableElement> methods() {
+        DeclaredType type = (DeclaredType) repository.asType();
+        Map<String, ExecutableElement> methods = new LinkedHashMap<>();
+        Set<String> implemented = new HashSet<>();
+        for (Element member : elements.getAllMembers(repository)) {
+            if (member.getKind() != ElementKind.METHOD || member.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            ExecutableElement method = (ExecutableElement) member;
+            String signature = signature(type, method);
+            if (method.getModifiers().contains(Modifier.ABSTRACT)) {
+                methods.putIfAbsent(signature, method);
+            } else {
+                implemented.add(signature);
+            }
+        }
+        methods.keySet().removeAll(implemented);
+        return new ArrayList<>(methods.values());
+    }
+
+    private String signature(DeclaredType type, ExecutableElement method) {
+        ExecutableType executable = (ExecutableType) types.asMemberOf(type, method);
+        return method.getSimpleName() + executable.getParameterTypes().stream()
+                .map(parameter -> print(types.erasure(parameter)))
+                .collect(Collectors.joining(",", "(", ")"));
+    }
+
+    private void writeMethod(StringBuilder source, ExecutableElement method, int index, DeclaredType entity) {
+        ExecutableType executable = (ExecutableType) types.asMemberOf((DeclaredType) repository.asType(), method);
+        TypeMirror returnType = executable.getReturnType();
+        List<? extends VariableElement> parameters = method.getParameters();
+        List<? extends TypeMirror> parameterTypes = executable.getParameterTypes();
+
+        source.append('\n').append(INDENT).append("@Override\n").append(INDENT).append("public ");
+        if (!executable.getTypeVariables().isEmpty()) {
+            source.append(executable.getTypeVariables().stream().map(this::printDeclaration)
+                    .collect(Collectors.joining(", ", "<", "> ")));
+        }
+        source.append(print(returnType)).append(' ').append(method.getSimpleName()).append('(');
+        for (int position = 0; position < parameters.size(); position++) {
+            if (position > 0) {
+                source.append(", ");
+            }
+            TypeMirror parameterType = parameterTypes.get(position);
+            if (method.isVarArgs() && position == parameters.size() - 1) {
+                source.append(print(((ArrayType) parameterType).getComponentType())).append("...");
+            } else {
+                source.append(print(parameterType));
+            }
+            source.append(' ').append(parameters.get(position).getSimpleName());
+        }
+        source.append(')');
+        List<? extends TypeMirror> thrownTypes = executable.getThrownTypes();
+        if (!thrownTypes.isEmpty()) {
+            source.append(" throws ").append(thrownTypes.stream().map(this::print).collect(Collectors.joining(", ")));
+        }
+        source.append(" {\n");
+
+        if (entity != null) {
+            query(method, executable, entity).ifPresent(query -> writeQuery(source, parameters, parameterTypes, query));
+        }
+        String arguments = parameters.isEmpty() ? "null" : parameters.stream()
+                .map(parameter -> parameter.getSimpleName().toString())
+                .collect(Collectors.joining(", ", "new Object[]{", "}"));
+        String invoke = "this.handler.invoke(this, METHOD_" + index + ", " + arguments + ");\n";
+        source.append(INDENT).append(INDENT).append("try {\n").append(INDENT).append(INDENT).append(INDENT);
+        if (returnType.getKind() == TypeKind.VOID) {
+            source.append(invoke);
+        } else if (returnType.getKind().isPrimitive()) {
+            source.append("return (").append(types.boxedClass((PrimitiveType) returnType).getQualifiedName())
+                    .append(") ").append(invoke);
+        } else {
+            source.append("return (").append(print(returnType)).append(") ").append(invoke);
+        }
+        writeCatches(source, thrownTypes);
+        source.append(INDENT).append("}\n");
+    }
+
+    private void writeQuery(StringBuilder source, List<? extends VariableElement> parameters,
+                            List<? extends TypeMirror> parameterTypes, String query) {
+        List<String> checks = new ArrayList<>();
+        checks.add("this.template != null");
+        for (int position = 0; position < parameters.size(); position++) {
+            if (!parameterTypes.get(position).getKind().isPrimitive()) {
+                checks.add(parameters.get(position).getSimpleName() + " != null");
+            }
+        }
+        source.append(INDENT).append(INDENT).append("if (").append(String.join(" && ", checks)).append(") {\n");
+        source.append(INDENT).append(INDENT).append(INDENT).append("return ").append(query).append(";\n");
+        source.append(INDENT).append(INDENT).append("}\n");
+    }
+
+    /**
+     * Returns the entity of the repository, the first type argument of its {@code DataRepository}, or null when it is
+     * not a repository of a class.
+     */
+    private DeclaredType entity() {
+        if (elements.getTypeElement(DATA_REPOSITORY) == null) {
+            return null;
+        }
+        List<TypeMirror> supertypes = new ArrayList<>(types.directSupertypes(repository.asType()));
+        while (!supertypes.isEmpty()) {
+            TypeMirror supertype = supertypes.remove(0);
+            if (supertype instanceof DeclaredType declared
+                    && ((TypeElement) declared.asElement()).getQualifiedName().contentEquals(DATA_REPOSITORY)) {
+                if (declared.getTypeArguments().isEmpty()
+                        || !(declared.getTypeArguments().get(0) instanceof DeclaredType type)) {
+                    return null;
+                }
+                return type;
+            }
+            supertypes.addAll(types.directSupertypes(supertype));
+        }
+        return null;
+    }
+
+    /**
+     * Returns the template query of the method, when it can be derived at compile time.
+     */
+    private Optional<String> query(ExecutableElement method, ExecutableType executable, DeclaredType entity) {
+        if (!repository.equals(method.getEnclosingElement()) || method.getSimpleName().contentEquals("findAll")) {
+            return Optional.empty();
+        }
+        Optional<String> result = result(executable.getReturnType(), entity);
+        if (result.isEmpty()) {
+            return Optional.empty();
+        }
+        List<String> annotations = method.getAnnotationMirrors().stream()
+                .map(mirror -> ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString())
+                .filter(name -> name.startsWith(DATA_PACKAGE + '.'))
+                .toList();
+        Optional<List<String>> conditions;
+        if (annotations.equals(List.of(FIND))) {
+            conditions = findConditions(method, entity);
+        } else if (annotations.isEmpty() && method.getSimpleName().toString().startsWith("findBy")) {
+            conditions = findByConditions(method, executable, entity);
+        } else {
+            conditions = Optional.empty();
+        }
+        return conditions.map(values -> "this.template.select(" + print(types.erasure(entity)) + ".class)"
+                + String.join("", values) + result.get());
+    }
+
+    private Optional<String> result(TypeMirror returnType, DeclaredType entity) {
+        if (types.isSameType(returnType, entity)) {
+            return Optional.of(".<" + print(entity) + ">singleResult().orElse(null)");
+        }
+        if (!(returnType instanceof DeclaredType declared) || declared.getTypeArguments().size() != 1
+                || !types.isSameType(declared.getTypeArguments().get(0), entity)) {
+            return Optional.empty();
+        }
+        return switch (((TypeElement) declared.asElement()).getQualifiedName().toString()) {
+            case "java.util.List" -> Optional.of(".result()");
+            case "java.util.stream.Stream" -> Optional.of(".stream()");
+            case "java.util.Optional" -> Optional.of(".singleResult()");
+            default -> Optional.empty();
+        };
+    }
+
+    /**
+     * The equality conditions of a {@code @Find} method, where every parameter has {@code @By} with a mapped field.
+     */
+    private Optional<List<String>> findConditions(ExecutableElement method, DeclaredType entity) {
+        List<String> conditions = new ArrayList<>();
+        for (VariableElement parameter : method.getParameters()) {
+            Optional<String> field = parameter.getAnnotationMirrors().stream()
+                    .filter(mirror -> ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(BY))
+                    .flatMap(mirror -> mirror.getElementValues().values().stream())
+                    .map(value -> value.getValue().toString())
+                    .findFirst();
+            if (field.isEmpty() || !isMapped(entity, field.get())) {
+                return Optional.empty();
+            }
+            conditions.add(condition(conditions.isEmpty(), field.get(), "eq", parameter.getSimpleName().toString()));
+        }
+        return Optional.of(conditions);
+    }
+
+    /**
+     * The conditions of a {@code findBy} method joined by {@code And}, each one a mapped field with an optional
+     * comparison, that take the parameters in order.
+     */
+    private Optional<List<String>> findByConditions(ExecutableElement method, ExecutableType executable,
+                                                    DeclaredType entity) {
+        String[] tokens = TOKENIZER.matcher(method.getSimpleName()).replaceAll(" $0 ").trim().split("\\s+");
+        List<? extends VariableElement> parameters = method.getParameters();
+        List<? extends TypeMirror> parameterTypes = executable.getParameterTypes();
+        List<String> conditions = new ArrayList<>();
+        int parameter = 0;
+        int index = 1;
+        while (index < tokens.length) {
+            String token = tokens[index++];
+            if (KEYWORDS.contains(token) || token.contains("_") || token.contains(".")) {
+                return Optional.empty();
+            }
+            String field = Character.toLowerCase(token.charAt(0)) + token.substring(1);
+            String operator = "eq";
+            if (index < tokens.length && OPERATORS.containsKey(tokens[index])) {
+                operator = OPERATORS.get(tokens[index++]);
+            }
+            int size = "between".equals(operator) ? 2 : 1;
+            if (!isMapped(entity, field) || parameter + size > parameters.size()
+                    || !isSupported(operator, parameterTypes.get(parameter))) {
+                return Optional.empty();
+            }
+            String arguments = parameters.subList(parameter, parameter + size).stream()
+                    .map(value -> value.getSimpleName().toString()).collect(Collectors.joining(", "));
+            conditions.add(condition(conditions.isEmpty(), field, operator, arguments));
+            parameter += size;
+            if (index < tokens.length && (!"And".equals(tokens[index++]) || index == tokens.length)) {
+                return Optional.empty();
+            }
+        }
+        if (conditions.isEmpty() || parameter != parameters.size()) {
+            return Optional.empty();
+        }
+        return Optional.of(conditions);
+    }
+
+    private boolean isSupported(String operator, TypeMirror parameter) {
+        return switch (operator) {
+            case "in" -> types.isAssignable(types.erasure(parameter),
+                    types.erasure(elements.getTypeElement(Iterable.class.getName()).asType()));
+            case "like" -> types.isSameType(parameter, elements.getTypeElement(String.class.getName()).asType());
+            default -> true;
+        };
+    }
+
+    private static String condition(boolean first, String field, String operator, String arguments) {
+        return (first ? ".where(\"" : ".and(\"") + field + "\")." + operator + '(' + arguments + ')';
+    }
+
+    /**
+     * Checks that the entity, or one of its superclasses, has the field with {@code jakarta.nosql.Id} or
+     * {@code jakarta.nosql.Column}.
+     */
+    private boolean isMapped(DeclaredType entity, String field) {
+        TypeElement type = (TypeElement) entity.asElement();
+        if (type.getAnnotationMirrors().stream().noneMatch(mirror -> ((TypeElement) mirror.getAnnotationType().asElement())
+                .getQualifiedName().contentEquals("jakarta.nosql.Entity"))) {
+            return false;
+        }
+        while (type != null) {
+            for (VariableElement variable : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                if (variable.getSimpleName().contentEquals(field) && variable.getAnnotationMirrors().stream()
+                        .map(mirror -> ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString())
+                        .anyMatch(name -> name.equals("jakarta.nosql.Id") || name.equals("jakarta.nosql.Column"))) {
+                    return true;
+                }
+            }
+            type = type.getSuperclass() instanceof DeclaredType superclass ? (TypeElement) superclass.asElement() : null;
+        }
+        return false;
+    }
+
+    private void writeCatches(StringBuilder source, List<? extends TypeMirror> thrownTypes) {
+        TypeMirror throwable = elements.getTypeElement(Throwable.class.getName()).asType();
+        TypeMirror runtime = elements.getTypeElement(RuntimeException.class.getName()).asType();
+        TypeMirror error = elements.getTypeElement(Error.class.getName()).asType();
+        List<TypeMirror> checked = new ArrayList<>();
+        boolean throwsAll = false;
+        for (TypeMirror thrown : thrownTypes) {
+            if (thrown.getKind() != TypeKind.DECLARED) {
+                throw new IllegalStateException("The repository method throws a type that is not a class: " + thrown);
+            }
+            if (types.isSameType(thrown, throwable)) {
+                throwsAll = true;
+            } else if (!types.isSubtype(thrown, runtime) && !types.isSubtype(thrown, error)
+                    && thrownTypes.stream().noneMatch(other -> !types.isSameType(thrown, other) && types.isSubtype(thrown, other))) {
+                checked.add(thrown);
+            }
+        }
+        source.append(INDENT).append(INDENT).append("} catch (RuntimeException | Error throwable$) {\n");
+        source.append(INDENT).append(INDENT).append(INDENT).append("throw throwable$;\n");
+        if (!throwsAll) {
+            for (TypeMirror thrown : checked) {
+                source.append(INDENT).append(INDENT).append("} catch (").append(print(thrown)).append(" throwable$) {\n");
+                source.append(INDENT).append(INDENT).append(INDENT).append("throw throwable$;\n");
+            }
+        }
+        source.append(INDENT).append(INDENT).append("} catch (Throwable throwable$) {\n");
+        if (throwsAll) {
+            source.append(INDENT).append(INDENT).append(INDENT).append("throw throwable$;\n");
+        } else {
+            source.append(INDENT).append(INDENT).append(INDENT)
+                    .append("throw new java.lang.reflect.UndeclaredThrowableException(throwable$);\n");
+        }
+        source.append(INDENT).append(INDENT).append("}\n");
+    }
+
+    private String printDeclaration(TypeVariable variable) {
+        TypeMirror bound = variable.getUpperBound();
+        String name = variable.asElement().getSimpleName().toString();
+        if (bound.getKind() == TypeKind.DECLARED
+                && ((TypeElement) ((DeclaredType) bound).asElement()).getQualifiedName().contentEquals(Object.class.getName())) {
+            return name;
+        }
+        return name + " extends " + print(bound);
+    }
+
+    private String print(TypeMirror type) {
+        switch (type.getKind()) {
+            case DECLARED -> {
+                DeclaredType declared = (DeclaredType) type;
+                String name = ((TypeElement) declared.asElement()).getQualifiedName().toString();
+                if (declared.getTypeArguments().isEmpty()) {
+                    return name;
+                }
+                return name + declared.getTypeArguments().stream().map(this::print)
+                        .collect(Collectors.joining(", ", "<", ">"));
+            }
+            case ARRAY -> {
+                return print(((ArrayType) type).getComponentType()) + "[]";
+            }
+            case TYPEVAR -> {
+                return ((TypeVariable) type).asElement().getSimpleName().toString();
+            }
+            case WILDCARD -> {
+                WildcardType wildcard = (WildcardType) type;
+                if (wildcard.getExtendsBound() != null) {
+                    return "? extends " + print(wildcard.getExtendsBound());
+                } else if (wildcard.getSuperBound() != null) {
+                    return "? super " + print(wildcard.getSuperBound());
+                }
+                return "?";
+            }
+            case INTERSECTION -> {
+                return ((IntersectionType) type).getBounds().stream().map(this::print)
+                        .collect(Collectors.joining(" & "));
+            }
+            case BOOLEAN, BYTE, SHORT, INT, LONG, CHAR, FLOAT, DOUBLE, VOID -> {
+                return type.getKind().name().toLowerCase(Locale.US);
+            }
+            default -> {
+                return type.toString();
+            }
+        }
+    }
+}
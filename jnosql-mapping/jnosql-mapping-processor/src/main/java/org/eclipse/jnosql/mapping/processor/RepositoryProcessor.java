@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+
+/**
+ * The annotation processor that generates, for each interface annotated with
+ * {@code jakarta.data.repository.Repository}, a class that implements it by delegating every abstract method to
+ * the {@link java.lang.reflect.InvocationHandler} of the repository, with the {@link java.lang.reflect.Method}
+ * resolved once. The class is named as the binary name of the interface plus {@link RepositoryClassWriter#SUFFIX},
+ * and it is used instead of a {@link java.lang.reflect.Proxy} when the repository bean is created. The query methods
+ * that can be derived at compile time query the template of the repository directly, as described at
+ * {@link RepositoryClassWriter}.
+ * The interfaces that have type parameters, or that are not accessible from their package, are skipped.
+ */
+@SupportedAnnotationTypes(RepositoryProcessor.REPOSITORY)
+public class RepositoryProcessor extends AbstractProcessor {
+
+    static final String REPOSITORY = "jakarta.data.repository.Repository";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : round.getElementsAnnotatedWith(annotation)) {
+                if (isSupported(element)) {
+                    generate((TypeElement) element);
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isSupported(Element element) {
+        if (element.getKind() != ElementKind.INTERFACE) {
+            return false;
+        }
+        TypeElement repository = (TypeElement) element;
+        if (!repository.getTypeParameters().isEmpty()) {
+            note(repository, "The repository has type parameters, it will use a proxy");
+            return false;
+        }
+        for (Element current = repository; current instanceof TypeElement; current = current.getEnclosingElement()) {
+            if (current.getModifiers().contains(Modifier.PRIVATE)) {
+                note(repository, "The repository is private, it will use a proxy");
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement repository) {
+        var writer = new RepositoryClassWriter(processingEnv, repository);
+        String source;
+        try {
+            source = writer.write();
+        } catch (IllegalStateException exception) {
+            note(repository, exception.getMessage() + ", it will use a proxy");
+            return;
+        }
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(writer.qualifiedName(), repository);
+            try (Writer output = file.openWriter()) {
+                output.write(source);
+            }
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "There is an issue to generate the repository: " + exception.getMessage(), repository);
+        }
+    }
+
+    private void note(TypeElement repository, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, message, repository);
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import jakarta.data.repository.Repository;
+import jakarta.nosql.Entity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EntityIndexProcessorTest {
+
+    private static final String PERSON = """
+            package sample;
+
+            import jakarta.nosql.Column;
+            import jakarta.nosql.Entity;
+            import jakarta.nosql.Id;
+
+            @Entity
+            public class Person {
+                @Id
+                private Long id;
+                @Column
+                private Address address;
+            }
+            """;
+
+    private static final String ADDRESS = """
+            package sample;
+
+            import jakarta.nosql.Embeddable;
+
+            @Embeddable
+            public record Address(String city) {
+            }
+            """;
+
+    private static final String PEOPLE = """
+            package sample;
+
+            import jakarta.data.repository.BasicRepository;
+            import jakarta.data.repository.Repository;
+
+            public class People {
+
+                @Repository
+                public interface PersonRepository extends BasicRepository<Person, Long> {
+                }
+
+                @Repository
+                public interface Reports {
+                }
+            }
+            """;
+
+    private static final String NOTE = """
+            package sample;
+
+            import jakarta.nosql.Entity;
+
+            @Entity
+            public class Note {
+            }
+            """;
+
+    @TempDir
+    Path output;
+
+    @Test
+    void shouldWriteTheIndex() throws IOException {
+        compile(source("sample/Person", PERSON), source("sample/Address", ADDRESS), source("sample/People", PEOPLE));
+
+        assertThat(index()).containsExactly(
+                "embeddable sample.Address",
+                "repository sample.People$PersonRepository",
+                "custom-repository sample.People$Reports",
+                "entity sample.Person");
+    }
+
+    @Test
+    void shouldKeepThePreviousEntriesThatExist() throws IOException {
+        compile(source("sample/Person", PERSON), source("sample/Address", ADDRESS));
+        Path index = output.resolve(EntityIndexProcessor.INDEX);
+        Files.writeString(index, "entity sample.Removed" + System.lineSeparator(), StandardOpenOption.APPEND);
+
+        compile(source("sample/Note", NOTE));
+
+        assertThat(index()).containsExactly("embeddable sample.Address", "entity sample.Note", "entity sample.Person");
+    }
+
+    @Test
+    void shouldRemoveThePreviousEntriesWithoutTheAnnotation() throws IOException {
+        compile(source("sample/Person", PERSON), source("sample/Address", ADDRESS));
+
+        compile(source("sample/Address", "package sample; public record Address(String city) {}"),
+                source("sample/Note", NOTE));
+
+        assertThat(index()).containsExactly("entity sample.Note", "entity sample.Person");
+    }
+
+    @Test
+    void shouldNotWriteTheIndexWithoutEntities() {
+        compile(source("sample/Plain", "package sample; public class Plain {}"));
+
+        assertThat(output.resolve(EntityIndexProcessor.INDEX)).doesNotExist();
+    }
+
+    private List<String> index() throws IOException {
+        try (Stream<String> lines = Files.lines(output.resolve(EntityIndexProcessor.INDEX))) {
+            return lines.filter(line -> !line.startsWith("#")).toList();
+        }
+    }
+
+    private void compile(JavaFileObject... sources) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        String classpath = Stream.of(Entity.class, Repository.class)
+                .map(EntityIndexProcessorTest::location)
+                .collect(Collectors.joining(File.pathSeparator));
+        classpath += File.pathSeparator + output;
+        var task = compiler.getTask(null, null, null, List.of("-d", output.toString(), "-classpath", classpath),
+                null, List.of(sources));
+        task.setProcessors(List.of(new EntityIndexProcessor()));
+        assertThat(task.call()).isTrue();
+    }
+
+    private static String location(Class<?> type) {
+        try {
+            return Path.of(type.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        } catch (URISyntaxException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private static JavaFileObject source(String name, String code) {
+        return new SimpleJavaFileObject(URI.create("string:///" + name + JavaFileObject.Kind.SOURCE.extension),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
@@ -0,0 +1,409 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import jakarta.data.repository.BasicRepository;
+import jakarta.data.repository.Repository;
+import jakarta.enterprise.inject.Vetoed;
+import jakarta.nosql.QueryMapper;
+import jakarta.nosql.Template;
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.mapping.core.repository.RepositoryInstances;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RepositoryProcessorTest {
+
+    private static final String PERSON = """
+            package sample;
+
+            public class Person {
+                private Long id;
+                private String name;
+            }
+            """;
+
+    private static final String PEOPLE = """
+            package sample;
+
+            import jakarta.data.repository.By;
+            import jakarta.data.repository.CrudRepository;
+            import jakarta.data.repository.Find;
+            import jakarta.data.repository.Param;
+            import jakarta.data.repository.Query;
+            import jakarta.data.repository.Repository;
+
+            import java.io.IOException;
+            import java.util.List;
+            import java.util.Optional;
+            import java.util.stream.Stream;
+
+            @Repository
+            public interface People extends CrudRepository<Person, Long> {
+
+                List<Person> findByName(String name);
+
+                long countByName(String name);
+
+                @Find
+                Stream<Person> find(@By("name") String name);
+
+                @Query("FROM Person WHERE name = :name")
+                void query(@Param("name") String name);
+
+                Person[] findByIdIn(Long... ids);
+
+                Optional<Person> findByNickname(String nickname) throws IOException;
+
+                default String greeting() {
+                    return "Hello";
+                }
+            }
+            """;
+
+    private static final String GARAGE = """
+            package sample;
+
+            import jakarta.data.repository.BasicRepository;
+            import jakarta.data.repository.Repository;
+
+            public class Garage {
+
+                @Repository
+                public interface Cars extends BasicRepository<Person, Long> {
+                }
+
+                @Repository
+                private interface Hidden extends BasicRepository<Person, Long> {
+                }
+            }
+            """;
+
+    private static final String GENERIC = """
+            package sample;
+
+            import jakarta.data.repository.BasicRepository;
+            import jakarta.data.repository.Repository;
+
+            @Repository
+            public interface Generic<T> extends BasicRepository<T, Long> {
+            }
+            """;
+
+    private static final String BOOK = """
+            package sample;
+
+            import jakarta.nosql.Column;
+            import jakarta.nosql.Entity;
+            import jakarta.nosql.Id;
+
+            @Entity
+            public class Book {
+                @Id
+                private Long id;
+                @Column
+                private String title;
+                @Column
+                private int year;
+                private String edition;
+            }
+            """;
+
+    private static final String BOOKS = """
+            package sample;
+
+            import jakarta.data.repository.BasicRepository;
+            import jakarta.data.repository.By;
+            import jakarta.data.repository.Find;
+            import jakarta.data.repository.Repository;
+
+            import java.util.List;
+            import java.util.Optional;
+            import java.util.stream.Stream;
+
+            @Repository
+            public interface Books extends BasicRepository<Book, Long> {
+
+                List<Book> findByTitle(String title);
+
+                Stream<Book> findByYearGreaterThanAndTitleLike(int year, String title);
+
+                Optional<Book> findByYearBetween(int start, int end);
+
+                Book findByIdIn(List<Long> ids);
+
+                @Find
+                List<Book> find(@By("title") String title, @By("year") int year);
+
+                List<Book> findByTitleOrYear(String title, int year);
+
+                List<Book> findByEdition(String edition);
+            }
+            """;
+
+    @TempDir
+    static Path output;
+
+    private static URLClassLoader loader;
+
+    @BeforeAll
+    static void compile() throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<JavaFileObject> sources = List.of(source("sample/Person", PERSON), source("sample/People", PEOPLE),
+                source("sample/Garage", GARAGE), source("sample/Generic", GENERIC), source("sample/Book", BOOK),
+                source("sample/Books", BOOKS));
+        String classpath = List.of(Repository.class, Vetoed.class, Template.class).stream()
+                .map(RepositoryProcessorTest::location)
+                .collect(Collectors.joining(File.pathSeparator));
+        List<String> options = new ArrayList<>(List.of("-d", output.toString(), "-s", output.toString(),
+                "-classpath", classpath));
+        var task = compiler.getTask(null, null, diagnostics, options, null, sources);
+        task.setProcessors(List.of(new RepositoryProcessor()));
+        boolean success = task.call();
+        assertThat(success).as(() -> diagnostics.getDiagnostics().stream()
+                .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                .map(Object::toString).collect(Collectors.joining("\n"))).isTrue();
+        loader = new URLClassLoader(new java.net.URL[]{output.toUri().toURL()}, RepositoryProcessorTest.class.getClassLoader());
+    }
+
+    @Test
+    void shouldGenerateRepository() throws Exception {
+        Class<?> people = loader.loadClass("sample.People");
+        Class<?> generated = loader.loadClass("sample.People" + RepositoryClassWriter.SUFFIX);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(people).isAssignableFrom(generated);
+            soft.assertThat(generated.isAnnotationPresent(Vetoed.class)).isTrue();
+            soft.assertThat(RepositoryInstances.INSTANCE.isGenerated(people)).isTrue();
+            soft.assertThat(RepositoryClassWriter.SUFFIX).isEqualTo(RepositoryInstances.SUFFIX);
+        });
+    }
+
+    @Test
+    void shouldGenerateNestedRepository() throws Exception {
+        Class<?> cars = loader.loadClass("sample.Garage$Cars");
+        Class<?> hidden = loader.loadClass("sample.Garage$Hidden");
+
+        assertThat(RepositoryInstances.INSTANCE.isGenerated(cars)).isTrue();
+        assertThat(RepositoryInstances.INSTANCE.isGenerated(hidden)).isFalse();
+    }
+
+    @Test
+    void shouldSkipRepositoryWithTypeParameters() throws Exception {
+        Class<?> generic = loader.loadClass("sample.Generic");
+        assertThat(RepositoryInstances.INSTANCE.isGenerated(generic)).isFalse();
+    }
+
+    @Test
+    void shouldDelegateToTheHandler() throws Throwable {
+        Class<?> people = loader.loadClass("sample.People");
+        List<Method> methods = new ArrayList<>();
+        List<Object[]> arguments = new ArrayList<>();
+        InvocationHandler handler = (instance, method, params) -> {
+            methods.add(method);
+            arguments.add(params);
+            return switch (method.getName()) {
+                case "findByName" -> List.of("Ada");
+                case "countByName" -> 10L;
+                default -> null;
+            };
+        };
+        Object repository = RepositoryInstances.INSTANCE.newInstance(people, handler);
+        Object person = loader.loadClass("sample.Person").getConstructor().newInstance();
+
+        Object found = people.getMethod("findByName", String.class).invoke(repository, "Ada");
+        Object count = people.getMethod("countByName", String.class).invoke(repository, "Ada");
+        people.getMethod("findByIdIn", Long[].class).invoke(repository, (Object) new Long[]{1L, 2L});
+        people.getMethod("findAll").invoke(repository);
+        people.getMethod("save", Object.class).invoke(repository, person);
+        Object greeting = people.getMethod("greeting").invoke(repository);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(found).isEqualTo(List.of("Ada"));
+            soft.assertThat(count).isEqualTo(10L);
+            soft.assertThat(greeting).isEqualTo("Hello");
+            soft.assertThat(methods).extracting(Method::getName)
+                    .containsExactly("findByName", "countByName", "findByIdIn", "findAll", "save");
+            soft.assertThat(methods.get(3).getDeclaringClass()).isEqualTo(BasicRepository.class);
+            soft.assertThat(arguments.get(0)).containsExactly("Ada");
+            soft.assertThat(arguments.get(2)[0]).isEqualTo(new Long[]{1L, 2L});
+            soft.assertThat(arguments.get(3)).isNull();
+            soft.assertThat(arguments.get(4)).containsExactly(person);
+        });
+    }
+
+    @Test
+    void shouldRethrowTheExceptions() throws Throwable {
+        Class<?> people = loader.loadClass("sample.People");
+        InvocationHandler handler = (instance, method, params) -> {
+            if (method.getName().equals("findByNickname")) {
+                throw new IOException("declared");
+            } else if (method.getName().equals("findByName")) {
+                throw new IOException("undeclared");
+            }
+            throw new IllegalStateException("runtime");
+        };
+        Object repository = RepositoryInstances.INSTANCE.newInstance(people, handler);
+        Method findByNickname = people.getMethod("findByNickname", String.class);
+        Method findByName = people.getMethod("findByName", String.class);
+        Method countByName = people.getMethod("countByName", String.class);
+
+        assertThatThrownBy(() -> invoke(findByNickname, repository, "Ada")).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> invoke(findByName, repository, "Ada")).isInstanceOf(UndeclaredThrowableException.class)
+                .hasCauseInstanceOf(IOException.class);
+        assertThatThrownBy(() -> invoke(countByName, repository, "Ada")).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldQueryTheTemplateWithoutTheHandler() throws Throwable {
+        Class<?> books = loader.loadClass("sample.Books");
+        Object book = loader.loadClass("sample.Book").getConstructor().newInstance();
+        List<String> calls = new ArrayList<>();
+        InvocationHandler handler = (instance, method, params) -> {
+            throw new IllegalStateException("The handler should not be called by " + method);
+        };
+        Object repository = RepositoryInstances.INSTANCE.newInstance(books, handler, template(calls, book));
+
+        Object byTitle = invoke(books.getMethod("findByTitle", String.class), repository, "Ada");
+        List<String> byTitleCalls = List.copyOf(calls);
+        calls.clear();
+        invoke(books.getMethod("findByYearGreaterThanAndTitleLike", int.class, String.class), repository, 2000, "A%");
+        List<String> byYearAndTitleCalls = List.copyOf(calls);
+        calls.clear();
+        Object between = invoke(books.getMethod("findByYearBetween", int.class, int.class), repository, 2000, 2010);
+        List<String> betweenCalls = List.copyOf(calls);
+        calls.clear();
+        Object in = invoke(books.getMethod("findByIdIn", List.class), repository, List.of(1L));
+        List<String> inCalls = List.copyOf(calls);
+        calls.clear();
+        invoke(books.getMethod("find", String.class, int.class), repository, "Ada", 2000);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(byTitle).isEqualTo(List.of(book));
+            soft.assertThat(byTitleCalls).containsExactly("select [class sample.Book]", "where [title]", "eq [Ada]",
+                    "result []");
+            soft.assertThat(byYearAndTitleCalls).containsExactly("select [class sample.Book]", "where [year]",
+                    "gt [2000]", "and [title]", "like [A%]", "stream []");
+            soft.assertThat(between).isEqualTo(Optional.of(book));
+            soft.assertThat(betweenCalls).containsExactly("select [class sample.Book]", "where [year]",
+                    "between [2000, 2010]", "singleResult []");
+            soft.assertThat(in).isSameAs(book);
+            soft.assertThat(inCalls).containsExactly("select [class sample.Book]", "where [id]", "in [[1]]",
+                    "singleResult []");
+            soft.assertThat(calls).containsExactly("select [class sample.Book]", "where [title]", "eq [Ada]",
+                    "and [year]", "eq [2000]", "result []");
+        });
+    }
+
+    @Test
+    void shouldDelegateToTheHandlerWhenTheQueryIsNotDerived() throws Throwable {
+        Class<?> books = loader.loadClass("sample.Books");
+        List<String> methods = new ArrayList<>();
+        List<String> calls = new ArrayList<>();
+        InvocationHandler handler = (instance, method, params) -> {
+            methods.add(method.getName());
+            return List.of();
+        };
+        Object repository = RepositoryInstances.INSTANCE.newInstance(books, handler, template(calls, null));
+        Object withoutTemplate = RepositoryInstances.INSTANCE.newInstance(books, handler);
+
+        invoke(books.getMethod("findByTitleOrYear", String.class, int.class), repository, "Ada", 2000);
+        invoke(books.getMethod("findByEdition", String.class), repository, "First");
+        invoke(books.getMethod("findByTitle", String.class), repository, new Object[]{null});
+        invoke(books.getMethod("findByTitle", String.class), withoutTemplate, "Ada");
+
+        assertThat(methods).containsExactly("findByTitleOrYear", "findByEdition", "findByTitle", "findByTitle");
+        assertThat(calls).isEmpty();
+    }
+
+    /**
+     * A template that records the fluent query calls and returns the book as their result.
+     */
+    private static Template template(List<String> calls, Object book) {
+        Class<?>[] mappers = {QueryMapper.MapperFrom.class, QueryMapper.MapperNameCondition.class,
+                QueryMapper.MapperWhere.class};
+        Object[] mapper = new Object[1];
+        mapper[0] = Proxy.newProxyInstance(loader, mappers, (instance, method, params) -> {
+            calls.add(method.getName() + ' ' + Arrays.deepToString(params == null ? new Object[0] : params));
+            return switch (method.getName()) {
+                case "result" -> List.of(book);
+                case "stream" -> Stream.of(book);
+                case "singleResult" -> Optional.of(book);
+                default -> mapper[0];
+            };
+        });
+        return (Template) Proxy.newProxyInstance(loader, new Class<?>[]{Template.class}, (instance, method, params) -> {
+            if (!method.getName().equals("select")) {
+                throw new UnsupportedOperationException(method.toString());
+            }
+            calls.add("select " + Arrays.toString(params));
+            return mapper[0];
+        });
+    }
+
+    private static Object invoke(Method method, Object instance, Object... params) throws Throwable {
+        try {
+            return method.invoke(instance, params);
+        } catch (java.lang.reflect.InvocationTargetException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    private static String location(Class<?> type) {
+        try {
+            return Path.of(type.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        } catch (URISyntaxException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private static JavaFileObject source(String name, String code) {
+        return new SimpleJavaFileObject(URI.create("string:///" + name + JavaFileObject.Kind.SOURCE.extension),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.ServiceLoader;
+
+/**
+ * Creates the operations used to read and write the fields of an entity and to create its instances.
+ * The {@link ReflectionClassConverter} uses it to wire every {@link FieldReader}, {@link FieldWriter},
+ * {@link InstanceSupplier} and {@link ConstructorInvoker} of the entity metadata.
+ *
+ * <p>An implementation can be provided through the {@link ServiceLoader}; when there is none,
+ * {@link MethodHandleAccessorFactory} is used. Register {@link ReflectionAccessorFactory} to
+ * keep the plain {@link Field} based access.</p>
+ */
+public interface AccessorFactory {
+
+    /**
+     * Creates the reader of the field.
+     *
+     * @param field the field, already accessible
+     * @return the {@link FieldReader} instance
+     */
+    FieldReader reader(Field field);
+
+    /**
+     * Creates the writer of the field.
+     *
+     * @param field the field, already accessible
+     * @return the {@link FieldWriter} instance
+     */
+    FieldWriter writer(Field field);
+
+    /**
+     * Creates the supplier of new instances from the no-args constructor.
+     *
+     * @param constructor the constructor, already accessible
+     * @return the {@link InstanceSupplier} instance
+     */
+    InstanceSupplier instanceSupplier(Constructor<?> constructor);
+
+    /**
+     * Creates the invoker of a constructor with parameters, e.g., the canonical constructor of a record.
+     *
+     * @param constructor the constructor, already accessible
+     * @return the {@link ConstructorInvoker} instance
+     */
+    ConstructorInvoker constructorInvoker(Constructor<?> constructor);
+
+    /**
+     * Loads the {@link AccessorFactory} implementation using the ServiceLoader mechanism,
+     * falling back to {@link MethodHandleAccessorFactory}.
+     *
+     * @return the {@link AccessorFactory} instance
+     */
+    static AccessorFactory load() {
+        return ServiceLoader.load(AccessorFactory.class).findFirst()
+                .orElseGet(MethodHandleAccessorFactory::new);
+    }
+}
@@ -16,25 +16,19 @@ package org.eclipse.jnosql.mapping.reflection;
 
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ScanResult;
-import jakarta.data.repository.BasicRepository;
-import jakarta.data.repository.CrudRepository;
 import jakarta.data.repository.DataRepository;
 import jakarta.data.repository.Repository;
 import jakarta.nosql.Entity;
 import jakarta.nosql.Embeddable;
-import org.eclipse.jnosql.mapping.NoSQLRepository;
 import org.eclipse.jnosql.mapping.metadata.ClassScanner;
 
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import static java.util.Collections.unmodifiableSet;
-import static java.util.stream.Collectors.toUnmodifiableSet;
 
 /**
  * Scanner classes that will load entities with both Entity and Embeddable
@@ -92,23 +86,13 @@ enum ClassGraphClassScanner implements ClassScanner {
 
     @Override
     public <T extends DataRepository<?, ?>> Set<Class<?>> repositories(Class<T> filter) {
-        Objects.requireNonNull(filter, "filter is required");
-        return repositories.stream().filter(filter::isAssignableFrom)
-                .filter(c -> Arrays.asList(c.getInterfaces()).contains(filter))
-                .collect(toUnmodifiableSet());
+        return RepositoryTypes.repositories(repositories, filter);
     }
 
 
     @Override
     public Set<Class<?>> repositoriesStandard() {
-        return repositories.stream()
-                .filter(c -> {
-                    List<Class<?>> interfaces = Arrays.asList(c.getInterfaces());
-                    return interfaces.contains(CrudRepository.class)
-                            || interfaces.contains(BasicRepository.class)
-                            || interfaces.contains(NoSQLRepository.class)
-                            || interfaces.contains(DataRepository.class);
-                }).collect(toUnmodifiableSet());
+        return RepositoryTypes.standard(repositories);
     }
 
     @Override
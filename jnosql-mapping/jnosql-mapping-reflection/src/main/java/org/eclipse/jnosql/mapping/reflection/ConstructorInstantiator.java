@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.spi.CDI;
+import jakarta.enterprise.util.TypeLiteral;
+
+import java.lang.reflect.Constructor;
+
+/**
+ * Creates the instances of a constructor-mapped entity, e.g., a record.
+ * The {@link ConstructorInvoker} is resolved once, and the {@link ConstructorEvent} observers are resolved
+ * once, at the first instance: when there is no observer, the event is not fired at all. The instantiator
+ * belongs to the entity metadata, which the mapping extension creates for each CDI container.
+ */
+final class ConstructorInstantiator {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private final Constructor<?> constructor;
+
+    private final ConstructorInvoker invoker;
+
+    private volatile Observers observers;
+
+    ConstructorInstantiator(Constructor<?> constructor, ConstructorInvoker invoker) {
+        this.constructor = constructor;
+        this.invoker = invoker;
+    }
+
+    /**
+     * Fires the {@link ConstructorEvent} when it has observers, then creates the instance.
+     *
+     * @param args the constructor arguments in the parameters order
+     * @param <T>  the entity type
+     * @return the new instance
+     * @throws jakarta.data.exceptions.MappingException when the instance cannot be created
+     */
+    @SuppressWarnings("unchecked")
+    <T> T create(Object[] args) {
+        Event<ConstructorEvent> event = observers().event();
+        if (event != null) {
+            event.fire(ConstructorEvent.of(constructor, args.clone()));
+        }
+        return (T) invoker.apply(args);
+    }
+
+    private Observers observers() {
+        Observers current = this.observers;
+        if (current == null) {
+            synchronized (this) {
+                current = this.observers;
+                if (current == null) {
+                    current = Observers.of(CDI.current(), constructor);
+                    this.observers = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private record Observers(Event<ConstructorEvent> event) {
+
+        static Observers of(CDI<Object> container, Constructor<?> constructor) {
+            boolean observed = !container.getBeanManager()
+                    .resolveObserverMethods(ConstructorEvent.of(constructor, EMPTY)).isEmpty();
+            if (!observed) {
+                return new Observers(null);
+            }
+            Event<ConstructorEvent> event = container.select(new TypeLiteral<Event<ConstructorEvent>>() {
+            }).get();
+            return new Observers(event);
+        }
+    }
+}
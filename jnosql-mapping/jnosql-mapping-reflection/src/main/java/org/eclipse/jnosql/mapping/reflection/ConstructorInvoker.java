@@ -0,0 +1,25 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import java.util.function.Function;
+
+/**
+ * A piece of operations within a class. This class creates a new instance from a constructor and its arguments.
+ * A failure to create the instance is thrown as {@link jakarta.data.exceptions.MappingException}.
+ */
+public interface ConstructorInvoker extends Function<Object[], Object> {
+
+}
@@ -26,19 +26,23 @@ final class ConstructorMetadataBuilder {
 
     private final Reflections reflections;
 
-    ConstructorMetadataBuilder(Reflections reflections) {
+    private final AccessorFactory accessorFactory;
+
+    ConstructorMetadataBuilder(Reflections reflections, AccessorFactory accessorFactory) {
         this.reflections = reflections;
+        this.accessorFactory = accessorFactory;
     }
 
     <T> ConstructorMetadata build(Class<T> entity) {
         Constructor<T> constructor = reflections.getConstructor(entity);
+        var instantiator = new ConstructorInstantiator(constructor, accessorFactory.constructorInvoker(constructor));
         if (constructor.getParameterCount() == 0) {
-            return new DefaultConstructorMetadata(constructor, Collections.emptyList());
+            return new DefaultConstructorMetadata(constructor, Collections.emptyList(), instantiator);
         }
 
         List<ParameterMetaData> parameters = Stream.of(constructor.getParameters())
                 .map(ParameterMetaDataBuilder::of)
                 .toList();
-        return new DefaultConstructorMetadata(constructor, parameters);
+        return new DefaultConstructorMetadata(constructor, parameters, instantiator);
     }
 }
@@ -19,12 +19,39 @@ import org.eclipse.jnosql.mapping.metadata.ParameterMetaData;
 
 import java.lang.reflect.Constructor;
 import java.util.List;
+import java.util.Objects;
+
 record DefaultConstructorMetadata(Constructor<?> constructor,
-                                  List<ParameterMetaData> parameters) implements ConstructorMetadata {
+                                  List<ParameterMetaData> parameters,
+                                  ConstructorInstantiator instantiator) implements ConstructorMetadata {
 
     @Override
     public boolean isDefault() {
         return parameters.isEmpty();
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        DefaultConstructorMetadata that = (DefaultConstructorMetadata) o;
+        return Objects.equals(constructor, that.constructor) && Objects.equals(parameters, that.parameters);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(constructor, parameters);
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultConstructorMetadata{" +
+                "constructor=" + constructor +
+                ", parameters=" + parameters +
+                '}';
+    }
 }
@@ -18,6 +18,7 @@ package org.eclipse.jnosql.mapping.reflection;
 import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.nosql.Entity;
 import org.eclipse.jnosql.mapping.metadata.ClassConverter;
 import org.eclipse.jnosql.mapping.metadata.ClassInformationNotFoundException;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
@@ -29,13 +30,16 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * The default implementation of {@link EntityMetadata}.
- * It's storage the class information in a {@link ConcurrentHashMap}
+ * It's storage the class information in a {@link ConcurrentHashMap}.
+ * The classes of {@link GroupEntityMetadata#lazyClasses()} are created at the first {@link #get(Class)} of each one,
+ * and all of them at the first lookup by name or by parent.
  */
 @ApplicationScoped
 class DefaultEntitiesMetadata implements EntitiesMetadata {
@@ -49,8 +53,14 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
     private final  Map<String, EntityMetadata> findByClassName;
 
 
+    private final Set<Class<?>> lazyClasses;
+
     private final ClassConverter converter;
 
+    private volatile boolean lazyLoaded;
+
+    private volatile InheritanceIndex inheritanceIndex;
+
     @Inject
     private GroupEntityMetadata extension;
 
@@ -59,6 +69,7 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
         this.classes = new ConcurrentHashMap<>();
         this.findBySimpleName = new ConcurrentHashMap<>();
         this.findByClassName = new ConcurrentHashMap<>();
+        this.lazyClasses = ConcurrentHashMap.newKeySet();
         this.converter = new ReflectionClassConverter();
     }
 
@@ -70,6 +81,9 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
             findBySimpleName.put(r.simpleName(), r);
             findByClassName.put(r.className(), r);
         });
+        lazyClasses.addAll(extension.lazyClasses());
+        lazyClasses.removeAll(classes.keySet());
+        lazyLoaded = lazyClasses.isEmpty();
     }
 
     EntityMetadata load(Class<?> type) {
@@ -82,23 +96,66 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
         return metadata;
     }
 
+    /**
+     * Creates the metadata of a class registered to load lazily, indexing it as the eager
+     * {@link GroupEntityMetadata} does: by name only when it is an entity that has an entity name.
+     */
+    private EntityMetadata loadLazy(Class<?> type) {
+        EntityMetadata metadata = converter.apply(type);
+        if (type.isAnnotationPresent(Entity.class) && metadata.hasEntityName()) {
+            mappings.put(metadata.name().toUpperCase(Locale.US), metadata);
+            findBySimpleName.put(metadata.simpleName(), metadata);
+            findByClassName.put(metadata.className(), metadata);
+        }
+        return metadata;
+    }
+
+    /**
+     * Creates the metadata of every class registered to load lazily, since the lookups by name or by
+     * parent need all of them.
+     */
+    private void loadLazyClasses() {
+        if (!lazyLoaded) {
+            lazyClasses.forEach(this::get);
+            lazyLoaded = true;
+        }
+    }
+
     @Override
     public EntityMetadata get(Class<?> entity) {
-        return classes.computeIfAbsent(entity, this::load);
+        return classes.computeIfAbsent(entity, type -> lazyClasses.contains(type) ? loadLazy(type) : load(type));
     }
 
     @Override
     public Map<String, InheritanceMetadata> findByParentGroupByDiscriminatorValue(Class<?> parent) {
         Objects.requireNonNull(parent, "parent is required");
-        return this.classes.values().stream()
-                .flatMap(c -> c.inheritance().stream())
-                .filter(p -> p.isParent(parent))
-                .collect(Collectors.toMap(InheritanceMetadata::discriminatorValue, Function.identity()));
+        loadLazyClasses();
+        return inheritances().parents().getOrDefault(parent, Map.of());
+    }
+
+    /**
+     * Returns the inheritances grouped by parent and discriminator value, rebuilding them when
+     * a class was added since the last build; the classes are never removed.
+     */
+    private InheritanceIndex inheritances() {
+        InheritanceIndex index = this.inheritanceIndex;
+        int size = this.classes.size();
+        if (index == null || index.size() != size) {
+            Map<Class<?>, Map<String, InheritanceMetadata>> parents = this.classes.values().stream()
+                    .flatMap(c -> c.inheritance().stream())
+                    .collect(Collectors.groupingBy(InheritanceMetadata::parent,
+                            Collectors.collectingAndThen(Collectors.toMap(InheritanceMetadata::discriminatorValue,
+                                    Function.identity()), Map::copyOf)));
+            index = new InheritanceIndex(size, Map.copyOf(parents));
+            this.inheritanceIndex = index;
+        }
+        return index;
     }
 
     @Override
     public EntityMetadata findByName(String name) {
         Objects.requireNonNull(name, "name is required");
+        loadLazyClasses();
         return Optional.ofNullable(mappings.get(name.toUpperCase(Locale.US)))
                 .orElseThrow(() -> new ClassInformationNotFoundException("There is not entity found with the name: " + name));
 
@@ -107,12 +164,14 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
     @Override
     public Optional<EntityMetadata> findBySimpleName(String name) {
         Objects.requireNonNull(name, "name is required");
+        loadLazyClasses();
         return Optional.ofNullable(findBySimpleName.get(name));
     }
 
     @Override
     public Optional<EntityMetadata> findByClassName(String name) {
         Objects.requireNonNull(name, "name is required");
+        loadLazyClasses();
         return Optional.ofNullable(findByClassName.get(name));
     }
 
@@ -120,8 +179,12 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
     public String toString() {
         return "DefaultEntitiesMetadata{" + "mappings-size=" + mappings.size() +
                 ", classes=" + classes +
+                ", lazyClasses=" + lazyClasses +
                 ", classConverter=" + converter +
                 ", extension=" + extension +
                 '}';
     }
+
+    private record InheritanceIndex(int size, Map<Class<?>, Map<String, InheritanceMetadata>> parents) {
+    }
 }
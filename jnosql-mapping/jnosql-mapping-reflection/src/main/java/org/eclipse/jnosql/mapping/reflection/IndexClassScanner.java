@@ -0,0 +1,183 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.data.repository.DataRepository;
+import org.eclipse.jnosql.mapping.metadata.ClassScanner;
+import org.eclipse.jnosql.mapping.metadata.MetadataException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.util.Collections.unmodifiableSet;
+
+/**
+ * A {@link ClassScanner} that reads the entities, embeddables and repositories from the index generated at compile
+ * time by the {@code jnosql-mapping-processor} annotation processor, instead of scanning the classpath.
+ * Every {@link #INDEX} resource on the class loader is read; each line has the kind and the binary name of a class.
+ * The classes compiled without the annotation processor are not in the index.
+ */
+final class IndexClassScanner implements ClassScanner {
+
+    /**
+     * The location of the index resource.
+     */
+    static final String INDEX = "META-INF/jnosql/index";
+
+    static final String ENTITY = "entity";
+
+    static final String EMBEDDABLE = "embeddable";
+
+    static final String REPOSITORY = "repository";
+
+    static final String CUSTOM_REPOSITORY = "custom-repository";
+
+    private static final Logger LOGGER = Logger.getLogger(IndexClassScanner.class.getName());
+
+    private final Set<Class<?>> entities = new HashSet<>();
+    private final Set<Class<?>> embeddables = new HashSet<>();
+    private final Set<Class<?>> repositories = new HashSet<>();
+    private final Set<Class<?>> customRepositories = new HashSet<>();
+
+    private IndexClassScanner() {
+    }
+
+    @Override
+    public Set<Class<?>> entities() {
+        return unmodifiableSet(entities);
+    }
+
+    @Override
+    public Set<Class<?>> repositories() {
+        return unmodifiableSet(repositories);
+    }
+
+    @Override
+    public Set<Class<?>> embeddables() {
+        return unmodifiableSet(embeddables);
+    }
+
+    @Override
+    public <T extends DataRepository<?, ?>> Set<Class<?>> repositories(Class<T> filter) {
+        return RepositoryTypes.repositories(repositories, filter);
+    }
+
+    @Override
+    public Set<Class<?>> repositoriesStandard() {
+        return RepositoryTypes.standard(repositories);
+    }
+
+    @Override
+    public Set<Class<?>> customRepositories() {
+        return unmodifiableSet(customRepositories);
+    }
+
+    /**
+     * Reads the indexes available on the class loader.
+     *
+     * @param loader the class loader that has the indexes and the indexed classes
+     * @return the scanner of the indexed classes, or {@link Optional#empty()} when there is no index
+     * @throws NullPointerException when loader is null
+     * @throws MetadataException    when an index cannot be read
+     */
+    static Optional<ClassScanner> load(ClassLoader loader) {
+        Objects.requireNonNull(loader, "loader is required");
+        List<URL> indexes = indexes(loader);
+        if (indexes.isEmpty()) {
+            return Optional.empty();
+        }
+        var scanner = new IndexClassScanner();
+        List<Class<?>> notSupportedRepositories = new ArrayList<>();
+        for (URL index : indexes) {
+            LOGGER.fine(() -> "Reading the class index " + index);
+            for (String line : lines(index)) {
+                scanner.add(line, loader, notSupportedRepositories);
+            }
+        }
+        LOGGER.info("The following repositories are not supported: " + notSupportedRepositories);
+        LOGGER.fine(() -> String.format("Finished the class index with entities %d, embeddables %d and repositories: %d",
+                scanner.entities.size(), scanner.embeddables.size(), scanner.repositories.size()));
+        return Optional.of(scanner);
+    }
+
+    private void add(String line, ClassLoader loader, List<Class<?>> notSupportedRepositories) {
+        String entry = line.strip();
+        if (entry.isEmpty() || entry.startsWith("#")) {
+            return;
+        }
+        String[] values = entry.split("\\s+");
+        if (values.length != 2) {
+            LOGGER.log(Level.WARNING, () -> "Ignoring the invalid entry of the class index: " + entry);
+            return;
+        }
+        Optional<Class<?>> type = load(values[1], loader);
+        if (type.isEmpty()) {
+            return;
+        }
+        switch (values[0]) {
+            case ENTITY -> entities.add(type.get());
+            case EMBEDDABLE -> embeddables.add(type.get());
+            case CUSTOM_REPOSITORY -> customRepositories.add(type.get());
+            case REPOSITORY -> {
+                if (RepositoryFilter.INSTANCE.test(type.get())) {
+                    repositories.add(type.get());
+                } else {
+                    notSupportedRepositories.add(type.get());
+                }
+            }
+            default -> LOGGER.log(Level.WARNING, () -> "Ignoring the unknown kind of the class index: " + entry);
+        }
+    }
+
+    private static Optional<Class<?>> load(String name, ClassLoader loader) {
+        try {
+            return Optional.of(Class.forName(name, false, loader));
+        } catch (ClassNotFoundException | LinkageError exception) {
+            LOGGER.log(Level.WARNING, () -> "The class " + name + " from the class index was not found, ignoring it");
+            return Optional.empty();
+        }
+    }
+
+    private static List<URL> indexes(ClassLoader loader) {
+        try {
+            Enumeration<URL> resources = loader.getResources(INDEX);
+            return Collections.list(resources);
+        } catch (IOException exception) {
+            throw new MetadataException("There is an issue to find the class index " + INDEX, exception);
+        }
+    }
+
+    private static List<String> lines(URL index) {
+        try (var reader = new BufferedReader(new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+            return reader.lines().toList();
+        } catch (IOException | UncheckedIOException exception) {
+            throw new MetadataException("There is an issue to read the class index " + index, exception);
+        }
+    }
+}
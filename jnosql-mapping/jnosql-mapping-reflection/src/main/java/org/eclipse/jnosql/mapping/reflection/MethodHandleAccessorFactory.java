@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.data.exceptions.MappingException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The {@link AccessorFactory} that resolves a {@link MethodHandle} once per field and constructor,
+ * so the access checks are not repeated on every read and write.
+ * When the handle cannot be created, e.g., a final field or a class in a module that is not open,
+ * it falls back to {@link ReflectionAccessorFactory}.
+ * As the reflection path, a failure to read, write or create an instance from the no-args constructor is logged
+ * and ignored, and a failure to invoke a constructor with parameters is thrown as {@link MappingException}.
+ */
+public final class MethodHandleAccessorFactory implements AccessorFactory {
+
+    private static final Logger LOGGER = Logger.getLogger(MethodHandleAccessorFactory.class.getName());
+
+    private static final MethodType READER = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType WRITER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final MethodType SUPPLIER = MethodType.methodType(Object.class);
+
+    private static final MethodType INVOKER = MethodType.methodType(Object.class, Object[].class);
+
+    private final ReflectionAccessorFactory fallback = new ReflectionAccessorFactory();
+
+    @Override
+    public FieldReader reader(Field field) {
+        try {
+            MethodHandle handle = lookup(field.getDeclaringClass()).unreflectGetter(field).asType(READER);
+            return bean -> {
+                try {
+                    return (Object) handle.invokeExact(bean);
+                } catch (Error error) {
+                    throw error;
+                } catch (Throwable throwable) {
+                    LOGGER.log(Level.FINEST, "There is an issue with returning value from this field.", throwable);
+                    return null;
+                }
+            };
+        } catch (IllegalAccessException | RuntimeException exception) {
+            LOGGER.log(Level.FINEST, "Using reflection to read the field " + field, exception);
+            return fallback.reader(field);
+        }
+    }
+
+    @Override
+    public FieldWriter writer(Field field) {
+        try {
+            MethodHandle handle = lookup(field.getDeclaringClass()).unreflectSetter(field).asType(WRITER);
+            return (bean, value) -> {
+                try {
+                    handle.invokeExact(bean, value);
+                } catch (Error error) {
+                    throw error;
+                } catch (Throwable throwable) {
+                    LOGGER.log(Level.FINEST, "There is an issue with setting value from this field.", throwable);
+                }
+            };
+        } catch (IllegalAccessException | RuntimeException exception) {
+            LOGGER.log(Level.FINEST, "Using reflection to write the field " + field, exception);
+            return fallback.writer(field);
+        }
+    }
+
+    @Override
+    public InstanceSupplier instanceSupplier(Constructor<?> constructor) {
+        try {
+            MethodHandle handle = lookup(constructor.getDeclaringClass()).unreflectConstructor(constructor)
+                    .asType(SUPPLIER);
+            return () -> {
+                try {
+                    return (Object) handle.invokeExact();
+                } catch (Error error) {
+                    throw error;
+                } catch (Throwable throwable) {
+                    LOGGER.log(Level.FINEST, "There is an issue to creating an entity from this constructor", throwable);
+                    return null;
+                }
+            };
+        } catch (IllegalAccessException | RuntimeException exception) {
+            LOGGER.log(Level.FINEST, "Using reflection to create instances from the constructor " + constructor, exception);
+            return fallback.instanceSupplier(constructor);
+        }
+    }
+
+    @Override
+    public ConstructorInvoker constructorInvoker(Constructor<?> constructor) {
+        try {
+            MethodHandle handle = lookup(constructor.getDeclaringClass()).unreflectConstructor(constructor)
+                    .asSpreader(Object[].class, constructor.getParameterCount())
+                    .asType(INVOKER);
+            return args -> {
+                try {
+                    return (Object) handle.invokeExact(args);
+                } catch (Error error) {
+                    throw error;
+                } catch (Throwable throwable) {
+                    throw new MappingException("There is an issue to create a new instance of this class" +
+                            " using this constructor: " + constructor, throwable);
+                }
+            };
+        } catch (IllegalAccessException | RuntimeException exception) {
+            LOGGER.log(Level.FINEST, "Using reflection to invoke the constructor " + constructor, exception);
+            return fallback.constructorInvoker(constructor);
+        }
+    }
+
+    private static MethodHandles.Lookup lookup(Class<?> type) throws IllegalAccessException {
+        return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.data.exceptions.MappingException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * The {@link AccessorFactory} that uses {@link Field#get(Object)}, {@link Field#set(Object, Object)}
+ * and {@link Constructor#newInstance(Object...)} on every operation.
+ */
+public final class ReflectionAccessorFactory implements AccessorFactory {
+
+    private final Reflections reflections = new Reflections();
+
+    @Override
+    public FieldReader reader(Field field) {
+        return bean -> reflections.getValue(bean, field);
+    }
+
+    @Override
+    public FieldWriter writer(Field field) {
+        return (bean, value) -> reflections.setValue(bean, field, value);
+    }
+
+    @Override
+    public InstanceSupplier instanceSupplier(Constructor<?> constructor) {
+        return () -> Reflections.newInstance(constructor);
+    }
+
+    @Override
+    public ConstructorInvoker constructorInvoker(Constructor<?> constructor) {
+        return args -> {
+            try {
+                return constructor.newInstance(args);
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                throw new MappingException("There is an issue to create a new instance of this class" +
+                        " using this constructor: " + constructor, e);
+            }
+        };
+    }
+}
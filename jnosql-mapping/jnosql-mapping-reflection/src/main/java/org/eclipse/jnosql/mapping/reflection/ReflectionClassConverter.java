@@ -43,10 +43,12 @@ public final class ReflectionClassConverter implements ClassConverter {
 
     private final Reflections reflections;
     private final ConstructorMetadataBuilder constructorMetadataBuilder;
+    private final AccessorFactory accessorFactory;
 
     public ReflectionClassConverter() {
         this.reflections = new Reflections();
-        this.constructorMetadataBuilder = new ConstructorMetadataBuilder(reflections);
+        this.accessorFactory = AccessorFactory.load();
+        this.constructorMetadataBuilder = new ConstructorMetadataBuilder(reflections, accessorFactory);
     }
 
 
@@ -70,7 +72,7 @@ public final class ReflectionClassConverter implements ClassConverter {
 
 
         Constructor<?> constructor = Reflections.getConstructor(entity);
-        InstanceSupplier instanceSupplier = () -> Reflections.newInstance(constructor);
+        InstanceSupplier instanceSupplier = accessorFactory.instanceSupplier(constructor);
         InheritanceMetadata inheritance = reflections.getInheritance(entity).orElse(null);
         boolean hasInheritanceAnnotation = reflections.hasInheritanceAnnotation(entity);
 
@@ -178,8 +180,8 @@ public final class ReflectionClassConverter implements ClassConverter {
         String udt = reflections.getUDTName(field);
         FieldMappingBuilder builder = new FieldMappingBuilder().name(columnName)
                 .field(field).type(mappingType).id(id).udt(udt)
-                .reader(bean -> reflections.getValue(bean, field))
-                .writer((bean, value) -> reflections.setValue(bean, field, value));
+                .reader(accessorFactory.reader(field))
+                .writer(accessorFactory.writer(field));
 
         if (nonNull(convert)) {
             builder.converter(convert.value());
@@ -16,42 +16,86 @@ package org.eclipse.jnosql.mapping.reflection;
 
 import jakarta.data.repository.DataRepository;
 import org.eclipse.jnosql.mapping.metadata.ClassScanner;
+import org.eclipse.microprofile.config.ConfigProvider;
 
+import java.util.Optional;
 import java.util.Set;
 
 /**
  * A class that implements the {@link ClassScanner} interface using the ClassGraph library for class scanning.
  * This class provides methods to scan for different types of classes such as entities, repositories, and embeddables.
+ * When the {@value #INDEX} property is true and the classpath has the index generated at compile time by the
+ * {@code jnosql-mapping-processor}, the classes are read from the index, and the classpath is not scanned. The index only
+ * has the classes compiled with the annotation processor, so it is not used by default.
  */
 public final class ReflectionClassScanner implements ClassScanner {
 
+    /**
+     * The property that makes the index generated at compile time the source of the classes, instead of the
+     * classpath scan.
+     */
+    static final String INDEX = "jnosql.metadata.index";
+
+    private static ClassScanner scanner() {
+        return Holder.SCANNER;
+    }
+
     @Override
     public Set<Class<?>> entities() {
-        return ClassGraphClassScanner.INSTANCE.entities();
+        return scanner().entities();
     }
 
     @Override
     public Set<Class<?>> repositories() {
-        return ClassGraphClassScanner.INSTANCE.repositories();
+        return scanner().repositories();
     }
 
     @Override
     public Set<Class<?>> embeddables() {
-        return ClassGraphClassScanner.INSTANCE.embeddables();
+        return scanner().embeddables();
     }
 
     @Override
     public <T extends DataRepository<?, ?>> Set<Class<?>> repositories(Class<T> filter) {
-        return ClassGraphClassScanner.INSTANCE.repositories(filter);
+        return scanner().repositories(filter);
     }
 
     @Override
     public Set<Class<?>> repositoriesStandard() {
-        return ClassGraphClassScanner.INSTANCE.repositoriesStandard();
+        return scanner().repositoriesStandard();
     }
 
     @Override
     public Set<Class<?>> customRepositories() {
-        return  ClassGraphClassScanner.INSTANCE.customRepositories();
+        return scanner().customRepositories();
+    }
+
+    /**
+     * Returns the scanner of the index when it is enabled and available on the class loader, otherwise the
+     * ClassGraph scanner.
+     */
+    static ClassScanner of(ClassLoader loader, boolean indexed) {
+        if (!indexed || loader == null) {
+            return ClassGraphClassScanner.INSTANCE;
+        }
+        return IndexClassScanner.load(loader).orElse(ClassGraphClassScanner.INSTANCE);
+    }
+
+    private static final class Holder {
+
+        private static final ClassScanner SCANNER = of(loader(), indexed());
+
+        private static ClassLoader loader() {
+            return Optional.ofNullable(Thread.currentThread().getContextClassLoader())
+                    .orElseGet(ReflectionClassScanner.class::getClassLoader);
+        }
+
+        private static boolean indexed() {
+            try {
+                return ConfigProvider.getConfig().getOptionalValue(INDEX, Boolean.class).orElse(false);
+            } catch (IllegalStateException | NoClassDefFoundError exception) {
+                return Boolean.getBoolean(INDEX);
+            }
+        }
     }
 }
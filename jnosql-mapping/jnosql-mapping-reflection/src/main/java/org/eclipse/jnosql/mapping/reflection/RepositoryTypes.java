@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.data.repository.BasicRepository;
+import jakarta.data.repository.CrudRepository;
+import jakarta.data.repository.DataRepository;
+import org.eclipse.jnosql.mapping.NoSQLRepository;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toUnmodifiableSet;
+
+/**
+ * Utility class that selects the repositories found by the class scanners.
+ */
+final class RepositoryTypes {
+
+    private RepositoryTypes() {
+        // Private constructor to prevent instantiation of the utility class.
+    }
+
+    /**
+     * Returns the repositories that directly extend the filter type.
+     *
+     * @param repositories the repositories
+     * @param filter       the repository filter
+     * @return the repositories that directly extend the filter
+     * @throws NullPointerException when filter is null
+     */
+    static Set<Class<?>> repositories(Set<Class<?>> repositories, Class<?> filter) {
+        Objects.requireNonNull(filter, "filter is required");
+        return repositories.stream().filter(filter::isAssignableFrom)
+                .filter(c -> Arrays.asList(c.getInterfaces()).contains(filter))
+                .collect(toUnmodifiableSet());
+    }
+
+    /**
+     * Returns the repositories that directly extend one of the standard repositories.
+     *
+     * @param repositories the repositories
+     * @return the standard repositories
+     */
+    static Set<Class<?>> standard(Set<Class<?>> repositories) {
+        return repositories.stream()
+                .filter(c -> {
+                    List<Class<?>> interfaces = Arrays.asList(c.getInterfaces());
+                    return interfaces.contains(CrudRepository.class)
+                            || interfaces.contains(BasicRepository.class)
+                            || interfaces.contains(NoSQLRepository.class)
+                            || interfaces.contains(DataRepository.class);
+                }).collect(toUnmodifiableSet());
+    }
+}
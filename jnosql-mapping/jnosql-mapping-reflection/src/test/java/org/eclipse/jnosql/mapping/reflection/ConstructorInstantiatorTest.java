@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.mapping.reflection.entities.constructor.Smartphone;
+import org.jboss.weld.junit5.auto.AddBeanClasses;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+@EnableAutoWeld
+@AddBeanClasses(ConstructorInstantiatorTest.ConstructorObserver.class)
+class ConstructorInstantiatorTest {
+
+    @Inject
+    private ConstructorObserver observer;
+
+    @Test
+    void shouldFireEventAndCreateInstance() {
+        var constructor = Reflections.getConstructor(Smartphone.class);
+        var instantiator = new ConstructorInstantiator(constructor,
+                new MethodHandleAccessorFactory().constructorInvoker(constructor));
+
+        Smartphone first = instantiator.create(new Object[]{"id", "Ada"});
+        Smartphone second = instantiator.create(new Object[]{"other", "Poliana"});
+
+        assertSoftly(soft -> {
+            soft.assertThat(first).isEqualTo(new Smartphone("id", "Ada"));
+            soft.assertThat(second).isEqualTo(new Smartphone("other", "Poliana"));
+            soft.assertThat(observer.events()).containsExactly(
+                    ConstructorEvent.of(constructor, new Object[]{"id", "Ada"}),
+                    ConstructorEvent.of(constructor, new Object[]{"other", "Poliana"}));
+        });
+    }
+
+    @ApplicationScoped
+    static class ConstructorObserver {
+
+        private final List<ConstructorEvent> events = new ArrayList<>();
+
+        void observe(@Observes ConstructorEvent event) {
+            events.add(event);
+        }
+
+        List<ConstructorEvent> events() {
+            return events;
+        }
+    }
+}
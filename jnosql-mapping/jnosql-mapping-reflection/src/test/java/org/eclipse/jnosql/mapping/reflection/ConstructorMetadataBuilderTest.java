@@ -46,7 +46,7 @@ class ConstructorMetadataBuilderTest {
 
     @BeforeEach
     void setUp() {
-        this.builder = new ConstructorMetadataBuilder(reflections);
+        this.builder = new ConstructorMetadataBuilder(reflections, new MethodHandleAccessorFactory());
     }
 
     @Test
@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Alternative;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.GroupEntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.InheritanceMetadata;
+import org.eclipse.jnosql.mapping.reflection.entities.Job;
+import org.eclipse.jnosql.mapping.reflection.entities.Person;
+import org.eclipse.jnosql.mapping.reflection.entities.Vendor;
+import org.eclipse.jnosql.mapping.reflection.entities.inheritance.EmailNotification;
+import org.eclipse.jnosql.mapping.reflection.entities.inheritance.Notification;
+import org.eclipse.jnosql.mapping.reflection.entities.inheritance.SmsNotification;
+import org.eclipse.jnosql.mapping.reflection.entities.inheritance.SocialMediaNotification;
+import org.jboss.weld.junit5.auto.AddBeanClasses;
+import org.jboss.weld.junit5.auto.EnableAlternatives;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnableAutoWeld
+@AddBeanClasses(DefaultEntitiesMetadataLazyTest.LazyGroupEntityMetadata.class)
+@EnableAlternatives(DefaultEntitiesMetadataLazyTest.LazyGroupEntityMetadata.class)
+class DefaultEntitiesMetadataLazyTest {
+
+    @Inject
+    private DefaultEntitiesMetadata mappings;
+
+    @Test
+    void shouldGetLazyClass() {
+        EntityMetadata metadata = mappings.get(Person.class);
+
+        assertThat(metadata.type()).isEqualTo(Person.class);
+        assertThat(mappings.get(Person.class)).isSameAs(metadata);
+    }
+
+    @Test
+    void shouldFindByNameLazyClass() {
+        EntityMetadata metadata = mappings.findByName("vendors");
+
+        assertThat(metadata.type()).isEqualTo(Vendor.class);
+        assertThat(mappings.get(Vendor.class)).isSameAs(metadata);
+    }
+
+    @Test
+    void shouldFindBySimpleNameAndClassNameLazyClass() {
+        assertThat(mappings.findBySimpleName(Person.class.getSimpleName())).map(EntityMetadata::type)
+                .contains(Person.class);
+        assertThat(mappings.findByClassName(Person.class.getName())).map(EntityMetadata::type)
+                .contains(Person.class);
+    }
+
+    @Test
+    void shouldNotIndexByNameLazyEmbeddable() {
+        assertThat(mappings.get(Job.class).type()).isEqualTo(Job.class);
+        assertThat(mappings.findBySimpleName(Job.class.getSimpleName())).isEmpty();
+    }
+
+    @Test
+    void shouldFindByParentGroupByDiscriminatorValueLazyClasses() {
+        Map<String, InheritanceMetadata> group = mappings.findByParentGroupByDiscriminatorValue(Notification.class);
+
+        assertThat(group).hasSize(4).containsKeys("SMS", "Email", "SocialMediaNotification");
+    }
+
+    @Alternative
+    @ApplicationScoped
+    static class LazyGroupEntityMetadata implements GroupEntityMetadata {
+
+        @Override
+        public Map<String, EntityMetadata> mappings() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public Map<Class<?>, EntityMetadata> classes() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public Set<Class<?>> lazyClasses() {
+            return Set.of(Person.class, Vendor.class, Job.class, Notification.class, EmailNotification.class,
+                    SmsNotification.class, SocialMediaNotification.class);
+        }
+    }
+}
@@ -36,6 +36,7 @@ import org.junit.jupiter.api.Test;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @EnableAutoWeld
 @AddPackages(value = Convert.class)
@@ -133,6 +134,23 @@ class DefaultEntitiesMetadataTest {
         Assertions.assertNotNull(group.get("Project"));
     }
 
+    @Test
+    void shouldReuseTheInheritanceGroup() {
+        Map<String, InheritanceMetadata> group = this.mappings
+                .findByParentGroupByDiscriminatorValue(Notification.class);
+
+        assertThat(this.mappings.findByParentGroupByDiscriminatorValue(Notification.class)).isSameAs(group);
+        assertThatThrownBy(() -> group.put("Other", group.get("SMS")))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldReturnEmptyWhenThereIsNotInheritance() {
+        assertThat(this.mappings.findByParentGroupByDiscriminatorValue(Person.class)).isEmpty();
+        assertThatThrownBy(() -> this.mappings.findByParentGroupByDiscriminatorValue(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
     @Test
     void shouldLoadUsingGet(){
         this.mappings.load(Movie.class);
@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.mapping.NoSQLRepository;
+import org.eclipse.jnosql.mapping.metadata.ClassScanner;
+import org.eclipse.jnosql.mapping.reflection.RepositoryFilterTest.Persons;
+import org.eclipse.jnosql.mapping.reflection.entities.AnimalRepository;
+import org.eclipse.jnosql.mapping.reflection.entities.Job;
+import org.eclipse.jnosql.mapping.reflection.entities.Library;
+import org.eclipse.jnosql.mapping.reflection.entities.Person;
+import org.eclipse.jnosql.mapping.reflection.entities.PersonRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IndexClassScannerTest {
+
+    @TempDir
+    Path folder;
+
+    @Test
+    void shouldReadTheIndex() throws IOException {
+        ClassScanner scanner = load("""
+                # Generated index
+                entity org.eclipse.jnosql.mapping.reflection.entities.Person
+                embeddable org.eclipse.jnosql.mapping.reflection.entities.Job
+                repository org.eclipse.jnosql.mapping.reflection.entities.PersonRepository
+                repository org.eclipse.jnosql.mapping.reflection.entities.AnimalRepository
+                repository org.eclipse.jnosql.mapping.reflection.RepositoryFilterTest$Persons
+                repository org.eclipse.jnosql.mapping.reflection.RepositoryFilterTest$People
+                custom-repository org.eclipse.jnosql.mapping.reflection.entities.Library
+                """).orElseThrow();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(scanner.entities()).containsExactly(Person.class);
+            soft.assertThat(scanner.embeddables()).containsExactly(Job.class);
+            soft.assertThat(scanner.repositories())
+                    .containsExactlyInAnyOrder(PersonRepository.class, AnimalRepository.class, Persons.class);
+            soft.assertThat(scanner.repositories(NoSQLRepository.class)).containsExactly(PersonRepository.class);
+            soft.assertThat(scanner.repositoriesStandard()).containsExactlyInAnyOrder(PersonRepository.class, Persons.class);
+            soft.assertThat(scanner.customRepositories()).containsExactly(Library.class);
+        });
+    }
+
+    @Test
+    void shouldIgnoreInvalidEntries() throws IOException {
+        ClassScanner scanner = load("""
+                entity org.eclipse.jnosql.mapping.reflection.entities.Person
+                entity org.eclipse.jnosql.mapping.reflection.entities.Removed
+                unknown org.eclipse.jnosql.mapping.reflection.entities.Job
+                invalid
+                """).orElseThrow();
+
+        assertThat(scanner.entities()).containsExactly(Person.class);
+        assertThat(scanner.embeddables()).isEmpty();
+    }
+
+    @Test
+    void shouldReturnEmptyWhenThereIsNotIndex() throws IOException {
+        try (var loader = new URLClassLoader(new URL[]{folder.toUri().toURL()}, null)) {
+            assertThat(IndexClassScanner.load(loader)).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldScanTheClasspathWhenTheIndexIsNotEnabled() throws IOException {
+        write("entity org.eclipse.jnosql.mapping.reflection.entities.Person");
+        try (var loader = new URLClassLoader(new URL[]{folder.toUri().toURL()}, getClass().getClassLoader())) {
+            assertThat(ReflectionClassScanner.of(loader, false)).isSameAs(ClassGraphClassScanner.INSTANCE);
+            assertThat(ReflectionClassScanner.of(loader, true)).isInstanceOf(IndexClassScanner.class);
+        }
+    }
+
+    @Test
+    void shouldScanTheClasspathWhenThereIsNotIndex() throws IOException {
+        try (var loader = new URLClassLoader(new URL[]{folder.toUri().toURL()}, null)) {
+            assertThat(ReflectionClassScanner.of(loader, true)).isSameAs(ClassGraphClassScanner.INSTANCE);
+        }
+    }
+
+    @Test
+    void shouldReturnErrorWhenLoaderIsNull() {
+        assertThatThrownBy(() -> IndexClassScanner.load(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    private Optional<ClassScanner> load(String index) throws IOException {
+        write(index);
+        try (var loader = new URLClassLoader(new URL[]{folder.toUri().toURL()}, getClass().getClassLoader())) {
+            return IndexClassScanner.load(loader);
+        }
+    }
+
+    private void write(String index) throws IOException {
+        Path file = folder.resolve(IndexClassScanner.INDEX);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, index);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.data.exceptions.MappingException;
+import org.eclipse.jnosql.mapping.reflection.entities.Person;
+import org.eclipse.jnosql.mapping.reflection.entities.constructor.Smartphone;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class MethodHandleAccessorFactoryTest {
+
+    private final AccessorFactory factory = new MethodHandleAccessorFactory();
+
+    private final Reflections reflections = new Reflections();
+
+    @Test
+    void shouldReadAndWriteField() throws NoSuchFieldException {
+        var name = field(Person.class, "name");
+        var person = newPerson();
+
+        factory.writer(name).write(person, "Ada");
+
+        assertSoftly(soft -> {
+            soft.assertThat(person.getName()).isEqualTo("Ada");
+            soft.assertThat(factory.reader(name).read(person)).isEqualTo("Ada");
+        });
+    }
+
+    @Test
+    void shouldReadAndWritePrimitiveField() throws NoSuchFieldException {
+        var age = field(Person.class, "age");
+        var person = newPerson();
+
+        factory.writer(age).write(person, 10);
+
+        assertSoftly(soft -> {
+            soft.assertThat(person.getAge()).isEqualTo(10);
+            soft.assertThat(factory.reader(age).read(person)).isEqualTo(10);
+        });
+    }
+
+    @Test
+    void shouldIgnoreInvalidValues() throws NoSuchFieldException {
+        var age = field(Person.class, "age");
+        var person = newPerson();
+
+        factory.writer(age).write(person, "not a number");
+        factory.writer(age).write(person, null);
+
+        assertSoftly(soft -> {
+            soft.assertThat(person.getAge()).isZero();
+            soft.assertThat(factory.reader(age).read(null)).isNull();
+        });
+    }
+
+    @Test
+    void shouldReadRecordComponent() throws NoSuchFieldException {
+        var owner = field(Smartphone.class, "owner");
+        var smartphone = new Smartphone("id", "Ada");
+
+        factory.writer(owner).write(smartphone, "Poliana");
+
+        assertSoftly(soft -> {
+            soft.assertThat(factory.reader(owner).read(smartphone)).isEqualTo("Ada");
+            soft.assertThat(factory.writer(owner)).isNotNull();
+        });
+    }
+
+    @Test
+    void shouldInvokeConstructor() {
+        var invoker = factory.constructorInvoker(Reflections.getConstructor(Smartphone.class));
+
+        var smartphone = (Smartphone) invoker.apply(new Object[]{"id", "Ada"});
+
+        assertThat(smartphone).isEqualTo(new Smartphone("id", "Ada"));
+    }
+
+    @Test
+    void shouldThrowMappingExceptionWhenConstructorFails() {
+        var invoker = factory.constructorInvoker(Reflections.getConstructor(Smartphone.class));
+
+        assertThatThrownBy(() -> invoker.apply(new Object[]{"id", 10}))
+                .isInstanceOf(MappingException.class);
+    }
+
+    @Test
+    void shouldLoadDefaultFactory() {
+        assertThat(AccessorFactory.load()).isInstanceOf(MethodHandleAccessorFactory.class);
+    }
+
+    private Person newPerson() {
+        return (Person) factory.instanceSupplier(Reflections.getConstructor(Person.class)).get();
+    }
+
+    private Field field(Class<?> type, String name) throws NoSuchFieldException {
+        var field = type.getDeclaredField(name);
+        reflections.makeAccessible(field);
+        return field;
+    }
+}
@@ -22,10 +22,13 @@ import jakarta.data.page.PageRequest;
 import jakarta.data.page.impl.CursoredPageRecord;
 import jakarta.nosql.QueryMapper;
 
+import org.eclipse.jnosql.communication.semistructured.Capabilities;
+import org.eclipse.jnosql.communication.semistructured.Capability;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.QueryParser;
+import org.eclipse.jnosql.communication.semistructured.QueryType;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.IdNotFoundException;
@@ -34,20 +37,29 @@ import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+import org.eclipse.jnosql.mapping.core.util.BatchUtil;
 import org.eclipse.jnosql.mapping.core.util.ConverterUtil;
 import org.eclipse.jnosql.mapping.metadata.InheritanceMetadata;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
+import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
 import static org.eclipse.jnosql.communication.Configurations.CURSOR_PAGINATION_MULTIPLE_SORTING;
@@ -65,6 +77,8 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
 
     private static final QueryParser PARSER = new QueryParser();
 
+    private static final Set<String> FALLBACKS = ConcurrentHashMap.newKeySet();
+
     private final UnaryOperator<CommunicationEntity> insert = e -> manager().insert(e);
 
     private final UnaryOperator<CommunicationEntity> update = e -> manager().update(e);
@@ -128,24 +142,20 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
     @Override
     public <T> Iterable<T> update(Iterable<T> entities) {
         requireNonNull(entities, "entity is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update).collect(Collectors.toList());
+        return persistAll(entities, e -> manager().update(e));
     }
 
     @Override
     public <T> Iterable<T> insert(Iterable<T> entities) {
         requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert).collect(Collectors.toList());
+        return persistAll(entities, e -> manager().insert(e));
     }
 
     @Override
     public <T> Iterable<T> insert(Iterable<T> entities, Duration ttl) {
         requireNonNull(entities, "entities is required");
         requireNonNull(ttl, "ttl is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(e -> insert(e, ttl))
-                .collect(Collectors.toList());
+        return persistAll(entities, e -> manager().insert(e, ttl));
     }
 
     @Override
@@ -156,14 +166,61 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
 
     @Override
     public long count(SelectQuery query) {
+        if (!supports(Capability.COUNT)) {
+            logFallback(Capability.COUNT, Level.WARNING, "the count streams every matching entity");
+        }
         return manager().count(query);
     }
 
     @Override
     public boolean exists(SelectQuery query) {
+        if (!supports(Capability.EXISTS)) {
+            logFallback(Capability.EXISTS, Level.FINE, "the exists selects the first matching entity");
+        }
         return manager().exists(query);
     }
 
+    @Override
+    public <T, K> boolean exists(Class<T> type, K id) {
+        requireNonNull(type, "type is required");
+        requireNonNull(id, "id is required");
+        EntityMetadata entityMetadata = entities().get(type);
+        FieldMetadata idField = entityMetadata.id()
+                .orElseThrow(() -> IdNotFoundException.newInstance(type));
+
+        Object value = ConverterUtil.getValue(id, entityMetadata, idField.fieldName(), converters());
+        SelectQuery query = SelectQuery.select(idField.name()).from(entityMetadata.name())
+                .where(idField.name()).eq(value).build();
+        return exists(query);
+    }
+
+    @Override
+    public <T, K> Set<K> existingIds(Class<T> type, Iterable<K> ids) {
+        requireNonNull(type, "type is required");
+        requireNonNull(ids, "ids is required");
+        EntityMetadata entityMetadata = entities().get(type);
+        FieldMetadata idField = entityMetadata.id()
+                .orElseThrow(() -> IdNotFoundException.newInstance(type));
+
+        Map<Object, K> idsByValue = new HashMap<>();
+        for (K id : ids) {
+            requireNonNull(id, "id is required");
+            idsByValue.put(ConverterUtil.getValue(id, entityMetadata, idField.fieldName(), converters()), id);
+        }
+        Set<K> existing = new HashSet<>();
+        for (List<Object> values : BatchUtil.split(idsByValue.keySet())) {
+            Class<?> valueType = values.get(0).getClass();
+            SelectQuery query = SelectQuery.select(idField.name()).from(entityMetadata.name())
+                    .where(idField.name()).in(values).build();
+            manager().select(query)
+                    .flatMap(entity -> entity.find(idField.name()).stream())
+                    .map(element -> idsByValue.get(element.value().get(valueType)))
+                    .filter(Objects::nonNull)
+                    .forEach(existing::add);
+        }
+        return existing;
+    }
+
     @Override
     public <T> Optional<T> singleResult(SelectQuery query) {
         requireNonNull(query, "query is required");
@@ -216,6 +273,7 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
     @Override
     public <T> Stream<T> query(String query) {
         requireNonNull(query, "query is required");
+        checkUpdateFallback(query);
         var observer = observer();
         return PARSER.query(query, null, manager(), observer).map(mappers(observer));
     }
@@ -224,18 +282,21 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
     public <T> Stream<T> query(String query, String entity) {
         requireNonNull(query, "query is required");
         requireNonNull(entity, "entity is required");
+        checkUpdateFallback(query);
         var observer = observer();
         return PARSER.query(query, null, manager(), observer).map(mappers(observer));
     }
 
     @Override
     public org.eclipse.jnosql.mapping.PreparedStatement prepare(String query) {
+        checkUpdateFallback(query);
         var observer = observer();
         return new PreparedStatement(PARSER.prepare(query, null, manager(), observer), converter(), observer, entities());
     }
 
     @Override
     public org.eclipse.jnosql.mapping.PreparedStatement prepare(String query, String entity) {
+        checkUpdateFallback(query);
         var observer = observer();
         return new PreparedStatement(PARSER.prepare(query, entity, manager(), observer), converter(), observer, entities());
     }
@@ -281,7 +342,44 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
     @Override
     public <T> long count(Class<T> type) {
         requireNonNull(type, "entity class is required");
-        return manager().count(findAllQuery(type));
+        SelectQuery query = findAllQuery(type);
+        if (query.condition().isEmpty() && !supports(Capability.COUNT)) {
+            return manager().count(query.name());
+        }
+        return count(query);
+    }
+
+    /**
+     * Checks if the manager executes the capability natively. A manager that returns no {@link Capabilities}
+     * is handled as {@link Capabilities#none()}.
+     */
+    private boolean supports(Capability capability) {
+        Capabilities capabilities = manager().capabilities();
+        return Objects.requireNonNullElse(capabilities, Capabilities.none()).supports(capability);
+    }
+
+    private void checkUpdateFallback(String query) {
+        if (QueryType.UPDATE.equals(QueryType.parse(query)) && !supports(Capability.BULK_UPDATE)) {
+            logFallback(Capability.BULK_UPDATE, Level.WARNING, "the update reads and writes back every matching entity");
+        }
+    }
+
+    private void logFallback(Capability capability, Level level, String fallback) {
+        String manager = manager().getClass().getName();
+        if (FALLBACKS.add(manager + '#' + capability)) {
+            LOGGER.log(level, () -> "The database manager " + manager + " does not support " + capability
+                    + " natively, " + fallback + ", override DatabaseManager#capabilities when it is supported");
+        }
+    }
+
+    @Override
+    public <T> Flow.Publisher<T> selectPublisher(SelectQuery query) {
+        requireNonNull(query, "query is required");
+        return new MappedPublisher<>(manager().selectPublisher(query), e -> {
+            T entity = converter().toEntity(e);
+            eventManager().firePostEntity(entity);
+            return entity;
+        });
     }
 
     private <T> Stream<T> executeQuery(SelectQuery query) {
@@ -369,6 +467,46 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
                 .orElseThrow();
     }
 
+    /**
+     * Persists the entities through the batch operations of the {@link DatabaseManager}.
+     * The entities are sent in chunks of
+     * {@link org.eclipse.jnosql.mapping.core.config.MappingConfigurations#BATCH_SIZE}; for each chunk, the
+     * pre-persist events are fired and the entities are converted before a single call to the manager. The results are mapped
+     * back to the entities by position; when the manager returns fewer results, the entity sent is used instead.
+     *
+     * @param entities      the entities
+     * @param persistAction the batch action on the manager
+     * @param <T>           the entity type
+     * @return the persisted entities in the same order
+     */
+    private <T> List<T> persistAll(Iterable<T> entities,
+                                   Function<List<CommunicationEntity>, Iterable<CommunicationEntity>> persistAction) {
+        List<T> result = new ArrayList<>();
+        for (List<T> chunk : BatchUtil.split(entities)) {
+            persistChunk(chunk, persistAction, result);
+        }
+        return result;
+    }
+
+    private <T> void persistChunk(List<T> chunk,
+                                  Function<List<CommunicationEntity>, Iterable<CommunicationEntity>> persistAction,
+                                  List<T> result) {
+        List<CommunicationEntity> communications = new ArrayList<>(chunk.size());
+        for (T entity : chunk) {
+            requireNonNull(entity, "entity is required");
+            eventManager().firePreEntity(entity);
+            communications.add(converter().toCommunication(entity));
+        }
+        Iterable<CommunicationEntity> persisted = persistAction.apply(communications);
+        Iterator<CommunicationEntity> iterator = persisted == null ? Collections.emptyIterator() : persisted.iterator();
+        for (int index = 0; index < chunk.size(); index++) {
+            CommunicationEntity communication = iterator.hasNext() ? iterator.next() : communications.get(index);
+            T entity = converter().toEntity(chunk.get(index), communication);
+            eventManager().firePostEntity(entity);
+            result.add(entity);
+        }
+    }
+
     private <T> UnaryOperator<T> toUnary(Consumer<T> consumer) {
         return t -> {
             consumer.accept(t);
@@ -0,0 +1,253 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import jakarta.data.page.Page;
+import jakarta.data.page.PageRequest;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * The asynchronous variant of the {@link SemiStructuredTemplate} operations, where each operation returns a
+ * {@link CompletionStage} instead of blocking the caller, so independent queries can run concurrently:
+ *
+ * <pre>{@code
+ * AsyncSemiStructuredTemplate async = template.async();
+ * CompletionStage<Page<Book>> page = async.selectOffSet(query, pageRequest);
+ * CompletionStage<Long> total = async.count(Book.class);
+ * page.thenCombine(total, (books, count) -> ...);
+ * }</pre>
+ *
+ * <p>Each operation runs the synchronous operation of the template on an executor, see
+ * {@link SemiStructuredTemplate#async()}. The selects are read and converted completely on completion, as a
+ * {@link List}, instead of a lazy {@link java.util.stream.Stream}.</p>
+ *
+ * <p>The default executor, {@link org.eclipse.jnosql.communication.AsyncExecutor}, runs at once at most as many
+ * operations as the threads defined by the {@value org.eclipse.jnosql.communication.AsyncExecutor#POOL_SIZE}
+ * property, two per available processor by default, and queues the other ones; keep it at or below the connections
+ * the driver can open. An executor given to {@link SemiStructuredTemplate#async(java.util.concurrent.Executor)} is
+ * used as it is, with its own limit.</p>
+ */
+public interface AsyncSemiStructuredTemplate {
+
+    /**
+     * Inserts an entity asynchronously.
+     *
+     * @param entity the entity to be inserted
+     * @param <T>    the entity type
+     * @return the stage completed with the inserted entity
+     * @throws NullPointerException when the entity is null
+     * @see SemiStructuredTemplate#insert(Object)
+     */
+    <T> CompletionStage<T> insert(T entity);
+
+    /**
+     * Inserts an entity with a time to live asynchronously.
+     *
+     * @param entity the entity to be inserted
+     * @param ttl    the time to live
+     * @param <T>    the entity type
+     * @return the stage completed with the inserted entity
+     * @throws NullPointerException when either the entity or the ttl is null
+     * @see SemiStructuredTemplate#insert(Object, Duration)
+     */
+    <T> CompletionStage<T> insert(T entity, Duration ttl);
+
+    /**
+     * Inserts the entities asynchronously.
+     *
+     * @param entities the entities to be inserted
+     * @param <T>      the entity type
+     * @return the stage completed with the inserted entities
+     * @throws NullPointerException when the entities are null
+     * @see SemiStructuredTemplate#insert(Iterable)
+     */
+    <T> CompletionStage<Iterable<T>> insert(Iterable<T> entities);
+
+    /**
+     * Updates an entity asynchronously.
+     *
+     * @param entity the entity to be updated
+     * @param <T>    the entity type
+     * @return the stage completed with the updated entity
+     * @throws NullPointerException when the entity is null
+     * @see SemiStructuredTemplate#update(Object)
+     */
+    <T> CompletionStage<T> update(T entity);
+
+    /**
+     * Updates the entities asynchronously.
+     *
+     * @param entities the entities to be updated
+     * @param <T>      the entity type
+     * @return the stage completed with the updated entities
+     * @throws NullPointerException when the entities are null
+     * @see SemiStructuredTemplate#update(Iterable)
+     */
+    <T> CompletionStage<Iterable<T>> update(Iterable<T> entities);
+
+    /**
+     * Finds an entity by id asynchronously.
+     *
+     * @param type the entity type
+     * @param id   the id value
+     * @param <T>  the entity type
+     * @param <K>  the id type
+     * @return the stage completed with the entity found
+     * @throws NullPointerException when either the type or the id is null
+     * @see SemiStructuredTemplate#find(Class, Object)
+     */
+    <T, K> CompletionStage<Optional<T>> find(Class<T> type, K id);
+
+    /**
+     * Deletes an entity by id asynchronously.
+     *
+     * @param type the entity type
+     * @param id   the id value
+     * @param <T>  the entity type
+     * @param <K>  the id type
+     * @return the stage completed when the entity is deleted
+     * @throws NullPointerException when either the type or the id is null
+     * @see SemiStructuredTemplate#delete(Class, Object)
+     */
+    <T, K> CompletionStage<Void> delete(Class<T> type, K id);
+
+    /**
+     * Checks if an entity with the id exists asynchronously.
+     *
+     * @param type the entity type
+     * @param id   the id value
+     * @param <T>  the entity type
+     * @param <K>  the id type
+     * @return the stage completed with true when the entity exists
+     * @throws NullPointerException when either the type or the id is null
+     * @see SemiStructuredTemplate#exists(Class, Object)
+     */
+    <T, K> CompletionStage<Boolean> exists(Class<T> type, K id);
+
+    /**
+     * Deletes the entities that match the query asynchronously.
+     *
+     * @param query the query
+     * @return the stage completed when the entities are deleted
+     * @throws NullPointerException when the query is null
+     * @see SemiStructuredTemplate#delete(DeleteQuery)
+     */
+    CompletionStage<Void> delete(DeleteQuery query);
+
+    /**
+     * Finds the entities that match the query asynchronously.
+     *
+     * @param query the query
+     * @param <T>   the entity type
+     * @return the stage completed with the entities found
+     * @throws NullPointerException when the query is null
+     * @see SemiStructuredTemplate#select(SelectQuery)
+     */
+    <T> CompletionStage<List<T>> select(SelectQuery query);
+
+    /**
+     * Finds the single entity that matches the query asynchronously.
+     *
+     * @param query the query
+     * @param <T>   the entity type
+     * @return the stage completed with the entity found, or completed exceptionally with a
+     * {@link jakarta.data.exceptions.NonUniqueResultException} when there is more than one
+     * @throws NullPointerException when the query is null
+     * @see SemiStructuredTemplate#singleResult(SelectQuery)
+     */
+    <T> CompletionStage<Optional<T>> singleResult(SelectQuery query);
+
+    /**
+     * Counts the entities that match the query asynchronously.
+     *
+     * @param query the query
+     * @return the stage completed with the number of entities
+     * @throws NullPointerException when the query is null
+     * @see SemiStructuredTemplate#count(SelectQuery)
+     */
+    CompletionStage<Long> count(SelectQuery query);
+
+    /**
+     * Checks if an entity matches the query asynchronously.
+     *
+     * @param query the query
+     * @return the stage completed with true when an entity matches the query
+     * @throws NullPointerException when the query is null
+     * @see SemiStructuredTemplate#exists(SelectQuery)
+     */
+    CompletionStage<Boolean> exists(SelectQuery query);
+
+    /**
+     * Counts the entities of the type asynchronously.
+     *
+     * @param type the entity type
+     * @param <T>  the entity type
+     * @return the stage completed with the number of entities
+     * @throws NullPointerException when the type is null
+     * @see SemiStructuredTemplate#count(Class)
+     */
+    <T> CompletionStage<Long> count(Class<T> type);
+
+    /**
+     * Finds all the entities of the type asynchronously.
+     *
+     * @param type the entity type
+     * @param <T>  the entity type
+     * @return the stage completed with the entities found
+     * @throws NullPointerException when the type is null
+     * @see SemiStructuredTemplate#findAll(Class)
+     */
+    <T> CompletionStage<List<T>> findAll(Class<T> type);
+
+    /**
+     * Deletes all the entities of the type asynchronously.
+     *
+     * @param type the entity type
+     * @param <T>  the entity type
+     * @return the stage completed when the entities are deleted
+     * @throws NullPointerException when the type is null
+     * @see SemiStructuredTemplate#deleteAll(Class)
+     */
+    <T> CompletionStage<Void> deleteAll(Class<T> type);
+
+    /**
+     * Executes a query asynchronously.
+     *
+     * @param query the query
+     * @param <T>   the entity type
+     * @return the stage completed with the result of the query
+     * @throws NullPointerException when the query is null
+     * @see SemiStructuredTemplate#query(String)
+     */
+    <T> CompletionStage<List<T>> query(String query);
+
+    /**
+     * Selects a page of entities using offset-based paging asynchronously.
+     *
+     * @param query       the query
+     * @param pageRequest the page request
+     * @param <T>         the entity type
+     * @return the stage completed with the page
+     * @throws NullPointerException when either the query or the page request is null
+     * @see SemiStructuredTemplate#selectOffSet(SelectQuery, PageRequest)
+     */
+    <T> CompletionStage<Page<T>> selectOffSet(SelectQuery query, PageRequest pageRequest);
+}
@@ -0,0 +1,156 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import jakarta.data.page.Page;
+import jakarta.data.page.PageRequest;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+record DefaultAsyncSemiStructuredTemplate(SemiStructuredTemplate template, Executor executor)
+        implements AsyncSemiStructuredTemplate {
+
+    @Override
+    public <T> CompletionStage<T> insert(T entity) {
+        requireNonNull(entity, "entity is required");
+        return CompletableFuture.supplyAsync(() -> template.insert(entity), executor);
+    }
+
+    @Override
+    public <T> CompletionStage<T> insert(T entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        return CompletableFuture.supplyAsync(() -> template.insert(entity, ttl), executor);
+    }
+
+    @Override
+    public <T> CompletionStage<Iterable<T>> insert(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        return CompletableFuture.supplyAsync(() -> template.insert(entities), executor);
+    }
+
+    @Override
+    public <T> CompletionStage<T> update(T entity) {
+        requireNonNull(entity, "entity is required");
+        return CompletableFuture.supplyAsync(() -> template.update(entity), executor);
+    }
+
+    @Override
+    public <T> CompletionStage<Iterable<T>> update(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        return CompletableFuture.supplyAsync(() -> template.update(entities), executor);
+    }
+
+    @Override
+    public <T, K> CompletionStage<Optional<T>> find(Class<T> type, K id) {
+        requireNonNull(type, "type is required");
+        requireNonNull(id, "id is required");
+        return CompletableFuture.supplyAsync(() -> template.find(type, id), executor);
+    }
+
+    @Override
+    public <T, K> CompletionStage<Void> delete(Class<T> type, K id) {
+        requireNonNull(type, "type is required");
+        requireNonNull(id, "id is required");
+        return CompletableFuture.runAsync(() -> template.delete(type, id), executor);
+    }
+
+    @Override
+    public <T, K> CompletionStage<Boolean> exists(Class<T> type, K id) {
+        requireNonNull(type, "type is required");
+        requireNonNull(id, "id is required");
+        return CompletableFuture.supplyAsync(() -> template.exists(type, id), executor);
+    }
+
+    @Override
+    public CompletionStage<Void> delete(DeleteQuery query) {
+        requireNonNull(query, "query is required");
+        return CompletableFuture.runAsync(() -> template.delete(query), executor);
+    }
+
+    @Override
+    public <T> CompletionStage<List<T>> select(SelectQuery query) {
+        requireNonNull(query, "query is required");
+        return list(() -> template.select(query));
+    }
+
+    @Override
+    public <T> CompletionStage<Optional<T>> singleResult(SelectQuery query) {
+        requireNonNull(query, "query is required");
+        return CompletableFuture.supplyAsync(() -> template.singleResult(query), executor);
+    }
+
+    @Override
+    public CompletionStage<Long> count(SelectQuery query) {
+        requireNonNull(query, "query is required");
+        return CompletableFuture.supplyAsync(() -> template.count(query), executor);
+    }
+
+    @Override
+    public CompletionStage<Boolean> exists(SelectQuery query) {
+        requireNonNull(query, "query is required");
+        return CompletableFuture.supplyAsync(() -> template.exists(query), executor);
+    }
+
+    @Override
+    public <T> CompletionStage<Long> count(Class<T> type) {
+        requireNonNull(type, "type is required");
+        return CompletableFuture.supplyAsync(() -> template.count(type), executor);
+    }
+
+    @Override
+    public <T> CompletionStage<List<T>> findAll(Class<T> type) {
+        requireNonNull(type, "type is required");
+        return list(() -> template.findAll(type));
+    }
+
+    @Override
+    public <T> CompletionStage<Void> deleteAll(Class<T> type) {
+        requireNonNull(type, "type is required");
+        return CompletableFuture.runAsync(() -> template.deleteAll(type), executor);
+    }
+
+    @Override
+    public <T> CompletionStage<List<T>> query(String query) {
+        requireNonNull(query, "query is required");
+        return list(() -> template.query(query));
+    }
+
+    @Override
+    public <T> CompletionStage<Page<T>> selectOffSet(SelectQuery query, PageRequest pageRequest) {
+        requireNonNull(query, "query is required");
+        requireNonNull(pageRequest, "pageRequest is required");
+        return CompletableFuture.supplyAsync(() -> template.selectOffSet(query, pageRequest), executor);
+    }
+
+    private <T> CompletionStage<List<T>> list(Supplier<Stream<T>> select) {
+        return CompletableFuture.supplyAsync(() -> {
+            try (Stream<T> entities = select.get()) {
+                return entities.toList();
+            }
+        }, executor);
+    }
+}
@@ -24,19 +24,16 @@ import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 import org.eclipse.jnosql.mapping.metadata.InheritanceMetadata;
-import org.eclipse.jnosql.mapping.metadata.MappingType;
 import org.eclipse.jnosql.mapping.metadata.ParameterMetaData;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
 
 import static java.util.Objects.requireNonNull;
 import static org.eclipse.jnosql.mapping.metadata.MappingType.EMBEDDED;
-import static org.eclipse.jnosql.mapping.metadata.MappingType.EMBEDDED_GROUP;
 import static org.eclipse.jnosql.mapping.metadata.MappingType.ENTITY;
 
 
@@ -46,6 +43,8 @@ import static org.eclipse.jnosql.mapping.metadata.MappingType.ENTITY;
  */
 public abstract class EntityConverter {
 
+    private final Map<Class<?>, EntityReadPlan> plans = new ConcurrentHashMap<>();
+
     /**
      * Retrieves the metadata about entities.
      *
@@ -178,39 +177,37 @@ public abstract class EntityConverter {
 
     private <T> T convertEntityByConstructor(List<Element> elements, EntityMetadata mapping) {
         ConstructorBuilder builder = ConstructorBuilder.of(mapping.constructor());
-        for (ParameterMetaData parameter : builder.parameters()) {
-            Predicate<Element> matchName = c -> c.name().equals(parameter.name());
+        EntityReadPlan plan = plan(mapping);
+        ParameterMetaData[] parameters = plan.parameters();
+        Element[] slots = plan.parameterSlots(elements);
+        for (int index = 0; index < parameters.length; index++) {
+            ParameterMetaData parameter = parameters[index];
             boolean isFlatEmbedded = EMBEDDED.equals(parameter.mappingType());
-            Optional<Element> element = elements.stream()
-                    .filter(matchName.or(e -> isFlatEmbedded))
-                    .findFirst();
-            element.ifPresentOrElse(c -> {
-                var converter = ParameterConverter.of(parameter, entities());
-                if (isFlatEmbedded) {
-                    converter.convert(this, Element.of("_", elements), parameter, builder);
-                } else {
-                    converter.convert(this, c, parameter, builder);
-                }
-            }, builder::addEmptyParameter);
+            if (isFlatEmbedded && !elements.isEmpty()) {
+                plan.parameterConverter(index).convert(this, Element.of("_", elements), parameter, builder);
+            } else if (!isFlatEmbedded && slots[index] != null) {
+                plan.parameterConverter(index).convert(this, slots[index], parameter, builder);
+            } else {
+                builder.addEmptyParameter();
+            }
         }
         return builder.build();
     }
 
     private <T> T convertEntity(List<Element> elements, EntityMetadata mapping, T instance) {
-        final Map<String, FieldMetadata> fieldsGroupByName = mapping.fieldsGroupByName();
-        final List<String> names = elements.stream().map(Element::name).sorted().toList();
-        final Predicate<String> existField = k -> Collections.binarySearch(names, k) >= 0;
-        final Predicate<String> isElementType = k -> {
-            MappingType type = fieldsGroupByName.get(k).mappingType();
-            return EMBEDDED.equals(type)|| EMBEDDED_GROUP.equals(type) || ENTITY.equals(type);
-        };
-        fieldsGroupByName.keySet().stream()
-                .filter(existField.or(isElementType))
-                .forEach(feedObject(instance, elements, fieldsGroupByName));
-
+        plan(mapping).feed(instance, elements, this);
         return instance;
     }
 
+    private EntityReadPlan plan(EntityMetadata mapping) {
+        EntityReadPlan plan = plans.get(mapping.type());
+        if (plan == null || !plan.isFor(mapping)) {
+            plan = EntityReadPlan.of(mapping, entities());
+            plans.put(mapping.type(), plan);
+        }
+        return plan;
+    }
+
     private <T> T mapInheritanceEntity(CommunicationEntity entity, Class<?> type) {
         Map<String, InheritanceMetadata> group = entities()
                 .findByParentGroupByDiscriminatorValue(type);
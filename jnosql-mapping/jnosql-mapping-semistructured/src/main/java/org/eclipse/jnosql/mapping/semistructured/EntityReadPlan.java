@@ -0,0 +1,165 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+import org.eclipse.jnosql.mapping.metadata.MappingType;
+import org.eclipse.jnosql.mapping.metadata.ParameterMetaData;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.eclipse.jnosql.mapping.metadata.MappingType.EMBEDDED;
+import static org.eclipse.jnosql.mapping.metadata.MappingType.EMBEDDED_GROUP;
+import static org.eclipse.jnosql.mapping.metadata.MappingType.ENTITY;
+
+/**
+ * The compiled plan to read an entity from a list of {@link Element}.
+ * The fields and constructor parameters are resolved once, with their converters, into slots;
+ * each conversion indexes the elements by name in a single pass, instead of searching the element list
+ * for every field.
+ */
+final class EntityReadPlan {
+
+    private final EntityMetadata mapping;
+
+    private final FieldMetadata[] fields;
+
+    private final FieldConverter[] fieldConverters;
+
+    private final boolean[] alwaysConvert;
+
+    private final Map<String, Integer> fieldSlots;
+
+    private final ParameterMetaData[] parameters;
+
+    private final ParameterConverter[] parameterConverters;
+
+    private final Map<String, Integer> parameterSlots;
+
+    private EntityReadPlan(EntityMetadata mapping, EntitiesMetadata entities) {
+        this.mapping = mapping;
+        var fieldsGroupByName = mapping.fieldsGroupByName();
+        int size = fieldsGroupByName.size();
+        this.fields = new FieldMetadata[size];
+        this.fieldConverters = new FieldConverter[size];
+        this.alwaysConvert = new boolean[size];
+        this.fieldSlots = new HashMap<>();
+        int slot = 0;
+        for (Map.Entry<String, FieldMetadata> entry : fieldsGroupByName.entrySet()) {
+            FieldMetadata field = entry.getValue();
+            MappingType type = field.mappingType();
+            fields[slot] = field;
+            fieldConverters[slot] = FieldConverter.get(field);
+            alwaysConvert[slot] = EMBEDDED.equals(type) || EMBEDDED_GROUP.equals(type) || ENTITY.equals(type);
+            fieldSlots.put(entry.getKey(), slot++);
+        }
+
+        List<ParameterMetaData> constructorParameters = mapping.constructor().parameters();
+        this.parameters = constructorParameters.toArray(new ParameterMetaData[0]);
+        this.parameterConverters = new ParameterConverter[parameters.length];
+        this.parameterSlots = new HashMap<>();
+        for (int index = 0; index < parameters.length; index++) {
+            parameterConverters[index] = ParameterConverter.of(parameters[index], entities);
+            parameterSlots.putIfAbsent(parameters[index].name(), index);
+        }
+    }
+
+    /**
+     * Checks if this plan was compiled from the given metadata instance.
+     *
+     * @param mapping the entity metadata
+     * @return true when the plan belongs to the metadata
+     */
+    boolean isFor(EntityMetadata mapping) {
+        return this.mapping == mapping;
+    }
+
+    /**
+     * Writes the elements into the instance, following the field converters.
+     *
+     * @param instance  the entity instance
+     * @param elements  the elements
+     * @param converter the entity converter
+     * @param <T>       the entity type
+     */
+    <T> void feed(T instance, List<Element> elements, EntityConverter converter) {
+        Element[] slots = new Element[fields.length];
+        for (Element element : elements) {
+            Integer slot = fieldSlots.get(element.name());
+            if (slot != null && slots[slot] == null && !element.value().isNull()) {
+                slots[slot] = element;
+            }
+        }
+        for (int slot = 0; slot < fields.length; slot++) {
+            Element element = slots[slot];
+            if (element == null && !alwaysConvert[slot]) {
+                continue;
+            }
+            FieldMetadata field = fields[slot];
+            if (ENTITY.equals(field.mappingType())) {
+                if (element != null) {
+                    fieldConverters[slot].convert(instance, element, field, converter);
+                }
+            } else {
+                fieldConverters[slot].convert(instance, elements, element, field, converter);
+            }
+        }
+    }
+
+    /**
+     * Returns the constructor parameters in the constructor order.
+     *
+     * @return the parameters
+     */
+    ParameterMetaData[] parameters() {
+        return parameters;
+    }
+
+    /**
+     * Returns the converter of the parameter at the given position.
+     *
+     * @param index the parameter position
+     * @return the {@link ParameterConverter}
+     */
+    ParameterConverter parameterConverter(int index) {
+        return parameterConverters[index];
+    }
+
+    /**
+     * Indexes the elements by the constructor parameters, keeping the first element of each name.
+     *
+     * @param elements the elements
+     * @return the elements in the parameters order, null when there is no element to the parameter
+     */
+    Element[] parameterSlots(List<Element> elements) {
+        Element[] slots = new Element[parameters.length];
+        for (Element element : elements) {
+            Integer slot = parameterSlots.get(element.name());
+            if (slot != null && slots[slot] == null) {
+                slots[slot] = element;
+            }
+        }
+        return slots;
+    }
+
+    static EntityReadPlan of(EntityMetadata mapping, EntitiesMetadata entities) {
+        return new EntityReadPlan(mapping, entities);
+    }
+}
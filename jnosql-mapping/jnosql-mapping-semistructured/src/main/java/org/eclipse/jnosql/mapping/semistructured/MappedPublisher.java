@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+
+/**
+ * A {@link Flow.Publisher} that applies a function to each element of the source publisher as it is emitted,
+ * passing the demand and the cancellation of the subscriber straight to the source. When the function fails,
+ * the source subscription is cancelled and the subscriber receives the error.
+ *
+ * @param <T> the source element type
+ * @param <R> the mapped element type
+ */
+final class MappedPublisher<T, R> implements Flow.Publisher<R> {
+
+    private final Flow.Publisher<T> source;
+
+    private final Function<? super T, ? extends R> mapper;
+
+    MappedPublisher(Flow.Publisher<T> source, Function<? super T, ? extends R> mapper) {
+        this.source = source;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super R> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber is required");
+        source.subscribe(new MappedSubscriber<>(subscriber, mapper));
+    }
+
+    private static final class MappedSubscriber<T, R> implements Flow.Subscriber<T> {
+
+        private final Flow.Subscriber<? super R> downstream;
+
+        private final Function<? super T, ? extends R> mapper;
+
+        private Flow.Subscription subscription;
+
+        private boolean done;
+
+        private MappedSubscriber(Flow.Subscriber<? super R> downstream, Function<? super T, ? extends R> mapper) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            downstream.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) {
+                return;
+            }
+            R mapped;
+            try {
+                mapped = mapper.apply(item);
+            } catch (RuntimeException exception) {
+                done = true;
+                subscription.cancel();
+                downstream.onError(exception);
+                return;
+            }
+            downstream.onNext(mapped);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (!done) {
+                done = true;
+                downstream.onError(throwable);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!done) {
+                done = true;
+                downstream.onComplete();
+            }
+        }
+    }
+}
@@ -80,6 +80,16 @@ public final class PreparedStatement implements org.eclipse.jnosql.mapping.Prepa
         return selectQuery().map(SelectQuery::isCount).orElse(false);
     }
 
+    /**
+     * Executes the UPDATE query without reading the updated entities back as {@link #result()} does.
+     *
+     * @return the number of updated entities
+     * @see org.eclipse.jnosql.communication.semistructured.CommunicationPreparedStatement#bulkUpdate()
+     */
+    public long bulkUpdate() {
+        return preparedStatement.bulkUpdate();
+    }
+
     /**
      * Optionally returns the underlying {@link SelectQuery} associated with this PreparedStatement,
      * if applicable.
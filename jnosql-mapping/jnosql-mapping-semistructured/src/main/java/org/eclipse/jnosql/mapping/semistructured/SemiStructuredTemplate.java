@@ -13,12 +13,18 @@ package org.eclipse.jnosql.mapping.semistructured;
 import jakarta.data.page.CursoredPage;
 import jakarta.data.page.Page;
 import jakarta.data.page.PageRequest;
+import org.eclipse.jnosql.communication.AsyncExecutor;
 import org.eclipse.jnosql.mapping.PreparedStatement;
 import jakarta.nosql.Template;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 
+import java.util.HashSet;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 
 
@@ -159,6 +165,18 @@ public interface SemiStructuredTemplate extends Template {
      */
     <T> Stream<T> select(SelectQuery query);
 
+    /**
+     * Executes a query and emits the result to a {@link Flow.Subscriber} under its demand, converting each
+     * entity as it is requested, instead of reading the whole result in advance.
+     *
+     * @param query the query
+     * @param <T>   the entity type
+     * @return a publisher of the entities found by the query, that runs the query for each subscriber
+     * @throws NullPointerException when the query is null
+     * @see org.eclipse.jnosql.communication.semistructured.DatabaseManager#selectPublisher(SelectQuery)
+     */
+    <T> Flow.Publisher<T> selectPublisher(SelectQuery query);
+
     /**
      * Returns the number of items in the column family that match a specified query.
      * @param query the query
@@ -175,6 +193,43 @@ public interface SemiStructuredTemplate extends Template {
      */
     boolean exists(SelectQuery query);
 
+    /**
+     * Returns whether an entity with the given id exists, without reading and converting the entity.
+     *
+     * @param type the entity type
+     * @param id   the id value
+     * @param <T>  the entity type
+     * @param <K>  the id type
+     * @return true if an entity with the given id exists, false otherwise.
+     * @throws NullPointerException when either the type or id is null
+     */
+    default <T, K> boolean exists(Class<T> type, K id) {
+        return find(type, id).isPresent();
+    }
+
+    /**
+     * Returns the ids, among the given ones, of the entities that exist in the database,
+     * reading only the id column of those entities.
+     *
+     * @param type the entity type
+     * @param ids  the id values
+     * @param <T>  the entity type
+     * @param <K>  the id type
+     * @return the ids that exist, never null
+     * @throws NullPointerException when either the type or ids is null
+     */
+    default <T, K> Set<K> existingIds(Class<T> type, Iterable<K> ids) {
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(ids, "ids is required");
+        Set<K> existing = new HashSet<>();
+        for (K id : ids) {
+            if (exists(type, id)) {
+                existing.add(id);
+            }
+        }
+        return existing;
+    }
+
     /**
      * Returns a single entity from query
      *
@@ -256,4 +311,27 @@ public interface SemiStructuredTemplate extends Template {
      * @throws NullPointerException if the query or pageRequest is null
      */
     <T> Page<T> selectOffSet(SelectQuery query, PageRequest pageRequest);
+
+    /**
+     * Returns the asynchronous variant of the operations of this template, running them on the default
+     * {@link AsyncExecutor}, a pool bounded by the {@value AsyncExecutor#POOL_SIZE} property that uses virtual
+     * threads when the runtime supports them.
+     *
+     * @return an {@link AsyncSemiStructuredTemplate} instance
+     */
+    default AsyncSemiStructuredTemplate async() {
+        return async(AsyncExecutor.INSTANCE.get());
+    }
+
+    /**
+     * Returns the asynchronous variant of the operations of this template, running them on the executor.
+     *
+     * @param executor the executor that runs the operations
+     * @return an {@link AsyncSemiStructuredTemplate} instance
+     * @throws NullPointerException when the executor is null
+     */
+    default AsyncSemiStructuredTemplate async(Executor executor) {
+        Objects.requireNonNull(executor, "executor is required");
+        return new DefaultAsyncSemiStructuredTemplate(this, executor);
+    }
 }
@@ -22,14 +22,21 @@ import jakarta.data.page.PageRequest;
 
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 import org.eclipse.jnosql.mapping.core.NoSQLPage;
+import org.eclipse.jnosql.mapping.core.config.MappingConfigurations;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
 import org.eclipse.jnosql.mapping.semistructured.SemiStructuredTemplate;
 import org.eclipse.jnosql.mapping.semistructured.MappingQuery;
 import org.eclipse.jnosql.mapping.core.query.AbstractRepository;
+import org.eclipse.jnosql.mapping.core.util.BatchUtil;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
@@ -73,4 +80,73 @@ public abstract class AbstractSemiStructuredRepository<T, K> extends AbstractRep
         template().deleteAll(type());
     }
 
+    @Override
+    public boolean existsById(K id) {
+        Objects.requireNonNull(id, "id is required");
+        return template().exists(type(), id);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <S extends T> List<S> saveAll(List<S> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        boolean batch = MicroProfileSettings.INSTANCE.get(MappingConfigurations.REPOSITORY_SAVE_BATCH, Boolean.class)
+                .orElse(false);
+        if (!batch || entities.isEmpty()) {
+            return super.saveAll(entities);
+        }
+        FieldMetadata idField = getIdField();
+        List<K> ids = entities.stream().map(idField::read).filter(Objects::nonNull).map(id -> (K) id).toList();
+        Set<K> existing = ids.isEmpty() ? Set.of() : template().existingIds(type(), ids);
+
+        List<S> inserts = new ArrayList<>();
+        List<S> updates = new ArrayList<>();
+        boolean[] updated = new boolean[entities.size()];
+        for (int index = 0; index < entities.size(); index++) {
+            S entity = entities.get(index);
+            Object id = idField.read(entity);
+            updated[index] = id != null && existing.contains(id);
+            if (updated[index]) {
+                updates.add(entity);
+            } else {
+                inserts.add(entity);
+            }
+        }
+        Iterator<S> inserted = inserts.isEmpty() ? Collections.emptyIterator() : template().insert(inserts).iterator();
+        Iterator<S> saved = updates.isEmpty() ? Collections.emptyIterator() : template().update(updates).iterator();
+        List<S> result = new ArrayList<>(entities.size());
+        for (boolean isUpdate : updated) {
+            result.add(isUpdate ? saved.next() : inserted.next());
+        }
+        return result;
+    }
+
+    @Override
+    public Stream<T> findByIdIn(Iterable<K> ids) {
+        Objects.requireNonNull(ids, "ids is required");
+        String id = getIdField().fieldName();
+        return BatchUtil.split(ids).stream()
+                .flatMap(batch -> template().select(type()).where(id).in(batch).<T>stream());
+    }
+
+    @Override
+    public void deleteByIdIn(Iterable<K> ids) {
+        Objects.requireNonNull(ids, "ids is required");
+        String id = getIdField().fieldName();
+        for (List<K> batch : BatchUtil.split(ids)) {
+            template().delete(type()).where(id).in(batch).execute();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void deleteAll(List<? extends T> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        FieldMetadata id = getIdField();
+        List<K> ids = entities.stream()
+                .map(entity -> (K) Objects.requireNonNull(id.read(entity), "id is required"))
+                .toList();
+        deleteByIdIn(ids);
+    }
+
 }
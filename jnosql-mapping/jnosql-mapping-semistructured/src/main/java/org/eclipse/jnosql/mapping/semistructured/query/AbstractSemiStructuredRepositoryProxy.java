@@ -54,6 +54,12 @@ public abstract class AbstractSemiStructuredRepositoryProxy<T, K> extends BaseSe
         var returnType = method.getReturnType();
         LOGGER.finest("Query: " + queryValue + " with type: " + queryType + " and return type: " + returnType);
         queryType.checkValidReturn(returnType, queryValue);
+        if (QueryType.UPDATE.equals(queryType)) {
+            var prepare = (org.eclipse.jnosql.mapping.semistructured.PreparedStatement) template().prepare(queryValue, entity);
+            RepositoryReflectionUtils.INSTANCE.getParams(method, params).forEach(prepare::bind);
+            prepare.bulkUpdate();
+            return Void.class;
+        }
 
         var methodReturn = DynamicQueryMethodReturn.builder()
                 .args(params)
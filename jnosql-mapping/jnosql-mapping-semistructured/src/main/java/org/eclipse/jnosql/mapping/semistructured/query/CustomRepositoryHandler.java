@@ -18,6 +18,7 @@ package org.eclipse.jnosql.mapping.semistructured.query;
 import jakarta.data.page.CursoredPage;
 import jakarta.data.page.Page;
 import jakarta.data.repository.Query;
+import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.spi.CDI;
 import org.eclipse.jnosql.communication.semistructured.QueryType;
 import org.eclipse.jnosql.mapping.core.Converters;
@@ -39,6 +40,8 @@ import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
@@ -51,6 +54,8 @@ import static org.eclipse.jnosql.mapping.core.query.AnnotationOperation.UPDATE;
 /**
  * This class is the engine of a custom repository from  Jakarta Data specification.
  * The implementation is based on {@link InvocationHandler} and it's used to create a custom repository.
+ * The {@link RepositoryType} of each method is resolved when the handler is created, and the repository of each
+ * entity is created once and reused by all the methods of that entity.
  */
 public class CustomRepositoryHandler implements InvocationHandler {
 
@@ -73,6 +78,16 @@ public class CustomRepositoryHandler implements InvocationHandler {
 
     private final SemiStructuredRepositoryProxy<?, ?> defaultRepository;
 
+    private final Map<Method, RepositoryType> types = new ConcurrentHashMap<>();
+
+    private final Map<Method, RepositoryMetadata> metadata = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, SemiStructuredRepositoryProxy<?, ?>> repositories = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, AbstractRepository<?, ?>> entityRepositories = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, CustomRepository> customRepositories = new ConcurrentHashMap<>();
+
     CustomRepositoryHandler(EntitiesMetadata entitiesMetadata, SemiStructuredTemplate template,
                             Class<?> customRepositoryType,
                             Converters converters) {
@@ -80,14 +95,17 @@ public class CustomRepositoryHandler implements InvocationHandler {
         this.template = template;
         this.customRepositoryType = customRepositoryType;
         this.converters = converters;
+        for (Method method : customRepositoryType.getMethods()) {
+            types.put(method, RepositoryType.of(method, customRepositoryType));
+        }
         this.defaultRepository = findDefaultRepository();
     }
 
     @Override
     public Object invoke(Object instance, Method method, Object[] params) throws Throwable {
 
-        RepositoryType type = RepositoryType.of(method, customRepositoryType);
-        LOGGER.fine("Executing the method " + method + " with the parameters " + Arrays.toString(params) + " and the type " + type);
+        RepositoryType type = type(method);
+        LOGGER.fine(() -> "Executing the method " + method + " with the parameters " + Arrays.toString(params) + " and the type " + type);
 
         switch (type) {
             case SAVE -> {
@@ -121,8 +139,8 @@ public class CustomRepositoryHandler implements InvocationHandler {
                 return unwrapInvocationTargetException(() -> repository(method).executeFindByQuery(instance, method, params));
             }
             case CUSTOM_REPOSITORY -> {
-                Object customRepository = CDI.current().select(method.getDeclaringClass()).get();
-                return unwrapInvocationTargetException(() -> method.invoke(customRepository, params));
+                CustomRepository customRepository = customRepositories.computeIfAbsent(method.getDeclaringClass(), CustomRepository::of);
+                return unwrapInvocationTargetException(() -> customRepository.invoke(method, params));
             }
             case QUERY -> {
                 var repositoryMetadata = repositoryMetadata(method);
@@ -130,12 +148,16 @@ public class CustomRepositoryHandler implements InvocationHandler {
                     var query = method.getAnnotation(Query.class);
                     var queryType = QueryType.parse(query.value());
                     var returnType = method.getReturnType();
-                    LOGGER.fine("Executing the query " + query.value() + " with the type " + queryType + " and the return type " + returnType);
+                    LOGGER.fine(() -> "Executing the query " + query.value() + " with the type " + queryType + " and the return type " + returnType);
                     queryType.checkValidReturn(returnType, query.value());
                     Map<String, Object> parameters = RepositoryReflectionUtils.INSTANCE.getParams(method, params);
-                    LOGGER.fine("Parameters: " + parameters);
+                    LOGGER.fine(() -> "Parameters: " + parameters);
                     var prepare = template.prepare(query.value());
                     parameters.forEach(prepare::bind);
+                    if (QueryType.UPDATE.equals(queryType)) {
+                        ((org.eclipse.jnosql.mapping.semistructured.PreparedStatement) prepare).bulkUpdate();
+                        return Void.class;
+                    }
                     if (prepare.isCount()) {
                         return prepare.count();
                     }
@@ -180,17 +202,17 @@ public class CustomRepositoryHandler implements InvocationHandler {
     }
 
     private SemiStructuredRepositoryProxy<?, ?> findDefaultRepository() {
-        LOGGER.fine("Looking for the default repository from the custom repository methods: " + customRepositoryType);
+        LOGGER.fine(() -> "Looking for the default repository from the custom repository methods: " + customRepositoryType);
         Method[] methods = customRepositoryType.getMethods();
         for (Method method : methods) {
-            var type = RepositoryType.of(method, customRepositoryType);
+            var type = type(method);
             switch (type) {
                 case PARAMETER_BASED, CURSOR_PAGINATION, FIND_ALL, FIND_BY -> {
-                    LOGGER.fine("The default repository found: " + method);
+                    LOGGER.fine(() -> "The default repository found: " + method);
                     return repository(method);
                 }
                 case SAVE, INSERT, DELETE, UPDATE -> {
-                    LOGGER.fine("The default repository found: " + method);
+                    LOGGER.fine(() -> "The default repository found: " + method);
                     return repository(method, method.getParameters());
                 }
                 default -> {
@@ -209,18 +231,32 @@ public class CustomRepositoryHandler implements InvocationHandler {
         return defaultRepository;
     }
 
+    private RepositoryType type(Method method) {
+        return types.computeIfAbsent(method, m -> RepositoryType.of(m, customRepositoryType));
+    }
+
     private SemiStructuredRepositoryProxy<?, ?> repository(Method method) {
         RepositoryMetadata result = repositoryMetadata(method);
         Class<?> entityType = result.typeClass();
-        return result.metadata().map(entityMetadata -> new SemiStructuredRepositoryProxy<>(template, entityMetadata, entityType, converters))
+        return result.metadata().map(entityMetadata -> repository(entityMetadata, entityType))
                 .orElseThrow(() -> new UnsupportedOperationException("The repository does not support the method " + method));
     }
 
+    private SemiStructuredRepositoryProxy<?, ?> repository(EntityMetadata entityMetadata, Class<?> entityType) {
+        return repositories.computeIfAbsent(entityType,
+                t -> new SemiStructuredRepositoryProxy<>(template, entityMetadata, t, converters));
+    }
+
     private RepositoryMetadata repositoryMetadata(Method method) {
+        return metadata.computeIfAbsent(method, this::findRepositoryMetadata);
+    }
+
+    private RepositoryMetadata findRepositoryMetadata(Method method) {
         Class<?> typeClass = method.getReturnType();
         if (typeClass.isArray()) {
             typeClass = typeClass.getComponentType();
-        } else if (Iterable.class.isAssignableFrom(typeClass) || Stream.class.isAssignableFrom(typeClass) || Optional.class.isAssignableFrom(typeClass)) {
+        } else if (Iterable.class.isAssignableFrom(typeClass) || Stream.class.isAssignableFrom(typeClass) || Optional.class.isAssignableFrom(typeClass)
+                || Flow.Publisher.class.isAssignableFrom(typeClass)) {
             typeClass = (Class<?>) ((ParameterizedType) method.getGenericReturnType()).getActualTypeArguments()[0];
         }
         Optional<EntityMetadata> metadata = entitiesMetadata.findByClassName(typeClass.getName());
@@ -238,8 +274,14 @@ public class CustomRepositoryHandler implements InvocationHandler {
             var entity = ((Iterable<?>) params[0]).iterator().next();
             typeClass = entity.getClass();
         }
-        Optional<EntityMetadata> entity = entitiesMetadata.findByClassName(typeClass.getName());
-        return entity.map(entityMetadata -> new SemiStructuredRepositoryProxy.SemiStructuredRepository<>(template, entityMetadata))
+        Class<?> entityType = typeClass;
+        AbstractRepository<?, ?> repository = entityRepositories.get(entityType);
+        if (repository != null) {
+            return repository;
+        }
+        Optional<EntityMetadata> entity = entitiesMetadata.findByClassName(entityType.getName());
+        return entity.map(entityMetadata -> entityRepositories.computeIfAbsent(entityType,
+                        t -> new SemiStructuredRepositoryProxy.SemiStructuredRepository<>(template, entityMetadata)))
                 .orElseThrow(() -> new UnsupportedOperationException("The repository does not support the method: " + method));
     }
 
@@ -250,7 +292,7 @@ public class CustomRepositoryHandler implements InvocationHandler {
 
         Class<?> typeClass = getTypeClassFromParameter(params[0]);
         Optional<EntityMetadata> entity = entitiesMetadata.findByClassName(typeClass.getName());
-        return entity.map(entityMetadata -> new SemiStructuredRepositoryProxy<>(template, entityMetadata, typeClass, converters))
+        return entity.map(entityMetadata -> repository(entityMetadata, typeClass))
                 .orElseThrow(() -> new UnsupportedOperationException("The repository does not support the method: " + method));
     }
 
@@ -282,4 +324,30 @@ public class CustomRepositoryHandler implements InvocationHandler {
     }
 
 
+
+    /**
+     * The custom repository that declares a method: a normal-scoped bean is kept as its client proxy,
+     * any other bean is resolved on each invocation and destroyed after it.
+     */
+    private record CustomRepository(Instance<?> instances, Object shared) {
+
+        static CustomRepository of(Class<?> type) {
+            CDI<Object> container = CDI.current();
+            Instance<?> instances = container.select(type);
+            Instance.Handle<?> handle = instances.getHandle();
+            if (container.getBeanManager().isNormalScope(handle.getBean().getScope())) {
+                return new CustomRepository(instances, handle.get());
+            }
+            return new CustomRepository(instances, null);
+        }
+
+        Object invoke(Method method, Object[] params) throws InvocationTargetException, IllegalAccessException {
+            if (shared != null) {
+                return method.invoke(shared, params);
+            }
+            try (Instance.Handle<?> current = instances.getHandle()) {
+                return method.invoke(current.get(), params);
+            }
+        }
+    }
 }
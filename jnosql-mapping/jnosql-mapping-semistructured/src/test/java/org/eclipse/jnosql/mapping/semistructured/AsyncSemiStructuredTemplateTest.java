@@ -0,0 +1,145 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import jakarta.data.page.PageRequest;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.mapping.core.NoSQLPage;
+import org.eclipse.jnosql.mapping.semistructured.entities.Person;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+class AsyncSemiStructuredTemplateTest {
+
+    private final SemiStructuredTemplate template = Mockito.mock(SemiStructuredTemplate.class, Answers.CALLS_REAL_METHODS);
+
+    private final Executor executor = Runnable::run;
+
+    private final AsyncSemiStructuredTemplate async = template.async(executor);
+
+    private final Person person = Person.builder().id(10L).name("Ada").build();
+
+    @Test
+    void shouldInsertAndUpdate() {
+        var ttl = Duration.ofMinutes(1);
+        doReturn(person).when(template).insert(person);
+        doReturn(person).when(template).update(person);
+        doReturn(List.of(person)).when(template).insert(List.of(person));
+        doReturn(List.of(person)).when(template).update(List.of(person));
+
+        assertThat(async.insert(person).toCompletableFuture().join()).isSameAs(person);
+        assertThat(async.update(person).toCompletableFuture().join()).isSameAs(person);
+        assertThat(async.insert(List.of(person)).toCompletableFuture().join()).containsExactly(person);
+        assertThat(async.update(List.of(person)).toCompletableFuture().join()).containsExactly(person);
+        async.insert(person, ttl);
+
+        verify(template).insert(person, ttl);
+    }
+
+    @Test
+    void shouldFindAndDeleteById() {
+        doReturn(Optional.of(person)).when(template).find(Person.class, 10L);
+        doReturn(true).when(template).exists(Person.class, 10L);
+
+        assertThat(async.find(Person.class, 10L).toCompletableFuture().join()).contains(person);
+        assertThat(async.exists(Person.class, 10L).toCompletableFuture().join()).isTrue();
+        async.delete(Person.class, 10L).toCompletableFuture().join();
+
+        verify(template).delete(Person.class, 10L);
+    }
+
+    @Test
+    void shouldSelectAsList() {
+        var query = SelectQuery.select().from("Person").build();
+        doReturn(Stream.of(person)).when(template).select(query);
+        doReturn(Stream.of(person)).when(template).findAll(Person.class);
+        doReturn(Stream.of(person)).when(template).query("FROM Person");
+        doReturn(Optional.of(person)).when(template).singleResult(query);
+
+        assertThat(async.<Person>select(query).toCompletableFuture().join()).containsExactly(person);
+        assertThat(async.findAll(Person.class).toCompletableFuture().join()).containsExactly(person);
+        assertThat(async.<Person>query("FROM Person").toCompletableFuture().join()).containsExactly(person);
+        assertThat(async.<Person>singleResult(query).toCompletableFuture().join()).contains(person);
+    }
+
+    @Test
+    void shouldCountAndPage() {
+        var query = SelectQuery.select().from("Person").build();
+        var pageRequest = PageRequest.ofSize(10);
+        doReturn(5L).when(template).count(query);
+        doReturn(7L).when(template).count(Person.class);
+        doReturn(true).when(template).exists(query);
+        doReturn(NoSQLPage.of(List.of(person), pageRequest)).when(template).selectOffSet(query, pageRequest);
+
+        var page = async.<Person>selectOffSet(query, pageRequest)
+                .thenCombine(async.count(Person.class), (entities, total) -> entities.content().size() + total)
+                .toCompletableFuture().join();
+
+        assertThat(page).isEqualTo(8L);
+        assertThat(async.count(query).toCompletableFuture().join()).isEqualTo(5L);
+        assertThat(async.exists(query).toCompletableFuture().join()).isTrue();
+    }
+
+    @Test
+    void shouldDelete() {
+        var query = DeleteQuery.delete().from("Person").build();
+
+        async.delete(query).toCompletableFuture().join();
+        async.deleteAll(Person.class).toCompletableFuture().join();
+
+        verify(template).delete(query);
+        verify(template).deleteAll(Person.class);
+    }
+
+    @Test
+    void shouldCompleteExceptionally() {
+        doThrow(new UnsupportedOperationException("count")).when(template).count(Person.class);
+
+        assertThatThrownBy(() -> async.count(Person.class).toCompletableFuture().join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldRunOnTheDefaultExecutor() throws Exception {
+        doReturn(Optional.of(person)).when(template).find(Person.class, 10L);
+
+        assertThat(template.async().find(Person.class, 10L).toCompletableFuture().get(10, TimeUnit.SECONDS))
+                .contains(person);
+    }
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        assertThatThrownBy(() -> template.async(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> async.select(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> async.find(Person.class, null)).isInstanceOf(NullPointerException.class);
+    }
+}
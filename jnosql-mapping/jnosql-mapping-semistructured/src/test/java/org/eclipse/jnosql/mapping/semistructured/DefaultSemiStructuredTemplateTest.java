@@ -21,9 +21,13 @@ import jakarta.data.page.PageRequest;
 import jakarta.data.page.impl.CursoredPageRecord;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.Condition;
 import org.eclipse.jnosql.communication.Configurations;
+import org.eclipse.jnosql.communication.StreamPublisher;
 import org.eclipse.jnosql.mapping.PreparedStatement;
 import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.semistructured.Capabilities;
+import org.eclipse.jnosql.communication.semistructured.Capability;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
 import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
@@ -33,6 +37,7 @@ import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.IdNotFoundException;
 import org.eclipse.jnosql.mapping.core.NoSQLPage;
+import org.eclipse.jnosql.mapping.core.config.MappingConfigurations;
 import org.eclipse.jnosql.mapping.semistructured.entities.Job;
 import org.eclipse.jnosql.mapping.semistructured.entities.Person;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
@@ -48,15 +53,22 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Flow;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.eclipse.jnosql.communication.semistructured.DeleteQuery.delete;
 import static org.eclipse.jnosql.communication.semistructured.SelectQuery.select;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
@@ -207,6 +219,41 @@ class DefaultSemiStructuredTemplateTest {
 
     }
 
+    @Test
+    void shouldCheckExistenceById() {
+        Mockito.when(managerMock.exists(any(SelectQuery.class))).thenReturn(true);
+
+        assertTrue(template.exists(Person.class, 10L));
+
+        ArgumentCaptor<SelectQuery> queryCaptor = ArgumentCaptor.forClass(SelectQuery.class);
+        verify(managerMock).exists(queryCaptor.capture());
+        verify(managerMock, Mockito.never()).select(any(SelectQuery.class));
+        SelectQuery query = queryCaptor.getValue();
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(query.name()).isEqualTo("Person");
+            soft.assertThat(query.columns()).containsExactly("_id");
+            soft.assertThat(query.condition()).contains(CriteriaCondition.eq(Element.of("_id", 10L)));
+        });
+    }
+
+    @Test
+    void shouldReturnExistingIds() {
+        var entity = CommunicationEntity.of("Person");
+        entity.add("_id", 10);
+        Mockito.when(managerMock.select(any(SelectQuery.class))).thenReturn(Stream.of(entity));
+
+        var existing = template.existingIds(Person.class, List.of(10L, 20L));
+
+        assertThat(existing).containsExactly(10L);
+        ArgumentCaptor<SelectQuery> queryCaptor = ArgumentCaptor.forClass(SelectQuery.class);
+        verify(managerMock).select(queryCaptor.capture());
+        SelectQuery query = queryCaptor.getValue();
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(query.columns()).containsExactly("_id");
+            soft.assertThat(query.condition().map(CriteriaCondition::condition)).contains(Condition.IN);
+        });
+    }
+
     @Test
     void shouldInsertEntitiesTTL() {
         var communicationEntity = CommunicationEntity.of("Person");
@@ -214,11 +261,13 @@ class DefaultSemiStructuredTemplateTest {
         Duration duration = Duration.ofHours(2);
 
         Mockito.when(managerMock
-                        .insert(any(CommunicationEntity.class), Mockito.eq(duration)))
-                .thenReturn(communicationEntity);
+                        .insert(Mockito.<Iterable<CommunicationEntity>>any(), Mockito.eq(duration)))
+                .thenReturn(List.of(communicationEntity, communicationEntity));
 
-        template.insert(Arrays.asList(person, person), duration);
-        verify(managerMock, times(2)).insert(any(CommunicationEntity.class), any(Duration.class));
+        var result = template.insert(Arrays.asList(person, person), duration);
+        assertThat(result).hasSize(2);
+        verify(managerMock).insert(Mockito.<Iterable<CommunicationEntity>>any(), Mockito.eq(duration));
+        verify(managerMock, Mockito.never()).insert(any(CommunicationEntity.class), any(Duration.class));
     }
 
     @Test
@@ -227,11 +276,13 @@ class DefaultSemiStructuredTemplateTest {
         communicationEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                        .insert(any(CommunicationEntity.class)))
-                .thenReturn(communicationEntity);
+                        .insert(Mockito.<Iterable<CommunicationEntity>>any()))
+                .thenReturn(List.of(communicationEntity, communicationEntity));
 
-        template.insert(Arrays.asList(person, person));
-        verify(managerMock, times(2)).insert(any(CommunicationEntity.class));
+        var result = template.insert(Arrays.asList(person, person));
+        assertThat(result).hasSize(2);
+        verify(managerMock).insert(Mockito.<Iterable<CommunicationEntity>>any());
+        verify(managerMock, Mockito.never()).insert(any(CommunicationEntity.class));
     }
 
     @Test
@@ -240,11 +291,50 @@ class DefaultSemiStructuredTemplateTest {
         communicationEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                        .update(any(CommunicationEntity.class)))
-                .thenReturn(communicationEntity);
+                        .update(Mockito.<Iterable<CommunicationEntity>>any()))
+                .thenReturn(List.of(communicationEntity, communicationEntity));
 
-        template.update(Arrays.asList(person, person));
-        verify(managerMock, times(2)).update(any(CommunicationEntity.class));
+        var result = template.update(Arrays.asList(person, person));
+        assertThat(result).hasSize(2);
+        verify(managerMock).update(Mockito.<Iterable<CommunicationEntity>>any());
+        verify(managerMock, Mockito.never()).update(any(CommunicationEntity.class));
+    }
+
+    @Test
+    void shouldInsertEntitiesInChunks() {
+        System.setProperty(MappingConfigurations.BATCH_SIZE.get(), "2");
+        try {
+            Mockito.when(managerMock.insert(Mockito.<Iterable<CommunicationEntity>>any()))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+            var people = Stream.of("Ada", "Poliana", "Otavio", "Maria", "Lucas")
+                    .map(name -> Person.builder().name(name).age(10).build())
+                    .toList();
+
+            var result = template.insert(people);
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<CommunicationEntity>> batchCaptor = ArgumentCaptor.forClass(List.class);
+            verify(managerMock, times(3)).insert(batchCaptor.capture());
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(batchCaptor.getAllValues()).extracting(List::size)
+                        .containsExactly(2, 2, 1);
+                soft.assertThat(result).extracting(Person::getName)
+                        .containsExactly("Ada", "Poliana", "Otavio", "Maria", "Lucas");
+            });
+        } finally {
+            System.clearProperty(MappingConfigurations.BATCH_SIZE.get());
+        }
+    }
+
+    @Test
+    void shouldUseEntitySentWhenManagerReturnsFewerEntities() {
+        Mockito.when(managerMock.update(Mockito.<Iterable<CommunicationEntity>>any()))
+                .thenReturn(Collections.emptyList());
+        var ada = Person.builder().name("Ada").age(10).build();
+
+        var result = template.update(List.of(ada));
+
+        assertThat(result).containsExactly(ada);
     }
 
     @Test
@@ -262,6 +352,46 @@ class DefaultSemiStructuredTemplateTest {
         verify(managerMock).select(query);
     }
 
+    @Test
+    void shouldSelectPublisher() {
+        CommunicationEntity columnEntity = CommunicationEntity.of("Person");
+        columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        SelectQuery query = select().from("person").build();
+        Mockito.when(managerMock.selectPublisher(query))
+                .thenReturn(StreamPublisher.of(() -> Stream.of(columnEntity, columnEntity)));
+
+        List<Person> people = new ArrayList<>();
+        Flow.Publisher<Person> publisher = template.selectPublisher(query);
+        publisher.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(Person item) {
+                people.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                fail(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        assertThat(people).hasSize(1).first().extracting(Person::getName).isEqualTo("Name");
+        verify(eventPersistManager).firePostEntity(people.get(0));
+    }
+
+    @Test
+    void shouldReturnErrorWhenSelectPublisherQueryIsNull() {
+        assertThrows(NullPointerException.class, () -> template.selectPublisher(null));
+    }
+
     @Test
     void shouldCountBy() {
         SelectQuery query = select().from("person").build();
@@ -469,6 +599,7 @@ class DefaultSemiStructuredTemplateTest {
 
     @Test
     void shouldCountFromEntityClass() {
+        Mockito.when(managerMock.capabilities()).thenReturn(Capabilities.of(Capability.COUNT));
         template.count(Person.class);
         var captor = ArgumentCaptor.forClass(SelectQuery.class);
         verify(managerMock).count(captor.capture());
@@ -478,6 +609,82 @@ class DefaultSemiStructuredTemplateTest {
         });
     }
 
+    @Test
+    void shouldCountFromEntityNameWhenThereIsNotNativeCount() {
+        Mockito.when(managerMock.capabilities()).thenReturn(Capabilities.none());
+        Mockito.when(managerMock.count("Person")).thenReturn(10L);
+
+        assertThat(template.count(Person.class)).isEqualTo(10L);
+        verify(managerMock, Mockito.never()).count(any(SelectQuery.class));
+    }
+
+    @Test
+    void shouldHandleNullCapabilitiesAsNone() {
+        Mockito.when(managerMock.capabilities()).thenReturn(null);
+        Mockito.when(managerMock.count("Person")).thenReturn(10L);
+
+        assertThat(template.count(Person.class)).isEqualTo(10L);
+        verify(managerMock, Mockito.never()).count(any(SelectQuery.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldLogTheUpdateFallbackWhenThereIsNotNativeBulkUpdate() {
+        var manager = Mockito.mock(InMemoryUpdateManager.class);
+        Mockito.when(manager.capabilities()).thenReturn(Capabilities.none());
+        Instance<DatabaseManager> instance = Mockito.mock(Instance.class);
+        Mockito.when(instance.get()).thenReturn(manager);
+        var updateTemplate = new DefaultSemiStructuredTemplate(converter, instance, eventPersistManager, entities, converters);
+        List<LogRecord> records = new ArrayList<>();
+        var handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                records.add(record);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        var logger = Logger.getLogger(AbstractSemiStructuredTemplate.class.getName());
+        logger.addHandler(handler);
+        try {
+            updateTemplate.prepare("UPDATE Person SET age = 10 WHERE name = :name");
+            updateTemplate.prepare("UPDATE Person SET age = 20 WHERE name = :name");
+            updateTemplate.prepare("FROM Person WHERE name = :name");
+        } finally {
+            logger.removeHandler(handler);
+        }
+
+        assertThat(records).hasSize(1).first().satisfies(record -> {
+            assertThat(record.getLevel()).isEqualTo(Level.WARNING);
+            assertThat(record.getMessage()).contains(Capability.BULK_UPDATE.name());
+        });
+    }
+
+    @Test
+    void shouldCountFromQueryWhenThereIsNativeCount() {
+        Mockito.when(managerMock.capabilities()).thenReturn(Capabilities.of(Capability.COUNT));
+        Mockito.when(managerMock.count(any(SelectQuery.class))).thenReturn(10L);
+
+        assertThat(template.count(Person.class)).isEqualTo(10L);
+        verify(managerMock, Mockito.never()).count(Mockito.anyString());
+    }
+
+    @Test
+    void shouldCountByQueryWhenThereIsNotNativeCount() {
+        Mockito.when(managerMock.capabilities()).thenReturn(Capabilities.none());
+        SelectQuery query = select().from("person").where("age").gt(10).build();
+        Mockito.when(managerMock.count(query)).thenReturn(2L);
+
+        assertThat(template.count(query)).isEqualTo(2L);
+        assertThat(template.exists(query)).isFalse();
+    }
+
 
     @Test
     void shouldFindAll() {
@@ -584,4 +791,7 @@ class DefaultSemiStructuredTemplateTest {
         columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
         return List.of(columnEntity);
     }
+
+    abstract static class InMemoryUpdateManager implements DatabaseManager {
+    }
 }
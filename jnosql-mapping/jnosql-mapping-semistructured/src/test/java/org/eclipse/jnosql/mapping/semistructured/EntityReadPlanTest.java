@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import jakarta.inject.Inject;
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.eclipse.jnosql.mapping.semistructured.entities.Person;
+import org.eclipse.jnosql.mapping.semistructured.entities.constructor.SuperHero;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, EntityConverter.class})
+@AddPackages(MockProducer.class)
+@AddPackages(Reflections.class)
+@AddExtensions(EntityMetadataExtension.class)
+class EntityReadPlanTest {
+
+    @Inject
+    private DefaultEntityConverter converter;
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    @Test
+    void shouldUseFirstNonNullElement() {
+        var elements = List.of(Element.of("_id", 12L), Element.of("name", null), Element.of("name", "Ada"),
+                Element.of("name", "Poliana"), Element.of("unknown", "value"));
+
+        Person person = converter.toEntity(Person.class, elements);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(person.getId()).isEqualTo(12L);
+            soft.assertThat(person.getName()).isEqualTo("Ada");
+            soft.assertThat(person.getPhones()).isNull();
+        });
+    }
+
+    @Test
+    void shouldFillMissingParameters() {
+        var entity = CommunicationEntity.of("SuperHero");
+        entity.add(Element.of("name", "Batman"));
+        entity.add(Element.of("_id", "10"));
+
+        SuperHero hero = converter.toEntity(entity);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(hero.id()).isEqualTo("10");
+            soft.assertThat(hero.name()).isEqualTo("Batman");
+            soft.assertThat(hero.powers()).isNull();
+        });
+    }
+
+    @Test
+    void shouldIndexParameters() {
+        var plan = EntityReadPlan.of(entities.get(SuperHero.class), entities);
+        var slots = plan.parameterSlots(List.of(Element.of("powers", List.of("fly")), Element.of("_id", "10"),
+                Element.of("_id", "11")));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(plan.parameters()).hasSize(3);
+            soft.assertThat(slots).hasSize(3);
+            soft.assertThat(slots).contains(Element.of("_id", "10"), Element.of("powers", List.of("fly")))
+                    .doesNotContain(Element.of("_id", "11"));
+        });
+    }
+
+    @Test
+    void shouldBelongToMetadata() {
+        var metadata = entities.get(Person.class);
+        var plan = EntityReadPlan.of(metadata, entities);
+        assertThat(plan.isFor(metadata)).isTrue();
+        assertThat(plan.isFor(entities.get(SuperHero.class))).isFalse();
+    }
+}
@@ -18,6 +18,8 @@ import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import org.eclipse.jnosql.communication.Condition;
 import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.semistructured.Capabilities;
+import org.eclipse.jnosql.communication.semistructured.Capability;
 import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
 import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
@@ -216,6 +218,7 @@ class TemplateInheritanceTest {
     @Test
     void shouldCountAllNoFilter(){
         var captor = ArgumentCaptor.forClass(SelectQuery.class);
+        Mockito.when(managerMock.capabilities()).thenReturn(Capabilities.of(Capability.COUNT));
         template.count(Notification.class);
         Mockito.verify(this.managerMock).count(captor.capture());
         var query = captor.getValue();
@@ -15,14 +15,27 @@
 package org.eclipse.jnosql.mapping.semistructured.entities;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Disposes;
 import jakarta.enterprise.inject.Produces;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 @ApplicationScoped
-class PersonStatisticRepositoryProducer {
+public class PersonStatisticRepositoryProducer {
+
+    private static final AtomicInteger DISPOSED = new AtomicInteger();
 
     @Produces
     public PersonStatisticRepository get() {
         return (city) -> new PersonStatisticRepository.PersonStatistic(city, 26.0,
                 26, 26, 26, 1);
     }
+
+    void dispose(@Disposes PersonStatisticRepository repository) {
+        DISPOSED.incrementAndGet();
+    }
+
+    public static int disposed() {
+        return DISPOSED.get();
+    }
 }
@@ -21,6 +21,7 @@ import jakarta.data.repository.Param;
 import jakarta.data.repository.Query;
 import jakarta.data.Sort;
 import jakarta.inject.Inject;
+import jakarta.nosql.QueryMapper;
 import org.assertj.core.api.SoftAssertions;
 import org.eclipse.jnosql.mapping.NoSQLRepository;
 import org.eclipse.jnosql.mapping.PreparedStatement;
@@ -123,7 +124,7 @@ class CrudRepositoryProxyTest {
 
     @Test
     void shouldSaveUsingInsertWhenDataDoesNotExist() {
-        when(template.find(Person.class, 10L)).thenReturn(Optional.empty());
+        when(template.exists(Person.class, 10L)).thenReturn(false);
 
         ArgumentCaptor<Person> captor = ArgumentCaptor.forClass(Person.class);
         Person person = Person.builder().name("Ada")
@@ -140,7 +141,7 @@ class CrudRepositoryProxyTest {
     @Test
     void shouldSaveUsingUpdateWhenDataExists() {
 
-        when(template.find(Person.class, 10L)).thenReturn(Optional.of(Person.builder().build()));
+        when(template.exists(Person.class, 10L)).thenReturn(true);
 
         ArgumentCaptor<Person> captor = ArgumentCaptor.forClass(Person.class);
         Person person = Person.builder().name("Ada")
@@ -360,14 +361,17 @@ class CrudRepositoryProxyTest {
 
     @Test
     void shouldFindByIds() {
-        when(template.find(Mockito.eq(Person.class), Mockito.any(Long.class)))
-                .thenReturn(Optional.of(Person.builder().build()));
+        Person ada = Person.builder().id(1L).name("Ada").build();
+        QueryMapper.MapperFrom from = mock(QueryMapper.MapperFrom.class);
+        QueryMapper.MapperNameCondition condition = mock(QueryMapper.MapperNameCondition.class);
+        QueryMapper.MapperWhere where = mock(QueryMapper.MapperWhere.class);
+        when(template.select(Person.class)).thenReturn(from);
+        when(from.where("id")).thenReturn(condition);
+        when(condition.in(asList(1L, 2L, 3L))).thenReturn(where);
+        when(where.stream()).thenReturn(Stream.of(ada));
 
-        personRepository.findByIdIn(singletonList(10L)).toList();
-        verify(template).find(Person.class, 10L);
-
-        personRepository.findByIdIn(asList(1L, 2L, 3L)).toList();
-        verify(template, times(4)).find(Mockito.eq(Person.class), Mockito.any(Long.class));
+        assertThat(personRepository.findByIdIn(asList(1L, 2L, 3L)).toList()).containsExactly(ada);
+        verify(template, never()).find(Mockito.eq(Person.class), Mockito.any(Long.class));
     }
 
     @Test
@@ -379,20 +383,27 @@ class CrudRepositoryProxyTest {
 
     @Test
     void shouldDeleteByIds() {
-        ArgumentCaptor<DeleteQuery> captor = ArgumentCaptor.forClass(DeleteQuery.class);
+        QueryMapper.MapperDeleteFrom from = mock(QueryMapper.MapperDeleteFrom.class);
+        QueryMapper.MapperDeleteNameCondition condition = mock(QueryMapper.MapperDeleteNameCondition.class);
+        QueryMapper.MapperDeleteWhere where = mock(QueryMapper.MapperDeleteWhere.class);
+        when(template.delete(Person.class)).thenReturn(from);
+        when(from.where("id")).thenReturn(condition);
+        when(condition.in(singletonList(10L))).thenReturn(where);
+
         personRepository.deleteByIdIn(singletonList(10L));
-        verify(template).delete(Person.class, 10L);
+        verify(where).execute();
+        verify(template, never()).delete(Mockito.eq(Person.class), Mockito.any(Long.class));
     }
 
 
     @Test
     void shouldContainsById() {
-        when(template.find(Person.class, 10L)).thenReturn(Optional.of(Person.builder().build()));
+        when(template.exists(Person.class, 10L)).thenReturn(true);
 
         assertTrue(personRepository.existsById(10L));
-        Mockito.verify(template).find(Person.class, 10L);
+        Mockito.verify(template).exists(Person.class, 10L);
 
-        when(template.find(Person.class, 10L)).thenReturn(Optional.empty());
+        when(template.exists(Person.class, 10L)).thenReturn(false);
         assertFalse(personRepository.existsById(10L));
 
     }
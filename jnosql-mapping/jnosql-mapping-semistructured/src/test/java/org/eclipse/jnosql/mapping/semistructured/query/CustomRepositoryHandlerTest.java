@@ -18,6 +18,7 @@ import jakarta.data.page.CursoredPage;
 import jakarta.data.page.Page;
 import jakarta.data.page.PageRequest;
 import jakarta.inject.Inject;
+import jakarta.nosql.QueryMapper;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.SoftAssertions;
 import org.eclipse.jnosql.communication.Condition;
@@ -31,6 +32,8 @@ import org.eclipse.jnosql.mapping.semistructured.EntityConverter;
 import org.eclipse.jnosql.mapping.semistructured.MockProducer;
 import org.eclipse.jnosql.mapping.semistructured.SemiStructuredTemplate;
 import org.eclipse.jnosql.mapping.semistructured.entities.Person;
+import org.eclipse.jnosql.mapping.semistructured.entities.PersonStatisticRepository;
+import org.eclipse.jnosql.mapping.semistructured.entities.PersonStatisticRepositoryProducer;
 import org.eclipse.jnosql.mapping.semistructured.entities.Task;
 import org.jboss.weld.junit5.auto.AddExtensions;
 import org.jboss.weld.junit5.auto.AddPackages;
@@ -168,21 +171,35 @@ class CustomRepositoryHandlerTest {
 
     @Test
     void shouldDeleteListEntity() {
+        var where = Mockito.mock(QueryMapper.MapperDeleteWhere.class);
+        var condition = Mockito.mock(QueryMapper.MapperDeleteNameCondition.class);
+        var from = Mockito.mock(QueryMapper.MapperDeleteFrom.class);
+        Mockito.when(template.delete(Person.class)).thenReturn(from);
+        Mockito.when(from.where("id")).thenReturn(condition);
+        Mockito.when(condition.in(Mockito.any())).thenReturn(where);
         var persons = List.of(Person.builder().id(12L).age(26).name("Ada").build());
          people.delete(persons);
 
-        Mockito.verify(template).delete(Person.class, 12L);
-        Mockito.verifyNoMoreInteractions(template);
+        Mockito.verify(template).delete(Person.class);
+        Mockito.verify(condition).in(List.of(12L));
+        Mockito.verify(where).execute();
     }
 
     @Test
     void shouldDeleteArrayEntity() {
+        var where = Mockito.mock(QueryMapper.MapperDeleteWhere.class);
+        var condition = Mockito.mock(QueryMapper.MapperDeleteNameCondition.class);
+        var from = Mockito.mock(QueryMapper.MapperDeleteFrom.class);
+        Mockito.when(template.delete(Person.class)).thenReturn(from);
+        Mockito.when(from.where("id")).thenReturn(condition);
+        Mockito.when(condition.in(Mockito.any())).thenReturn(where);
         Person ada = Person.builder().id(2L).age(26).name("Ada").build();
         var persons = new Person[]{ada};
         people.delete(persons);
 
-        Mockito.verify(template).delete(Person.class, 2L);
-        Mockito.verifyNoMoreInteractions(template);
+        Mockito.verify(template).delete(Person.class);
+        Mockito.verify(condition).in(List.of(2L));
+        Mockito.verify(where).execute();
     }
 
     @Test
@@ -192,7 +209,7 @@ class CustomRepositoryHandlerTest {
         Person result = people.save(person);
 
         Mockito.verify(template).insert(person);
-        Mockito.verify(template).find(Person.class, 0L);
+        Mockito.verify(template).exists(Person.class, 0L);
         Assertions.assertThat(result).isEqualTo(person);
     }
 
@@ -205,7 +222,7 @@ class CustomRepositoryHandlerTest {
         List<Person> result = people.save(persons);
 
         Mockito.verify(template).insert(ada);
-        Mockito.verify(template).find(Person.class, 0L);
+        Mockito.verify(template).exists(Person.class, 0L);
         Assertions.assertThat(result).isEqualTo(persons);
     }
 
@@ -218,7 +235,7 @@ class CustomRepositoryHandlerTest {
         Person[] result = people.save(persons);
 
         Mockito.verify(template).insert(ada);
-        Mockito.verify(template).find(Person.class, 0L);
+        Mockito.verify(template).exists(Person.class, 0L);
         Assertions.assertThat(result).isEqualTo(persons);
     }
 
@@ -254,6 +271,25 @@ class CustomRepositoryHandlerTest {
         });
     }
 
+    @Test
+    void shouldExecuteFindByAgeManyTimes() {
+        Mockito.when(template.select(Mockito.any(SelectQuery.class)))
+                .thenReturn(Stream.of(Person.builder().age(26).name("Ada").build()))
+                .thenReturn(Stream.of(Person.builder().age(27).name("Poliana").build()));
+
+        var first = people.findByAge(26);
+        var second = people.findByAge(27);
+
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        Mockito.verify(template, Mockito.times(2)).select(captor.capture());
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(first).extracting(Person::getName).containsExactly("Ada");
+            soft.assertThat(second).extracting(Person::getName).containsExactly("Poliana");
+            soft.assertThat(captor.getAllValues()).extracting(q -> q.condition().orElseThrow().element().get())
+                    .containsExactly(26, 27);
+        });
+    }
+
     @Test
     void shouldExecuteFindById() {
 
@@ -399,6 +435,18 @@ class CustomRepositoryHandlerTest {
         Assertions.assertThat(query).isEqualTo("delete from Person where name = :name");
     }
 
+    @Test
+    void shouldExecuteUpdateQueryWithoutReadingTheEntities(){
+        var preparedStatement = Mockito.mock(org.eclipse.jnosql.mapping.semistructured.PreparedStatement.class);
+        Mockito.when(template.prepare(Mockito.anyString())).thenReturn(preparedStatement);
+
+        people.updateName("Ada");
+
+        Mockito.verify(preparedStatement).bind("name", "Ada");
+        Mockito.verify(preparedStatement).bulkUpdate();
+        Mockito.verify(preparedStatement, Mockito.never()).result();
+    }
+
     @Test
     void shouldExecuteFixedQuery() {
 
@@ -492,4 +540,24 @@ class CustomRepositoryHandlerTest {
         Assertions.assertThatThrownBy(() ->people.updateReturnInt())
                 .isInstanceOf(UnsupportedOperationException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldResolveTheDependentCustomRepositoryOnEachCall() {
+        CustomRepositoryHandler handler = CustomRepositoryHandler.builder()
+                .entitiesMetadata(entitiesMetadata)
+                .template(template)
+                .customRepositoryType(Statistics.class)
+                .converters(converters).build();
+        var statistics = (Statistics) Proxy.newProxyInstance(Statistics.class.getClassLoader(),
+                new Class[]{Statistics.class}, handler);
+        int disposed = PersonStatisticRepositoryProducer.disposed();
+
+        statistics.statistics("Salvador");
+        statistics.statistics("Salvador");
+
+        Assertions.assertThat(PersonStatisticRepositoryProducer.disposed()).isEqualTo(disposed + 2);
+    }
+
+    interface Statistics extends PersonStatisticRepository {
+    }
+}
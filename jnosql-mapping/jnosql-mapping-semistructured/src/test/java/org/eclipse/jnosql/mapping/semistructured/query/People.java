@@ -94,6 +94,9 @@ public interface People {
     @Query("delete from Person where name = :name")
     void deleteByName(@Param("name") String name);
 
+    @Query("update Person set name = :name")
+    void updateName(@Param("name") String name);
+
     default String defaultMethod() {
         return "default";
     }
@@ -27,6 +27,7 @@ import jakarta.data.Sort;
 import jakarta.data.repository.Save;
 import jakarta.data.repository.Update;
 import jakarta.inject.Inject;
+import jakarta.nosql.QueryMapper;
 import org.eclipse.jnosql.mapping.PreparedStatement;
 import org.assertj.core.api.SoftAssertions;
 import org.eclipse.jnosql.communication.Condition;
@@ -38,11 +39,13 @@ import org.eclipse.jnosql.communication.semistructured.Element;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 import org.eclipse.jnosql.mapping.NoSQLRepository;
 import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.config.MappingConfigurations;
 import org.eclipse.jnosql.mapping.semistructured.EntityConverter;
 import org.eclipse.jnosql.mapping.semistructured.SemiStructuredTemplate;
 import org.eclipse.jnosql.mapping.semistructured.MockProducer;
 import org.eclipse.jnosql.mapping.semistructured.entities.Person;
 import org.eclipse.jnosql.mapping.semistructured.entities.PersonStatisticRepository;
+import org.eclipse.jnosql.mapping.semistructured.entities.PersonStatisticRepositoryProducer;
 import org.eclipse.jnosql.mapping.semistructured.entities.Vendor;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.reflection.Reflections;
@@ -123,7 +126,7 @@ class RepositoryProxyTest {
 
     @Test
     void shouldSaveUsingInsertWhenDataDoesNotExist() {
-        when(template.find(Person.class, 10L)).thenReturn(Optional.empty());
+        when(template.exists(Person.class, 10L)).thenReturn(false);
 
         ArgumentCaptor<Person> captor = ArgumentCaptor.forClass(Person.class);
         Person person = Person.builder().name("Ada")
@@ -140,7 +143,7 @@ class RepositoryProxyTest {
     @Test
     void shouldSaveUsingUpdateWhenDataExists() {
 
-        when(template.find(Person.class, 10L)).thenReturn(Optional.of(Person.builder().build()));
+        when(template.exists(Person.class, 10L)).thenReturn(true);
 
         ArgumentCaptor<Person> captor = ArgumentCaptor.forClass(Person.class);
         Person person = Person.builder().name("Ada")
@@ -277,14 +280,17 @@ class RepositoryProxyTest {
 
     @Test
     void shouldFindByIds() {
-        when(template.find(Mockito.eq(Person.class), Mockito.any(Long.class)))
-                .thenReturn(Optional.of(Person.builder().build()));
+        Person ada = Person.builder().id(1L).name("Ada").build();
+        QueryMapper.MapperFrom from = mock(QueryMapper.MapperFrom.class);
+        QueryMapper.MapperNameCondition condition = mock(QueryMapper.MapperNameCondition.class);
+        QueryMapper.MapperWhere where = mock(QueryMapper.MapperWhere.class);
+        when(template.select(Person.class)).thenReturn(from);
+        when(from.where("id")).thenReturn(condition);
+        when(condition.in(asList(1L, 2L, 3L))).thenReturn(where);
+        when(where.stream()).thenReturn(Stream.of(ada));
 
-        personRepository.findByIdIn(singletonList(10L)).toList();
-        verify(template).find(Person.class, 10L);
-
-        personRepository.findByIdIn(asList(1L, 2L, 3L)).toList();
-        verify(template, times(4)).find(Mockito.eq(Person.class), Mockito.any(Long.class));
+        assertThat(personRepository.findByIdIn(asList(1L, 2L, 3L)).toList()).containsExactly(ada);
+        verify(template, never()).find(Mockito.eq(Person.class), Mockito.any(Long.class));
     }
 
     @Test
@@ -296,20 +302,49 @@ class RepositoryProxyTest {
 
     @Test
     void shouldDeleteByIds() {
-        ArgumentCaptor<DeleteQuery> captor = ArgumentCaptor.forClass(DeleteQuery.class);
+        QueryMapper.MapperDeleteFrom from = mock(QueryMapper.MapperDeleteFrom.class);
+        QueryMapper.MapperDeleteNameCondition condition = mock(QueryMapper.MapperDeleteNameCondition.class);
+        QueryMapper.MapperDeleteWhere where = mock(QueryMapper.MapperDeleteWhere.class);
+        when(template.delete(Person.class)).thenReturn(from);
+        when(from.where("id")).thenReturn(condition);
+        when(condition.in(singletonList(10L))).thenReturn(where);
+
         personRepository.deleteByIdIn(singletonList(10L));
-        verify(template).delete(Person.class, 10L);
+        verify(where).execute();
+        verify(template, never()).delete(Mockito.eq(Person.class), Mockito.any(Long.class));
     }
 
 
+    @Test
+    void shouldSaveAllInBatch() {
+        System.setProperty(MappingConfigurations.REPOSITORY_SAVE_BATCH.get(), "true");
+        try {
+            Person ada = Person.builder().id(1L).name("Ada").build();
+            Person poliana = Person.builder().id(2L).name("Poliana").build();
+            Person otavio = Person.builder().id(3L).name("Otavio").build();
+            when(template.existingIds(Person.class, List.of(1L, 2L, 3L))).thenReturn(Set.of(2L));
+            when(template.insert(List.of(ada, otavio))).thenReturn(List.of(ada, otavio));
+            when(template.update(List.of(poliana))).thenReturn(List.of(poliana));
+
+            List<Person> result = personRepository.saveAll(List.of(ada, poliana, otavio));
+
+            assertThat(result).containsExactly(ada, poliana, otavio);
+            verify(template).insert(List.of(ada, otavio));
+            verify(template).update(List.of(poliana));
+            verify(template, never()).exists(Mockito.eq(Person.class), Mockito.any());
+        } finally {
+            System.clearProperty(MappingConfigurations.REPOSITORY_SAVE_BATCH.get());
+        }
+    }
+
     @Test
     void shouldContainsById() {
-        when(template.find(Person.class, 10L)).thenReturn(Optional.of(Person.builder().build()));
+        when(template.exists(Person.class, 10L)).thenReturn(true);
 
         assertTrue(personRepository.existsById(10L));
-        Mockito.verify(template).find(Person.class, 10L);
+        Mockito.verify(template).exists(Person.class, 10L);
 
-        when(template.find(Person.class, 10L)).thenReturn(Optional.empty());
+        when(template.exists(Person.class, 10L)).thenReturn(false);
         assertFalse(personRepository.existsById(10L));
 
     }
@@ -348,8 +383,36 @@ class RepositoryProxyTest {
     @Test
     void shouldDeleteEntities(){
         Person person = Person.builder().id(1L).age(20).name("Ada").build();
+        QueryMapper.MapperDeleteFrom from = mock(QueryMapper.MapperDeleteFrom.class);
+        QueryMapper.MapperDeleteNameCondition condition = mock(QueryMapper.MapperDeleteNameCondition.class);
+        QueryMapper.MapperDeleteWhere where = mock(QueryMapper.MapperDeleteWhere.class);
+        when(template.delete(Person.class)).thenReturn(from);
+        when(from.where("id")).thenReturn(condition);
+        when(condition.in(List.of(1L))).thenReturn(where);
+
         personRepository.deleteAll(List.of(person));
-        verify(template).delete(Person.class, 1L);
+        verify(where).execute();
+    }
+
+    @Test
+    void shouldDeleteByIdsInBatches() {
+        System.setProperty(MappingConfigurations.BATCH_SIZE.get(), "2");
+        try {
+            QueryMapper.MapperDeleteFrom from = mock(QueryMapper.MapperDeleteFrom.class);
+            QueryMapper.MapperDeleteNameCondition condition = mock(QueryMapper.MapperDeleteNameCondition.class);
+            QueryMapper.MapperDeleteWhere where = mock(QueryMapper.MapperDeleteWhere.class);
+            when(template.delete(Person.class)).thenReturn(from);
+            when(from.where("id")).thenReturn(condition);
+            when(condition.in(any())).thenReturn(where);
+
+            personRepository.deleteByIdIn(asList(1L, 2L, 3L));
+
+            verify(condition).in(asList(1L, 2L));
+            verify(condition).in(List.of(3L));
+            verify(where, times(2)).execute();
+        } finally {
+            System.clearProperty(MappingConfigurations.BATCH_SIZE.get());
+        }
     }
 
     @Test
@@ -644,6 +707,15 @@ class RepositoryProxyTest {
         verify(statement).bind("id", "id");
     }
 
+    @Test
+    void shouldExecuteJNoSQLPrepareUpdateWithoutReadingTheEntities() {
+        var statement = Mockito.mock(org.eclipse.jnosql.mapping.semistructured.PreparedStatement.class);
+        when(template.prepare(Mockito.anyString(),Mockito.anyString() )).thenReturn(statement);
+        personRepository.update("name", "id");
+        verify(statement).bulkUpdate();
+        verify(statement, never()).result();
+    }
+
     @Test
     void shouldExecuteJNoSQLPrepareDelete() {
         PreparedStatement statement = Mockito.mock(org.eclipse.jnosql.mapping.semistructured.PreparedStatement.class);
@@ -855,6 +927,16 @@ class RepositoryProxyTest {
         });
     }
 
+    @Test
+    void shouldResolveTheDependentCustomRepositoryOnEachCall() {
+        int disposed = PersonStatisticRepositoryProducer.disposed();
+
+        personRepository.statistics("Salvador");
+        personRepository.statistics("Salvador");
+
+        assertThat(PersonStatisticRepositoryProducer.disposed()).isEqualTo(disposed + 2);
+    }
+
     @Test
     void shouldInsertUsingAnnotation(){
         Person person = Person.builder().name("Ada")